@@ -0,0 +1,93 @@
+package software.solid.fluttervlcplayer;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Streams the assets which cannot be opened as a file descriptor to libvlc, from a
+ * {@link LoopbackHttpServer}.
+ *
+ * <p>{@code AssetManager.openFd} only works for the assets stored uncompressed in the APK, while
+ * compressed assets and those of install-time asset packs can only be read as a stream. libvlc
+ * reads them from a local url instead, which is served straight from the asset stream: nothing is
+ * copied to disk, and range requests skip through the stream, reopening it for a backward seek.
+ *
+ * <p>The server is started by the first url requested and runs until {@link #stop}.
+ *
+ * <p>This class is thread-safe.
+ */
+final class AssetStreamServer extends LoopbackHttpServer {
+
+    @Nullable
+    private static AssetStreamServer instance;
+
+    private final AssetManager assets;
+
+    private AssetStreamServer(@NonNull Context context) throws IOException {
+        super("VLCAssetServer");
+        assets = context.getApplicationContext().getAssets();
+    }
+
+    /**
+     * Returns the local url streaming the asset at {@code assetPath}, starting the server if
+     * needed.
+     */
+    @NonNull
+    static synchronized String urlFor(@NonNull Context context, @NonNull String assetPath) throws IOException {
+        if (instance == null) {
+            instance = new AssetStreamServer(context);
+        }
+        return instance.localUrlFor(assetPath);
+    }
+
+    /**
+     * Stops the server, a later url starts a new one.
+     */
+    static synchronized void stop() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    @Override
+    boolean respond(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer
+    ) throws IOException {
+        final InputStream input;
+        try {
+            input = assets.open(decode(request.path), AssetManager.ACCESS_STREAMING);
+        } catch (IOException e) {
+            writeHeaders(channel, NOT_FOUND, buffer);
+            return true;
+        }
+
+        // a failure past the headers closes the connection
+        try (InputStream ignored = input) {
+            // the remaining length of an asset stream is its uncompressed size
+            final long length = input.available();
+            if (request.rangeStart >= length && length > 0) {
+                writeHeaders(channel, rangeNotSatisfiable(length), buffer);
+                return true;
+            }
+
+            writeHeaders(channel, responseHeaders(request, length, "application/octet-stream"), buffer);
+            if (!request.isHead) {
+                skipFully(input, request.rangeStart);
+                copy(Channels.newChannel(input), channel, lastByte(request, length) - request.rangeStart + 1, buffer);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * A messenger registering the handlers of a set of channels on a background task queue, every
+ * other handler running on the platform thread as usual.
+ *
+ * <p>The generated {@link Messages.VlcPlayerApi#setup} has no notion of task queues, so it is
+ * given this messenger rather than the engine one. The background handlers share a single serial
+ * queue, so they run one at a time in the order their messages arrived. When the engine does not
+ * support task queues, every handler runs on the platform thread.
+ */
+final class BackgroundChannelMessenger implements BinaryMessenger {
+    private final BinaryMessenger messenger;
+    private final Set<String> backgroundChannels;
+    @Nullable
+    private final TaskQueue backgroundTaskQueue;
+
+    BackgroundChannelMessenger(@NonNull BinaryMessenger messenger, @NonNull Set<String> backgroundChannels) {
+        this.messenger = messenger;
+        this.backgroundChannels = backgroundChannels;
+        this.backgroundTaskQueue = makeTaskQueue(messenger);
+    }
+
+    @Nullable
+    private static TaskQueue makeTaskQueue(@NonNull BinaryMessenger messenger) {
+        try {
+            return messenger.makeBackgroundTaskQueue();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public TaskQueue makeBackgroundTaskQueue() {
+        return messenger.makeBackgroundTaskQueue();
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+        messenger.send(channel, message);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+        messenger.send(channel, message, callback);
+    }
+
+    @Override
+    public void setMessageHandler(@NonNull String channel, @Nullable BinaryMessageHandler handler) {
+        setMessageHandler(channel, handler, null);
+    }
+
+    @Override
+    public void setMessageHandler(
+            @NonNull String channel,
+            @Nullable BinaryMessageHandler handler,
+            @Nullable TaskQueue taskQueue
+    ) {
+        if (taskQueue == null && handler != null && backgroundChannels.contains(channel)) {
+            taskQueue = backgroundTaskQueue;
+        }
+        messenger.setMessageHandler(channel, handler, taskQueue);
+    }
+}
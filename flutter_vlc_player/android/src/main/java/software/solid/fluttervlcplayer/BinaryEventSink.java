@@ -0,0 +1,155 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * An implementation of {@link EventChannel.EventSink} which encodes media events into compact
+ * fixed-layout records before handing them to the underlying sink.
+ *
+ * <p>Every record starts with a type byte followed by the fields of that type, big-endian:
+ * <ul>
+ * <li>{@code opening, paused, stopped, mediaChanged, error}: no field.</li>
+ * <li>{@code playing}: width int, height int, speed float, duration long, audio tracks count int,
+ * active audio track int, spu tracks count int, active spu track int.</li>
+ * <li>{@code timeChanged}: the {@code playing} fields, then position long, buffer float, playing
+ * flag byte and anchor time long (microseconds).</li>
+ * <li>{@code ended}: position long.</li>
+ * <li>{@code recording}: recording flag byte, record path length int and UTF-8 bytes.</li>
+ * </ul>
+ * The matching decoder lives in the platform interface. Events without a record layout are
+ * forwarded as is.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
+ * externally.
+ */
+final class BinaryEventSink implements EventChannel.EventSink {
+
+    static final class Type {
+        static final byte OPENING = 0;
+        static final byte PAUSED = 1;
+        static final byte STOPPED = 2;
+        static final byte PLAYING = 3;
+        static final byte ENDED = 4;
+        static final byte TIME_CHANGED = 5;
+        static final byte MEDIA_CHANGED = 6;
+        static final byte RECORDING = 7;
+        static final byte ERROR = 8;
+
+        private Type() {
+        }
+    }
+
+    private static final int PLAYING_SIZE = 1 + 4 + 4 + 4 + 8 + 4 + 4 + 4 + 4;
+    private static final int TIME_CHANGED_SIZE = PLAYING_SIZE + 8 + 4 + 1 + 8;
+
+    private final EventChannel.EventSink delegate;
+    private final ByteBuffer buffer = ByteBuffer.allocate(TIME_CHANGED_SIZE);
+
+    BinaryEventSink(@NonNull EventChannel.EventSink delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void success(Object event) {
+        final byte[] record = event instanceof Map ? encode((Map<String, Object>) event) : null;
+        delegate.success(record != null ? record : event);
+    }
+
+    @Override
+    public void error(String code, String message, Object details) {
+        delegate.error(code, message, details);
+    }
+
+    @Override
+    public void endOfStream() {
+        delegate.endOfStream();
+    }
+
+    @Nullable
+    private byte[] encode(@NonNull Map<String, Object> event) {
+        final Object name = event.get("event");
+        if (name == null || Boolean.TRUE.equals(event.get("delta"))) {
+            return null;
+        }
+
+        switch (name.toString()) {
+            case "opening":
+                return new byte[]{Type.OPENING};
+            case "paused":
+                return new byte[]{Type.PAUSED};
+            case "stopped":
+                return new byte[]{Type.STOPPED};
+            case "mediaChanged":
+                return new byte[]{Type.MEDIA_CHANGED};
+            case "error":
+                return new byte[]{Type.ERROR};
+            case "playing":
+                buffer.clear();
+                buffer.put(Type.PLAYING);
+                putPlaybackState(event);
+                return copy();
+            case "timeChanged":
+                buffer.clear();
+                buffer.put(Type.TIME_CHANGED);
+                putPlaybackState(event);
+                buffer.putLong(longOf(event.get("position")));
+                buffer.putFloat(floatOf(event.get("buffer")));
+                buffer.put((byte) (Boolean.TRUE.equals(event.get("isPlaying")) ? 1 : 0));
+                buffer.putLong(longOf(event.get("anchorTime")));
+                return copy();
+            case "ended":
+                buffer.clear();
+                buffer.put(Type.ENDED);
+                buffer.putLong(longOf(event.get("position")));
+                return copy();
+            case "recording":
+                final Object recordPath = event.get("recordPath");
+                final byte[] path = recordPath == null ?
+                        new byte[0] :
+                        recordPath.toString().getBytes(StandardCharsets.UTF_8);
+                return ByteBuffer.allocate(1 + 1 + 4 + path.length)
+                        .put(Type.RECORDING)
+                        .put((byte) (Boolean.TRUE.equals(event.get("isRecording")) ? 1 : 0))
+                        .putInt(path.length)
+                        .put(path)
+                        .array();
+            default:
+                return null;
+        }
+    }
+
+    private void putPlaybackState(@NonNull Map<String, Object> event) {
+        buffer.putInt((int) longOf(event.get("width")));
+        buffer.putInt((int) longOf(event.get("height")));
+        buffer.putFloat(floatOf(event.get("speed")));
+        buffer.putLong(longOf(event.get("duration")));
+        buffer.putInt((int) longOf(event.get("audioTracksCount")));
+        buffer.putInt((int) longOf(event.get("activeAudioTrack")));
+        buffer.putInt((int) longOf(event.get("spuTracksCount")));
+        buffer.putInt((int) longOf(event.get("activeSpuTrack")));
+    }
+
+    @NonNull
+    private byte[] copy() {
+        final byte[] record = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(record);
+        return record;
+    }
+
+    private static long longOf(@Nullable Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+
+    private static float floatOf(@Nullable Object value) {
+        return value instanceof Number ? ((Number) value).floatValue() : 0f;
+    }
+}
@@ -0,0 +1,96 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * An implementation of {@link EventChannel.EventSink} which sends time change events as deltas.
+ *
+ * <p>It keeps the last state sent downstream and replaces every {@code timeChanged} event by a
+ * map holding only the entries which changed, flagged with {@code "delta": true}. A full event
+ * (keyframe) is sent every {@code keyframeInterval} events, for the first event and whenever
+ * {@link #requestKeyframe()} is called. Every other event is forwarded as is.
+ *
+ * <p>The {@code anchorTime} of a position anchor differs in every event, it is not compared but
+ * sent along with the position it timestamps.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
+ * externally.
+ */
+final class DeltaEventSink implements EventChannel.EventSink {
+    private static final String EVENT_KEY = "event";
+    private static final String DELTA_KEY = "delta";
+    private static final String TIME_CHANGED = "timeChanged";
+    private static final String POSITION_KEY = "position";
+    private static final String ANCHOR_TIME_KEY = "anchorTime";
+    private static final int DEFAULT_KEYFRAME_INTERVAL = 30;
+
+    private final EventChannel.EventSink delegate;
+    private final int keyframeInterval;
+    private final Map<String, Object> lastState = new HashMap<>();
+    private int eventsSinceKeyframe = 0;
+    private boolean keyframeRequested = true;
+
+    DeltaEventSink(@NonNull EventChannel.EventSink delegate, long keyframeInterval) {
+        this.delegate = delegate;
+        this.keyframeInterval = keyframeInterval > 0 ? (int) keyframeInterval : DEFAULT_KEYFRAME_INTERVAL;
+    }
+
+    /**
+     * Forces the next time change event to be sent in full.
+     */
+    void requestKeyframe() {
+        keyframeRequested = true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void success(Object event) {
+        if (!(event instanceof Map) || !TIME_CHANGED.equals(((Map<String, Object>) event).get(EVENT_KEY))) {
+            delegate.success(event);
+            return;
+        }
+
+        final Map<String, Object> state = (Map<String, Object>) event;
+        if (keyframeRequested || ++eventsSinceKeyframe >= keyframeInterval) {
+            keyframeRequested = false;
+            eventsSinceKeyframe = 0;
+            lastState.clear();
+            lastState.putAll(state);
+            delegate.success(state);
+            return;
+        }
+
+        final Map<String, Object> delta = new HashMap<>();
+        delta.put(EVENT_KEY, TIME_CHANGED);
+        delta.put(DELTA_KEY, true);
+        for (Map.Entry<String, Object> entry : state.entrySet()) {
+            if (ANCHOR_TIME_KEY.equals(entry.getKey())) {
+                continue;
+            }
+            final Object previous = lastState.put(entry.getKey(), entry.getValue());
+            if (!Objects.equals(previous, entry.getValue())) {
+                delta.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (delta.containsKey(POSITION_KEY) && state.containsKey(ANCHOR_TIME_KEY)) {
+            delta.put(ANCHOR_TIME_KEY, state.get(ANCHOR_TIME_KEY));
+        }
+        delegate.success(delta);
+    }
+
+    @Override
+    public void error(String code, String message, Object details) {
+        delegate.error(code, message, details);
+    }
+
+    @Override
+    public void endOfStream() {
+        delegate.endOfStream();
+    }
+}
@@ -0,0 +1,144 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.MediaPlayer;
+
+/**
+ * The media events a player sends to the Dart side.
+ *
+ * <p>Each bit is the index of the matching {@code VlcMediaEventType} on the Dart side. A mask is
+ * turned once into the set of libvlc event types the listener has to handle, so that every other
+ * libvlc event is discarded with a single bit test. Event types which keep the cached player state
+ * up to date are handled whenever an event reporting that state is subscribed.
+ */
+final class EventMask {
+    static final long OPENING = 1L;
+    static final long PLAYING = 1L << 1;
+    static final long PAUSED = 1L << 2;
+    static final long STOPPED = 1L << 3;
+    static final long BUFFERING = 1L << 4;
+    static final long RECORDING = 1L << 5;
+    static final long TIME_CHANGED = 1L << 6;
+    static final long MEDIA_CHANGED = 1L << 7;
+    static final long ENDED = 1L << 8;
+    static final long ERROR = 1L << 10;
+    static final long LENGTH_CHANGED = 1L << 11;
+    static final long ES_ADDED = 1L << 12;
+    static final long ES_DELETED = 1L << 13;
+    static final long ES_SELECTED = 1L << 14;
+    static final long SEEKABLE_CHANGED = 1L << 15;
+    static final long PAUSABLE_CHANGED = 1L << 16;
+    static final long POSITION_CHANGED = 1L << 17;
+    static final long SEEK_COMPLETED = 1L << 18;
+    // 19 is the disposed event, which is always sent
+    static final long ITEM_CHANGED = 1L << 20;
+
+    /**
+     * The events sent unless the Dart side sets a mask: the events sent before the mask existed,
+     * and those of features the app opts into otherwise.
+     */
+    static final long DEFAULT = OPENING | PLAYING | PAUSED | STOPPED | BUFFERING | RECORDING
+            | TIME_CHANGED | ENDED | ERROR | SEEK_COMPLETED | ITEM_CHANGED;
+
+    // libvlc media player event types are in [0x100, 0x120)
+    private static final int FIRST_EVENT_TYPE = 0x100;
+    private static final int EVENT_TYPE_COUNT = 0x20;
+
+    private EventMask() {
+    }
+
+    /**
+     * Returns whether {@code mask} subscribes to any of {@code events}.
+     */
+    static boolean has(long mask, long events) {
+        return (mask & events) != 0;
+    }
+
+    /**
+     * Returns the libvlc event types to handle for {@code mask}, one bit per type.
+     */
+    static int handledTypes(long mask) {
+        int types = 0;
+        if (has(mask, PLAYING | TIME_CHANGED | BUFFERING)) {
+            // the cached state is sent with these events
+            types |= bitOf(MediaPlayer.Event.MediaChanged)
+                    | bitOf(MediaPlayer.Event.Opening)
+                    | bitOf(MediaPlayer.Event.Playing)
+                    | bitOf(MediaPlayer.Event.Paused)
+                    | bitOf(MediaPlayer.Event.Stopped)
+                    | bitOf(MediaPlayer.Event.EndReached)
+                    | bitOf(MediaPlayer.Event.EncounteredError)
+                    | bitOf(MediaPlayer.Event.Vout)
+                    | bitOf(MediaPlayer.Event.LengthChanged)
+                    | bitOf(MediaPlayer.Event.ESAdded)
+                    | bitOf(MediaPlayer.Event.ESDeleted)
+                    | bitOf(MediaPlayer.Event.ESSelected);
+        }
+        if (has(mask, TIME_CHANGED | BUFFERING)) {
+            types |= bitOf(MediaPlayer.Event.TimeChanged) | bitOf(MediaPlayer.Event.Buffering);
+        }
+        if (has(mask, MEDIA_CHANGED)) {
+            types |= bitOf(MediaPlayer.Event.MediaChanged);
+        }
+        if (has(mask, OPENING)) {
+            types |= bitOf(MediaPlayer.Event.Opening);
+        }
+        if (has(mask, PAUSED)) {
+            types |= bitOf(MediaPlayer.Event.Paused);
+        }
+        if (has(mask, STOPPED)) {
+            types |= bitOf(MediaPlayer.Event.Stopped);
+        }
+        if (has(mask, ENDED)) {
+            types |= bitOf(MediaPlayer.Event.EndReached);
+        }
+        if (has(mask, ERROR)) {
+            types |= bitOf(MediaPlayer.Event.EncounteredError);
+        }
+        if (has(mask, RECORDING)) {
+            types |= bitOf(MediaPlayer.Event.RecordChanged);
+        }
+        if (has(mask, LENGTH_CHANGED)) {
+            types |= bitOf(MediaPlayer.Event.LengthChanged);
+        }
+        if (has(mask, ES_ADDED)) {
+            types |= bitOf(MediaPlayer.Event.ESAdded);
+        }
+        if (has(mask, ES_DELETED)) {
+            types |= bitOf(MediaPlayer.Event.ESDeleted);
+        }
+        if (has(mask, ES_SELECTED)) {
+            types |= bitOf(MediaPlayer.Event.ESSelected);
+        }
+        if (has(mask, SEEKABLE_CHANGED)) {
+            types |= bitOf(MediaPlayer.Event.SeekableChanged);
+        }
+        if (has(mask, PAUSABLE_CHANGED)) {
+            types |= bitOf(MediaPlayer.Event.PausableChanged);
+        }
+        if (has(mask, POSITION_CHANGED)) {
+            types |= bitOf(MediaPlayer.Event.PositionChanged);
+        }
+        if (has(mask, SEEK_COMPLETED)) {
+            // a seek completes on the next time change
+            types |= bitOf(MediaPlayer.Event.TimeChanged);
+        }
+        return types;
+    }
+
+    /**
+     * Returns whether the listener discards an event of {@code type} up front, before allocating
+     * anything. The end of a media is never discarded, the playlist moves on from it.
+     */
+    static boolean isIgnored(int handledTypes, int type) {
+        return !isHandled(handledTypes, type) && type != MediaPlayer.Event.EndReached;
+    }
+
+    static boolean isHandled(int handledTypes, int type) {
+        final int index = type - FIRST_EVENT_TYPE;
+        return index >= 0 && index < EVENT_TYPE_COUNT && (handledTypes & (1 << index)) != 0;
+    }
+
+    private static int bitOf(int type) {
+        return 1 << (type - FIRST_EVENT_TYPE);
+    }
+}
@@ -0,0 +1,158 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+import java.util.Objects;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Limits how often high-frequency media events (time changes and buffering updates) are sent to
+ * the Dart side.
+ *
+ * <p>Ticks are not built eagerly: the limiter only records that a tick is pending and asks the
+ * {@link TickSource} for the event once it is actually due, so superseded ticks never allocate
+ * nor cross the platform channel. State change events (playing, paused, ended, error...) are
+ * always delivered, right after any pending tick so the Dart side sees the latest position first.
+ *
+ * <p>All methods must be called on the main thread, which is where libvlc dispatches player
+ * events.
+ */
+final class EventRateLimiter {
+
+    static final class Mode {
+        /** Every tick is emitted, this is the legacy behaviour. */
+        static final int ALL = 0;
+        /** At most {@code maxRate} ticks per second, the latest one wins. */
+        static final int MAX_RATE = 1;
+        /** At most one tick per display frame. */
+        static final int FRAME_ALIGNED = 2;
+        /** A tick is emitted only when its content differs from the previous emitted tick. */
+        static final int ON_CHANGE = 3;
+
+        private Mode() {
+        }
+    }
+
+    interface TickSource {
+        @NonNull
+        Object buildTick();
+    }
+
+    private static final int DEFAULT_MAX_RATE = 10;
+
+    private final int mode;
+    private final long minIntervalMillis;
+    private final EventChannel.EventSink sink;
+    private final TickSource tickSource;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable flushRunnable = this::flushPendingTick;
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> {
+        frameCallbackScheduled = false;
+        flushPendingTick();
+    };
+    //
+    private boolean tickPending = false;
+    private boolean flushScheduled = false;
+    private boolean frameCallbackScheduled = false;
+    private long lastTickEmitMillis = 0;
+    private Object lastTick;
+    private boolean isDisposed = false;
+
+    EventRateLimiter(
+            long mode,
+            long maxRate,
+            @NonNull EventChannel.EventSink sink,
+            @NonNull TickSource tickSource
+    ) {
+        this.mode = (int) mode;
+        this.minIntervalMillis = 1000 / (maxRate > 0 ? maxRate : DEFAULT_MAX_RATE);
+        this.sink = sink;
+        this.tickSource = tickSource;
+    }
+
+    /**
+     * Signals that a new tick is available. Depending on the mode it is emitted immediately,
+     * deferred or dropped in favour of a later one.
+     */
+    void onTick() {
+        if (isDisposed) {
+            return;
+        }
+
+        switch (mode) {
+            case Mode.MAX_RATE:
+                tickPending = true;
+                final long elapsed = SystemClock.uptimeMillis() - lastTickEmitMillis;
+                if (elapsed >= minIntervalMillis) {
+                    flushPendingTick();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    mainHandler.postDelayed(flushRunnable, minIntervalMillis - elapsed);
+                }
+                break;
+            case Mode.FRAME_ALIGNED:
+                tickPending = true;
+                if (!frameCallbackScheduled) {
+                    frameCallbackScheduled = true;
+                    Choreographer.getInstance().postFrameCallback(frameCallback);
+                }
+                break;
+            case Mode.ON_CHANGE:
+                final Object tick = tickSource.buildTick();
+                if (!Objects.equals(tick, lastTick)) {
+                    lastTick = tick;
+                    sink.success(tick);
+                }
+                break;
+            case Mode.ALL:
+            default:
+                sink.success(tickSource.buildTick());
+                break;
+        }
+    }
+
+    /**
+     * Delivers a state change event. State changes are never rate limited.
+     */
+    void emit(@NonNull Object event) {
+        if (isDisposed) {
+            return;
+        }
+
+        flushPendingTick();
+        // the next tick must go through even if it equals the one before the state change
+        lastTick = null;
+        sink.success(event);
+    }
+
+    void dispose() {
+        isDisposed = true;
+        tickPending = false;
+        mainHandler.removeCallbacks(flushRunnable);
+        if (frameCallbackScheduled) {
+            Choreographer.getInstance().removeFrameCallback(frameCallback);
+            frameCallbackScheduled = false;
+        }
+    }
+
+    private void flushPendingTick() {
+        if (flushScheduled) {
+            mainHandler.removeCallbacks(flushRunnable);
+            flushScheduled = false;
+        }
+
+        if (!tickPending || isDisposed) {
+            return;
+        }
+
+        tickPending = false;
+        lastTickEmitMillis = SystemClock.uptimeMillis();
+        sink.success(tickSource.buildTick());
+    }
+}
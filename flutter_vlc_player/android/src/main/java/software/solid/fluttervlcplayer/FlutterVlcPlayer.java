@@ -14,6 +14,7 @@ import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Base64;
 import android.util.Log;
 import android.view.View;
@@ -27,13 +28,18 @@ import io.flutter.plugin.platform.PlatformView;
 import io.flutter.view.TextureRegistry;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 final class FlutterVlcPlayer implements PlatformView {
 
@@ -47,29 +53,93 @@ final class FlutterVlcPlayer implements PlatformView {
         }
     }
 
+    /**
+     * A media created and parsed ahead of the {@code setStreamUrl} call for the same url.
+     */
+    private static final class PreloadedMedia {
+        final String url;
+        final boolean isAssetUrl;
+        final long hwAcc;
+        final Media media;
+
+        PreloadedMedia(@NonNull String url, boolean isAssetUrl, long hwAcc, @NonNull Media media) {
+            this.url = url;
+            this.isAssetUrl = isAssetUrl;
+            this.hwAcc = hwAcc;
+            this.media = media;
+        }
+
+        boolean matches(@NonNull String url, boolean isAssetUrl, long hwAcc) {
+            return this.url.equals(url) && this.isAssetUrl == isAssetUrl && this.hwAcc == hwAcc;
+        }
+    }
+
     private static final String TAG = "FlutterVlcPlayer";
     private static final boolean DEBUG = BuildConfig.DEBUG;
     //
     private static final String VIDEO_EVENTS_CHANNEL = "flutter_video_plugin/getVideoEvents_";
     private static final String VIDEO_RENDER_CHANNEL = "flutter_video_plugin/getRendererEvents_";
+    // payloads without any value are immutable and shared by every player
+    private static final Map<String, Object> OPENING_EVENT = Collections.singletonMap("event", "opening");
+    private static final Map<String, Object> PAUSED_EVENT = Collections.singletonMap("event", "paused");
+    private static final Map<String, Object> STOPPED_EVENT = Collections.singletonMap("event", "stopped");
+    private static final Map<String, Object> ERROR_EVENT = Collections.singletonMap("event", "error");
+    private static final Map<String, Object> MEDIA_CHANGED_EVENT = Collections.singletonMap("event", "mediaChanged");
+    private static final Map<String, Object> DISPOSED_EVENT = Collections.singletonMap("event", "disposed");
+    // holds the 13 entries of a time change without rehashing
+    private static final int PLAYBACK_EVENT_CAPACITY = 32;
+    private static final long SNAPSHOT_TIMEOUT_MILLIS = 1000;
+    // a preload still parsing by then leaves the rest to the playback
+    private static final int PRELOAD_PARSE_TIMEOUT_MILLIS = 10000;
     //
     private final Context context;
-    private final Handler handler;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final PlayerCommandQueue commandQueue;
+    private final SeekPipeline seekPipeline;
     private final VLCTextureView textureView;
     private final TextureRegistry.SurfaceTextureEntry textureEntry;
     //
-    private final QueuingEventSink mediaEventSink = new QueuingEventSink();
+    private QueuingEventSink mediaEventSink = new QueuingEventSink();
+    private MainThreadEventSink mediaEventDelivery = new MainThreadEventSink(mediaEventSink);
     private final EventChannel mediaEventChannel;
+    private EventRateLimiter eventRateLimiter;
+    @Nullable
+    private DeltaEventSink deltaEventSink;
+    private boolean binaryEvents = false;
+    private long eventMask = EventMask.DEFAULT;
+    private int handledEventTypes = EventMask.handledTypes(EventMask.DEFAULT);
+    @Nullable
+    private PositionAnchor positionAnchor;
+    private float lastTickBuffering = 0f;
+    private final MediaPlayerState playerState = new MediaPlayerState();
+    private final PlayerStats playerStats = new PlayerStats();
     //
     private final QueuingEventSink rendererEventSink = new QueuingEventSink();
+    private final MainThreadEventSink rendererEventDelivery = new MainThreadEventSink(rendererEventSink);
     private final EventChannel rendererEventChannel;
     //
-    private LibVLC libVLC;
-    private MediaPlayer mediaPlayer;
+    // released on the player thread, read from the background task queue
+    private volatile LibVLC libVLC;
+    // released on the player thread, read from the background task queue
+    private volatile MediaPlayer mediaPlayer;
     private List<String> options;
-    private List<RendererDiscoverer> rendererDiscoverers = new ArrayList<>();
-    private List<RendererItem> rendererItems = new ArrayList<>();
-    private boolean isDisposed = false;
+    private List<String> libVlcOptions;
+    private final PlayerPool playerPool;
+    @Nullable
+    private Runnable onDisposedListener;
+    // released on the player thread
+    private List<RendererDiscoverer> rendererDiscoverers = new CopyOnWriteArrayList<>();
+    // updated by the discoverers, read from the background task queue
+    private List<RendererItem> rendererItems = new CopyOnWriteArrayList<>();
+    private volatile boolean isDisposed = false;
+    // used on the player thread only
+    @Nullable
+    private PreloadedMedia preloadedMedia;
+    // used on the player thread only
+    private final Playlist playlist = new Playlist();
+    // set on the player thread, fed by the event listener
+    @Nullable
+    private volatile NetworkCachingTuner.Session cachingSession;
 
 
     @Override
@@ -77,42 +147,96 @@ final class FlutterVlcPlayer implements PlatformView {
         return textureView;
     }
 
+    /**
+     * Tears the player down without blocking the platform thread.
+     *
+     * <p>The views are detached from the media player and the texture view disposed right away on
+     * the main thread, which owns them. The native objects are released on the player thread,
+     * right after the command running, in a fixed order: the playback is stopped, then the media
+     * player and the renderer discoverers are released before LibVLC, unless the
+     * {@link PlayerPool} keeps the media player and LibVLC warm for the next player. The texture
+     * and the event channels are released back on the main thread, last, and a {@code disposed}
+     * event is sent when done. A query in flight on another thread holds its own reference on the
+     * media player or LibVLC, and the last reference released frees the native object.
+     */
     @Override
     public void dispose() {
         if (isDisposed) {
             return;
         }
 
-        Map<String, Object> eventObject = new HashMap<>();
-        eventObject.put("event", "stopped");
-        mediaEventSink.success(eventObject);
-        mediaEventSink.setDelegate(null);
-        rendererEventSink.setDelegate(null);
+        isDisposed = true;
+        eventRateLimiter.dispose();
+        // a seek completion due on this thread must not reach the released player
+        seekPipeline.cancelCompletion();
+        mediaEventDelivery.success(STOPPED_EVENT);
 
+        // the views belong to this thread, they are gone before the player is stopped or pooled
+        if (mediaPlayer != null) {
+            mediaPlayer.getVLCVout().detachViews();
+        }
         textureView.dispose();
-        textureEntry.release();
-        mediaEventChannel.setStreamHandler(null);
-        rendererEventChannel.setStreamHandler(null);
 
-        if (mediaPlayer != null) {
-            handler.removeCallbacksAndMessages(null);
+        if (mediaPlayer == null) {
+            releaseLibVlc();
+            finishDispose();
+            return;
+        }
 
-            mediaPlayer.getVLCVout().detachViews();
+        // the pending commands are moot, the teardown runs next
+        commandQueue.clear();
+        runNonBlocking((mediaPlayer) -> {
+            seekPipeline.cancel();
+            releasePreloadedMedia();
+            playlist.clear();
+            finishCachingSession(mediaPlayer);
+            mediaPlayer.stop();
+            mediaPlayer.setEventListener(null);
+            FlutterVlcPlayer.this.mediaPlayer = null;
 
-            runNonBlocking((mediaPlayer) -> {
-                mediaPlayer.stop();
+            for (RendererDiscoverer rendererDiscoverer : rendererDiscoverers) {
+                rendererDiscoverer.stop();
+                rendererDiscoverer.setEventListener(null);
+                rendererDiscoverer.release();
+            }
+            rendererDiscoverers.clear();
+            rendererItems.clear();
+
+            // warm instances are kept for the next player, never with a view still attached
+            if (!mediaPlayer.getVLCVout().areViewsAttached() &&
+                    playerPool.offer(libVLC, mediaPlayer, libVlcOptions)) {
+                libVLC = null;
+            } else {
                 mediaPlayer.release();
-                handler.removeCallbacksAndMessages(null);
-                FlutterVlcPlayer.this.mediaPlayer = null;
-            });
-        }
+                releaseLibVlc();
+            }
+
+            mainHandler.post(this::finishDispose);
+        });
+    }
 
+    private void releaseLibVlc() {
+        final LibVLC libVLC = this.libVLC;
+        this.libVLC = null;
         if (libVLC != null) {
-            libVLC.release();
-            libVLC = null;
+            LibVlcCache.release(libVLC);
         }
+    }
 
-        isDisposed = true;
+    private void finishDispose() {
+        textureEntry.release();
+
+        mediaEventDelivery.success(DISPOSED_EVENT);
+        mediaEventDelivery.flush();
+        rendererEventDelivery.flush();
+        mediaEventSink.setDelegate(null);
+        rendererEventSink.setDelegate(null);
+        mediaEventChannel.setStreamHandler(null);
+        rendererEventChannel.setStreamHandler(null);
+
+        if (onDisposedListener != null) {
+            onDisposedListener.run();
+        }
     }
 
     // VLC Player
@@ -121,16 +245,31 @@ final class FlutterVlcPlayer implements PlatformView {
             @NonNull Context context,
             @Nullable Looper looper,
             @NonNull BinaryMessenger binaryMessenger,
-            @NonNull TextureRegistry textureRegistry
+            @NonNull TextureRegistry textureRegistry,
+            @NonNull PlayerPool playerPool
     ) {
         this.context = context;
-        handler = new Handler(looper == null ? Looper.getMainLooper() : looper);
+        this.playerPool = playerPool;
+        final Looper playerLooper = looper == null ? Looper.getMainLooper() : looper;
+        commandQueue = new PlayerCommandQueue(playerLooper);
+        seekPipeline = new SeekPipeline(playerLooper, this::onSeekCompleted);
+
+        eventRateLimiter = new EventRateLimiter(
+                EventRateLimiter.Mode.ALL,
+                0,
+                mediaEventDelivery,
+                this::buildTimeChangedEvent
+        );
 
         mediaEventChannel = new EventChannel(binaryMessenger, VIDEO_EVENTS_CHANNEL + viewId);
         mediaEventChannel.setStreamHandler(new EventChannel.StreamHandler() {
             @Override
             public void onListen(Object o, EventChannel.EventSink sink) {
-                mediaEventSink.setDelegate(sink);
+                // a new listener has no state to apply deltas on
+                if (deltaEventSink != null) {
+                    deltaEventSink.requestKeyframe();
+                }
+                mediaEventSink.setDelegate(binaryEvents ? new BinaryEventSink(sink) : sink);
             }
 
             @Override
@@ -159,10 +298,26 @@ final class FlutterVlcPlayer implements PlatformView {
         textureView.setFitsSystemWindows(true);
     }
 
+    /**
+     * Sets a callback run on the main thread once the player is disposed and its native objects
+     * are released.
+     */
+    void setOnDisposedListener(@Nullable Runnable listener) {
+        onDisposedListener = listener;
+    }
+
     void initialize(@NonNull List<String> options) {
         this.options = options;
-        libVLC = new LibVLC(context, options);
-        mediaPlayer = new MediaPlayer(libVLC);
+        final PlayerPool.Entry warmEntry = playerPool.acquire(options);
+        if (warmEntry != null) {
+            libVlcOptions = warmEntry.options;
+            libVLC = warmEntry.libVLC;
+            mediaPlayer = warmEntry.mediaPlayer;
+        } else {
+            libVlcOptions = options;
+            libVLC = LibVlcCache.acquire(context, options);
+            mediaPlayer = new MediaPlayer(libVLC);
+        }
         setupVlcMediaPlayer();
     }
 
@@ -176,120 +331,318 @@ final class FlutterVlcPlayer implements PlatformView {
         mediaPlayer.setVideoTrackEnabled(true);
         //
         mediaPlayer.setEventListener(event -> {
-            if (mediaPlayer == null) {
+            // unsubscribed events are discarded before anything else
+            if (EventMask.isIgnored(handledEventTypes, event.type) || mediaPlayer == null) {
                 return;
             }
 
-            Map<String, Object> eventObject = new HashMap<>();
-            //
-            // Current video track is only available when the media is playing
-            int height = 0;
-            int width = 0;
-            final Media.VideoTrack currentVideoTrack = mediaPlayer.getCurrentVideoTrack();
-
-            if (currentVideoTrack != null) {
-                height = currentVideoTrack.height;
-                width = currentVideoTrack.width;
-            }
+            final long startNanos = System.nanoTime();
+            playerStats.onEventReceived(event.type);
+            onMediaPlayerEvent(event);
+            playerStats.onListenerTime(System.nanoTime() - startNanos);
+        });
+    }
 
-            switch (event.type) {
-                case MediaPlayer.Event.Opening:
-                    eventObject.put("event", "opening");
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.Paused:
-                    eventObject.put("event", "paused");
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.Stopped:
-                    eventObject.put("event", "stopped");
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.Playing:
-                    eventObject.put("event", "playing");
-                    eventObject.put("height", height);
-                    eventObject.put("width", width);
-                    eventObject.put("speed", mediaPlayer.getRate());
-                    eventObject.put("duration", mediaPlayer.getLength());
-                    eventObject.put("audioTracksCount", mediaPlayer.getAudioTracksCount());
-                    eventObject.put("activeAudioTrack", mediaPlayer.getAudioTrack());
-                    eventObject.put("spuTracksCount", mediaPlayer.getSpuTracksCount());
-                    eventObject.put("activeSpuTrack", mediaPlayer.getSpuTrack());
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.Vout:
-                    //  mediaPlayer.getVLCVout().setWindowSize(textureView.getWidth(), textureView.getHeight());
-                    break;
-                case MediaPlayer.Event.EndReached:
-                    eventObject.put("event", "ended");
-                    eventObject.put("position", mediaPlayer.getTime());
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.Buffering:
-                case MediaPlayer.Event.TimeChanged:
-                    eventObject.put("event", "timeChanged");
-                    eventObject.put("height", height);
-                    eventObject.put("width", width);
-                    eventObject.put("speed", mediaPlayer.getRate());
-                    eventObject.put("position", mediaPlayer.getTime());
-                    eventObject.put("duration", mediaPlayer.getLength());
-                    eventObject.put("buffer", event.getBuffering());
-                    eventObject.put("audioTracksCount", mediaPlayer.getAudioTracksCount());
-                    eventObject.put("activeAudioTrack", mediaPlayer.getAudioTrack());
-                    eventObject.put("spuTracksCount", mediaPlayer.getSpuTracksCount());
-                    eventObject.put("activeSpuTrack", mediaPlayer.getSpuTrack());
-                    eventObject.put("isPlaying", mediaPlayer.isPlaying());
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.EncounteredError:
-                    //mediaEventSink.error("500", "Player State got an error.", null);
-                    eventObject.put("event", "error");
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.RecordChanged:
-                    eventObject.put("event", "recording");
-                    eventObject.put("isRecording", event.getRecording());
-                    eventObject.put("recordPath", event.getRecordPath());
-                    mediaEventSink.success(eventObject);
-                    break;
-                case MediaPlayer.Event.LengthChanged:
-                case MediaPlayer.Event.MediaChanged:
-                case MediaPlayer.Event.ESAdded:
-                case MediaPlayer.Event.ESDeleted:
-                case MediaPlayer.Event.ESSelected:
-                case MediaPlayer.Event.PausableChanged:
-                case MediaPlayer.Event.SeekableChanged:
-                case MediaPlayer.Event.PositionChanged:
-                default:
+    private void onMediaPlayerEvent(@NonNull MediaPlayer.Event event) {
+        // read once, the player thread may replace it meanwhile
+        final NetworkCachingTuner.Session session = cachingSession;
+        // only the events which are sent allocate a payload
+        switch (event.type) {
+            case MediaPlayer.Event.MediaChanged:
+                playerState.reset();
+                if (EventMask.has(eventMask, EventMask.MEDIA_CHANGED)) {
+                    eventRateLimiter.emit(MEDIA_CHANGED_EVENT);
+                }
+                break;
+            case MediaPlayer.Event.Opening:
+                playerState.isPlaying = false;
+                if (EventMask.has(eventMask, EventMask.OPENING)) {
+                    eventRateLimiter.emit(OPENING_EVENT);
+                }
+                reanchorPosition();
+                break;
+            case MediaPlayer.Event.Paused:
+                playerState.isPlaying = false;
+                if (session != null) {
+                    session.onPaused();
+                }
+                if (EventMask.has(eventMask, EventMask.PAUSED)) {
+                    eventRateLimiter.emit(PAUSED_EVENT);
+                }
+                reanchorPosition();
+                break;
+            case MediaPlayer.Event.Stopped:
+                playerState.isPlaying = false;
+                if (session != null) {
+                    session.onPaused();
+                }
+                if (EventMask.has(eventMask, EventMask.STOPPED)) {
+                    eventRateLimiter.emit(STOPPED_EVENT);
+                }
+                reanchorPosition();
+                break;
+            case MediaPlayer.Event.Playing:
+                playerState.isPlaying = true;
+                playerState.refresh(mediaPlayer);
+                if (session != null) {
+                    session.onPlaying();
+                }
+                if (EventMask.has(eventMask, EventMask.PLAYING)) {
+                    final Map<String, Object> playingEvent = new HashMap<>(PLAYBACK_EVENT_CAPACITY);
+                    playingEvent.put("event", "playing");
+                    putPlaybackState(playingEvent);
+                    eventRateLimiter.emit(playingEvent);
+                }
+                reanchorPosition();
+                break;
+            case MediaPlayer.Event.Vout:
+                //  mediaPlayer.getVLCVout().setWindowSize(textureView.getWidth(), textureView.getHeight());
+                playerState.refreshVideoSize(mediaPlayer);
+                break;
+            case MediaPlayer.Event.LengthChanged:
+                playerState.duration = event.getLengthChanged();
+                if (EventMask.has(eventMask, EventMask.LENGTH_CHANGED)) {
+                    final Map<String, Object> lengthEvent = new HashMap<>(4);
+                    lengthEvent.put("event", "lengthChanged");
+                    lengthEvent.put("duration", playerState.duration);
+                    eventRateLimiter.emit(lengthEvent);
+                }
+                break;
+            case MediaPlayer.Event.ESAdded:
+                playerState.refreshTracks(mediaPlayer);
+                if (EventMask.has(eventMask, EventMask.ES_ADDED)) {
+                    emitTrackEvent("esAdded", event);
+                }
+                break;
+            case MediaPlayer.Event.ESDeleted:
+                playerState.refreshTracks(mediaPlayer);
+                if (EventMask.has(eventMask, EventMask.ES_DELETED)) {
+                    emitTrackEvent("esDeleted", event);
+                }
+                break;
+            case MediaPlayer.Event.ESSelected:
+                playerState.refreshTracks(mediaPlayer);
+                if (EventMask.has(eventMask, EventMask.ES_SELECTED)) {
+                    emitTrackEvent("esSelected", event);
+                }
+                break;
+            case MediaPlayer.Event.EndReached:
+                playerState.isPlaying = false;
+                if (EventMask.has(eventMask, EventMask.ENDED)) {
+                    final Map<String, Object> endedEvent = new HashMap<>(4);
+                    endedEvent.put("event", "ended");
+                    endedEvent.put("position", mediaPlayer.getTime());
+                    eventRateLimiter.emit(endedEvent);
+                }
+                reanchorPosition();
+                finishCachingSession(mediaPlayer);
+                commandQueue.enqueue(PlayerCommandQueue.Kind.OTHER, this::playNextPlaylistItem);
+                break;
+            case MediaPlayer.Event.Buffering:
+            case MediaPlayer.Event.TimeChanged:
+                if (event.type == MediaPlayer.Event.TimeChanged) {
+                    seekPipeline.onTimeChanged(event.getTimeChanged());
+                } else {
+                    playerStats.onBuffering(event.getBuffering());
+                    if (session != null) {
+                        session.onBuffering(event.getBuffering());
+                    }
+                }
+                lastTickBuffering = event.getBuffering();
+                // time changes are also handled to complete seeks, ticks only go to subscribers
+                if (!EventMask.has(eventMask, EventMask.TIME_CHANGED | EventMask.BUFFERING)) {
                     break;
-            }
-        });
+                }
+                if (positionAnchor != null) {
+                    maybeAnchorPosition();
+                } else {
+                    // the tick itself is built lazily, only if the rate limiter lets it through
+                    eventRateLimiter.onTick();
+                }
+                break;
+            case MediaPlayer.Event.EncounteredError:
+                playerState.isPlaying = false;
+                finishCachingSession(mediaPlayer);
+                //mediaEventSink.error("500", "Player State got an error.", null);
+                if (EventMask.has(eventMask, EventMask.ERROR)) {
+                    eventRateLimiter.emit(ERROR_EVENT);
+                }
+                break;
+            case MediaPlayer.Event.RecordChanged:
+                final Map<String, Object> recordingEvent = new HashMap<>(4);
+                recordingEvent.put("event", "recording");
+                recordingEvent.put("isRecording", event.getRecording());
+                recordingEvent.put("recordPath", event.getRecordPath());
+                eventRateLimiter.emit(recordingEvent);
+                break;
+            case MediaPlayer.Event.SeekableChanged:
+                final Map<String, Object> seekableEvent = new HashMap<>(4);
+                seekableEvent.put("event", "seekableChanged");
+                seekableEvent.put("isSeekable", event.getSeekable());
+                eventRateLimiter.emit(seekableEvent);
+                break;
+            case MediaPlayer.Event.PausableChanged:
+                final Map<String, Object> pausableEvent = new HashMap<>(4);
+                pausableEvent.put("event", "pausableChanged");
+                pausableEvent.put("isPausable", event.getPausable());
+                eventRateLimiter.emit(pausableEvent);
+                break;
+            case MediaPlayer.Event.PositionChanged:
+                final Map<String, Object> positionEvent = new HashMap<>(4);
+                positionEvent.put("event", "positionChanged");
+                positionEvent.put("relativePosition", event.getPositionChanged());
+                eventRateLimiter.emit(positionEvent);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void onSeekCompleted(long target, long position, int mode) {
+        if (mediaPlayer == null || !EventMask.has(eventMask, EventMask.SEEK_COMPLETED)) {
+            return;
+        }
+
+        final Map<String, Object> seekEvent = new HashMap<>(8);
+        seekEvent.put("event", "seekCompleted");
+        seekEvent.put("position", position);
+        seekEvent.put("seekTarget", target);
+        seekEvent.put("seekMode", mode);
+        eventRateLimiter.emit(seekEvent);
+        reanchorPosition();
+    }
+
+    private void emitTrackEvent(@NonNull String name, @NonNull MediaPlayer.Event event) {
+        final Map<String, Object> trackEvent = new HashMap<>(4);
+        trackEvent.put("event", name);
+        trackEvent.put("trackType", event.getEsChangedType());
+        trackEvent.put("trackId", event.getEsChangedID());
+        eventRateLimiter.emit(trackEvent);
+    }
+
+    /**
+     * Sends the position again once the state changed, the Dart side extrapolates it from there.
+     */
+    private void reanchorPosition() {
+        if (positionAnchor != null) {
+            positionAnchor.invalidate();
+            maybeAnchorPosition();
+        }
+    }
+
+    private void maybeAnchorPosition() {
+        if (positionAnchor == null
+                || mediaPlayer == null
+                || !EventMask.has(eventMask, EventMask.TIME_CHANGED | EventMask.BUFFERING)) {
+            return;
+        }
+
+        final long position = mediaPlayer.getTime();
+        final long now = SystemClock.uptimeMillis();
+        if (positionAnchor.needsAnchor(position, playerState.rate, playerState.isPlaying, lastTickBuffering, now)) {
+            positionAnchor.set(position, playerState.rate, playerState.isPlaying, lastTickBuffering, now);
+            eventRateLimiter.emit(buildTimeChangedEvent(position));
+        }
+    }
+
+    @NonNull
+    private Map<String, Object> buildTimeChangedEvent() {
+        return buildTimeChangedEvent(mediaPlayer == null ? 0L : mediaPlayer.getTime());
+    }
+
+    @NonNull
+    private Map<String, Object> buildTimeChangedEvent(long position) {
+        final Map<String, Object> eventObject = new HashMap<>(PLAYBACK_EVENT_CAPACITY);
+        eventObject.put("event", "timeChanged");
+        putPlaybackState(eventObject);
+        eventObject.put("position", position);
+        if (positionAnchor != null) {
+            // CLOCK_MONOTONIC, the clock of the Dart timeline, so the position can be extrapolated
+            eventObject.put("anchorTime", System.nanoTime() / 1000);
+        }
+        eventObject.put("buffer", lastTickBuffering);
+        eventObject.put("isPlaying", playerState.isPlaying);
+        return eventObject;
+    }
+
+    private void putPlaybackState(@NonNull Map<String, Object> eventObject) {
+        eventObject.put("height", playerState.height);
+        eventObject.put("width", playerState.width);
+        eventObject.put("speed", playerState.rate);
+        eventObject.put("duration", playerState.duration);
+        eventObject.put("audioTracksCount", playerState.audioTracksCount);
+        eventObject.put("activeAudioTrack", playerState.activeAudioTrack);
+        eventObject.put("spuTracksCount", playerState.spuTracksCount);
+        eventObject.put("activeSpuTrack", playerState.activeSpuTrack);
+    }
+
+    void setEventOptions(
+            long rateMode,
+            long maxRate,
+            boolean deltaEvents,
+            long keyframeInterval,
+            long queueCapacity,
+            long overflowPolicy,
+            boolean binaryEvents,
+            boolean positionAnchors
+    ) {
+        this.binaryEvents = binaryEvents;
+        positionAnchor = positionAnchors ? new PositionAnchor() : null;
+        mediaEventSink = new QueuingEventSink((int) queueCapacity, (int) overflowPolicy);
+        mediaEventDelivery = new MainThreadEventSink(mediaEventSink);
+        // binary records always carry the full state, deltas would not make them any smaller
+        deltaEventSink = deltaEvents && !binaryEvents ? new DeltaEventSink(mediaEventDelivery, keyframeInterval) : null;
+        eventRateLimiter.dispose();
+        eventRateLimiter = new EventRateLimiter(
+                rateMode,
+                maxRate,
+                deltaEventSink != null ? deltaEventSink : mediaEventDelivery,
+                this::buildTimeChangedEvent
+        );
+    }
+
+    /**
+     * Sets the media events sent to the Dart side, see {@link EventMask}.
+     */
+    void setEventMask(long mask) {
+        eventMask = mask;
+        handledEventTypes = EventMask.handledTypes(mask);
     }
 
     void play() {
-        runNonBlocking(MediaPlayer::play);
+        runNonBlocking(PlayerCommandQueue.Kind.PLAYBACK, mediaPlayer -> {
+            if (!mediaPlayer.isPlaying()) {
+                mediaPlayer.play();
+            }
+        });
     }
 
     void pause() {
-        runNonBlocking(MediaPlayer::pause);
+        runNonBlocking(PlayerCommandQueue.Kind.PLAYBACK, mediaPlayer -> {
+            if (mediaPlayer.isPlaying()) {
+                mediaPlayer.pause();
+            }
+        });
     }
 
     void stop() {
-        runNonBlocking(MediaPlayer::stop);
+        runNonBlocking(PlayerCommandQueue.Kind.PLAYBACK, MediaPlayer::stop);
     }
 
     boolean isPlaying() {
-        return mediaPlayer != null && mediaPlayer.isPlaying();
+        return queryMediaPlayer(MediaPlayer::isPlaying, false);
     }
 
     boolean isSeekable() {
-        return mediaPlayer != null && mediaPlayer.isSeekable();
+        return queryMediaPlayer(MediaPlayer::isSeekable, false);
     }
 
     void setStreamUrl(@NonNull String url, boolean isAssetUrl, boolean autoPlay, long hwAcc) {
         if (mediaPlayer != null && !isDisposed) {
-            handler.removeCallbacksAndMessages(null);
-            handler.post(() -> setStreamUrlAsync(url, isAssetUrl, autoPlay, hwAcc));
+            commandQueue.enqueue(
+                    PlayerCommandQueue.Kind.MEDIA,
+                    () -> setStreamUrlAsync(url, isAssetUrl, autoPlay, hwAcc)
+            );
         }
     }
 
@@ -298,36 +651,30 @@ final class FlutterVlcPlayer implements PlatformView {
             return;
         }
 
+        // a media set outside of the playlist ends it
+        playlist.setCurrentIndex(-1);
+        openMedia(url, isAssetUrl, autoPlay, hwAcc);
+    }
+
+    private void openMedia(@NonNull String url, boolean isAssetUrl, boolean autoPlay, long hwAcc) {
+        playerStats.onMediaOpened();
         try {
+            seekPipeline.cancel();
+            finishCachingSession(mediaPlayer);
             mediaPlayer.stop();
 
-            final Media media = isAssetUrl ?
-                    new Media(libVLC, context.getAssets().openFd(url)) :
-                    new Media(libVLC, Uri.parse(url));
-
-            switch ((int) hwAcc) {
-                case HwAcc.DISABLED:
-                    media.setHWDecoderEnabled(false, false);
-                    break;
-                case HwAcc.DECODING:
-                case HwAcc.FULL:
-                    media.setHWDecoderEnabled(true, true);
-                    break;
-            }
-
-            if (hwAcc == HwAcc.DECODING) {
-                media.addOption(":no-mediacodec-dr");
-                media.addOption(":no-omxil-dr");
-            }
-
-            if (options != null) {
-                for (String option : options) {
-                    media.addOption(option);
-                }
+            final Media media;
+            if (preloadedMedia != null && preloadedMedia.matches(url, isAssetUrl, hwAcc)) {
+                media = preloadedMedia.media;
+                preloadedMedia = null;
+            } else {
+                releasePreloadedMedia();
+                media = createMedia(url, isAssetUrl, hwAcc);
             }
 
             mediaPlayer.setMedia(media);
             media.release();
+            cachingSession = isAssetUrl ? null : NetworkCachingTuner.newSession(url, options);
 
             if (autoPlay) {
                 mediaPlayer.play();
@@ -335,213 +682,382 @@ final class FlutterVlcPlayer implements PlatformView {
 
         } catch (IOException e) {
             log(e.getMessage());
+            if (EventMask.has(eventMask, EventMask.ERROR)) {
+                // the media is opened on the player thread, the rate limiter is confined to the main one
+                mainHandler.post(() -> eventRateLimiter.emit(ERROR_EVENT));
+            }
+        }
+    }
+
+    /**
+     * Prepares the media of a following {@link #setStreamUrl} with the same url, replacing any
+     * previous one.
+     *
+     * <p>The media is parsed in the background by libvlc: its input is opened and probed, which
+     * resolves the host, warms the connection path and reads the tracks, so that switching to it
+     * only opens the input again rather than discovering it from scratch.
+     */
+    void preload(@NonNull String url, boolean isAssetUrl, long hwAcc) {
+        if (mediaPlayer != null && !isDisposed) {
+            commandQueue.enqueue(
+                    PlayerCommandQueue.Kind.OTHER,
+                    () -> preloadAsync(url, isAssetUrl, hwAcc)
+            );
+        }
+    }
+
+    private void preloadAsync(@NonNull String url, boolean isAssetUrl, long hwAcc) {
+        if (mediaPlayer == null || isDisposed) {
+            return;
+        }
+        if (preloadedMedia != null && preloadedMedia.matches(url, isAssetUrl, hwAcc)) {
+            return;
+        }
+
+        releasePreloadedMedia();
+        try {
+            final Media media = createMedia(url, isAssetUrl, hwAcc);
+            media.parseAsync(IMedia.Parse.ParseNetwork, PRELOAD_PARSE_TIMEOUT_MILLIS);
+            preloadedMedia = new PreloadedMedia(url, isAssetUrl, hwAcc, media);
+        } catch (IOException e) {
+            log(e.getMessage());
+        }
+    }
+
+    void appendPlaylistItem(@NonNull String url, boolean isAssetUrl, long hwAcc) {
+        final Playlist.Item item = new Playlist.Item(url, isAssetUrl, hwAcc);
+        runNonBlocking(mediaPlayer -> {
+            playlist.append(item);
+            prefetchNextPlaylistItem();
+        });
+    }
+
+    void insertPlaylistItem(int index, @NonNull String url, boolean isAssetUrl, long hwAcc) {
+        final Playlist.Item item = new Playlist.Item(url, isAssetUrl, hwAcc);
+        runNonBlocking(mediaPlayer -> {
+            playlist.insert(index, item);
+            prefetchNextPlaylistItem();
+        });
+    }
+
+    void removePlaylistItem(int index) {
+        runNonBlocking(mediaPlayer -> {
+            if (playlist.remove(index)) {
+                prefetchNextPlaylistItem();
+            }
+        });
+    }
+
+    void clearPlaylist() {
+        runNonBlocking(mediaPlayer -> playlist.clear());
+    }
+
+    /**
+     * Plays the playlist item at {@code index}, then the following ones.
+     */
+    void playPlaylistItem(int index) {
+        runNonBlocking(PlayerCommandQueue.Kind.MEDIA, mediaPlayer -> playPlaylistItemAsync(index));
+    }
+
+    private void playNextPlaylistItem() {
+        if (mediaPlayer == null || isDisposed) {
+            return;
+        }
+
+        final int nextIndex = playlist.getNextIndex();
+        if (nextIndex >= 0) {
+            playPlaylistItemAsync(nextIndex);
+        }
+    }
+
+    private void playPlaylistItemAsync(int index) {
+        final Playlist.Item item = playlist.get(index);
+        if (item == null || isDisposed) {
+            return;
+        }
+
+        // the next item was prefetched while this one played, opening it only reopens its input
+        playlist.setCurrentIndex(index);
+        openMedia(item.url, item.isAssetUrl, true, item.hwAcc);
+
+        if (EventMask.has(eventMask, EventMask.ITEM_CHANGED)) {
+            final Map<String, Object> itemChangedEvent = new HashMap<>(4);
+            itemChangedEvent.put("event", "itemChanged");
+            itemChangedEvent.put("index", index);
+            // the rate limiter is confined to the main thread, this runs on the player thread
+            mainHandler.post(() -> eventRateLimiter.emit(itemChangedEvent));
+        }
+        prefetchNextPlaylistItem();
+    }
+
+    private void prefetchNextPlaylistItem() {
+        final Playlist.Item next = playlist.get(playlist.getNextIndex());
+        if (next != null) {
+            preloadAsync(next.url, next.isAssetUrl, next.hwAcc);
+        }
+    }
+
+    private void releasePreloadedMedia() {
+        if (preloadedMedia != null) {
+            preloadedMedia.media.release();
+            preloadedMedia = null;
+        }
+    }
+
+    @NonNull
+    private Media createMedia(@NonNull String url, boolean isAssetUrl, long hwAcc) throws IOException {
+        final Media media = isAssetUrl ? createAssetMedia(url) : new Media(libVLC, Uri.parse(url));
+
+        switch ((int) hwAcc) {
+            case HwAcc.DISABLED:
+                media.setHWDecoderEnabled(false, false);
+                break;
+            case HwAcc.DECODING:
+            case HwAcc.FULL:
+                media.setHWDecoderEnabled(true, true);
+                break;
+        }
+
+        if (hwAcc == HwAcc.DECODING) {
+            media.addOption(":no-mediacodec-dr");
+            media.addOption(":no-omxil-dr");
+        }
+
+        if (options != null) {
+            for (String option : options) {
+                media.addOption(option);
+            }
+        }
+
+        // the caching tuned for the host by the previous playbacks overrides the one of the options
+        final int cachingMillis = isAssetUrl ? -1 : NetworkCachingTuner.cachingMillisFor(url, options);
+        if (cachingMillis > 0) {
+            media.addOption(":network-caching=" + cachingMillis);
+            media.addOption(":live-caching=" + cachingMillis);
+        }
+        return media;
+    }
+
+    /**
+     * Reports the playback of the current media to the {@link NetworkCachingTuner}, if it is
+     * tuned, along with its input statistics.
+     */
+    private void finishCachingSession(@NonNull MediaPlayer mediaPlayer) {
+        final NetworkCachingTuner.Session session = cachingSession;
+        cachingSession = null;
+        if (session == null) {
+            return;
+        }
+
+        final IMedia media = mediaPlayer.getMedia();
+        session.finish(media != null ? media.getStats() : null);
+        if (media != null) {
+            media.release();
+        }
+    }
+
+    @NonNull
+    private Media createAssetMedia(@NonNull String assetPath) throws IOException {
+        try {
+            return new Media(libVLC, context.getAssets().openFd(assetPath));
+        } catch (FileNotFoundException e) {
+            // compressed or packed assets can only be read as a stream, never copied to disk
+            return new Media(libVLC, Uri.parse(AssetStreamServer.urlFor(context, assetPath)));
         }
     }
 
     void setLooping(boolean value) {
-        if (mediaPlayer != null) {
+        runNonBlocking(mediaPlayer -> {
             final IMedia media = mediaPlayer.getMedia();
             if (media != null) {
                 media.addOption(value ? "--loop" : "--no-loop");
+                media.release();
             }
-        }
+        });
     }
 
     void setVolume(long value) {
-        if (mediaPlayer != null) {
-            long bracketedValue = Math.max(0, Math.min(100, value));
-            mediaPlayer.setVolume((int) bracketedValue);
-        }
+        long bracketedValue = Math.max(0, Math.min(100, value));
+        runNonBlocking(mediaPlayer -> mediaPlayer.setVolume((int) bracketedValue));
     }
 
     int getVolume() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getVolume();
+        return queryMediaPlayer(MediaPlayer::getVolume, -1);
     }
 
     void setPlaybackSpeed(double value) {
-        if (mediaPlayer != null) {
+        runNonBlocking(mediaPlayer -> {
             mediaPlayer.setRate((float) value);
-        }
+            // the state is read with the player events, on the main thread
+            final float rate = mediaPlayer.getRate();
+            mainHandler.post(() -> playerState.rate = rate);
+        });
     }
 
     float getPlaybackSpeed() {
-        return mediaPlayer == null ? -1.0f : mediaPlayer.getRate();
+        return queryMediaPlayer(MediaPlayer::getRate, -1.0f);
     }
 
-    void seekTo(int location) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setTime(location);
-        }
+    /**
+     * Seeks on the player thread, see {@link SeekPipeline} for the modes. Only the latest seek
+     * waiting on the player thread runs.
+     */
+    void seekTo(long location, int mode) {
+        runNonBlocking(
+                PlayerCommandQueue.Kind.SEEK,
+                mediaPlayer -> {
+                    final NetworkCachingTuner.Session session = cachingSession;
+                    if (session != null) {
+                        session.onSeek();
+                    }
+                    seekPipeline.seek(mediaPlayer, location, mode);
+                }
+        );
     }
 
     long getPosition() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getTime();
+        return queryMediaPlayer(MediaPlayer::getTime, -1L);
     }
 
     long getDuration() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getLength();
+        return queryMediaPlayer(MediaPlayer::getLength, -1L);
     }
 
     int getSpuTracksCount() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getSpuTracksCount();
+        return queryMediaPlayer(MediaPlayer::getSpuTracksCount, -1);
     }
 
     @NonNull
     Map<Integer, String> getSpuTracks() {
-        if (mediaPlayer != null) {
-            MediaPlayer.TrackDescription[] spuTracks = mediaPlayer.getSpuTracks();
+        final MediaPlayer.TrackDescription[] spuTracks = queryMediaPlayer(MediaPlayer::getSpuTracks, null);
 
-            if (spuTracks != null) {
-                Map<Integer, String> subtitles = new HashMap<>();
+        if (spuTracks != null) {
+            Map<Integer, String> subtitles = new HashMap<>();
 
-                for (MediaPlayer.TrackDescription trackDescription : spuTracks) {
-                    if (trackDescription.id >= 0) {
-                        subtitles.put(trackDescription.id, trackDescription.name);
-                    }
+            for (MediaPlayer.TrackDescription trackDescription : spuTracks) {
+                if (trackDescription.id >= 0) {
+                    subtitles.put(trackDescription.id, trackDescription.name);
                 }
-
-                return subtitles;
             }
 
+            return subtitles;
         }
 
         return Collections.emptyMap();
     }
 
     void setSpuTrack(int index) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setSpuTrack(index);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setSpuTrack(index));
     }
 
     int getSpuTrack() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getSpuTrack();
+        return queryMediaPlayer(MediaPlayer::getSpuTrack, -1);
     }
 
     void setSpuDelay(long delay) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setSpuDelay(delay);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setSpuDelay(delay));
     }
 
     long getSpuDelay() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getSpuDelay();
+        return queryMediaPlayer(MediaPlayer::getSpuDelay, -1L);
     }
 
     void addSubtitleTrack(String url, boolean isSelected) {
-        if (mediaPlayer != null) {
-            mediaPlayer.addSlave(Media.Slave.Type.Subtitle, Uri.parse(url), isSelected);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.addSlave(Media.Slave.Type.Subtitle, Uri.parse(url), isSelected));
     }
 
     int getAudioTracksCount() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getAudioTracksCount();
+        return queryMediaPlayer(MediaPlayer::getAudioTracksCount, -1);
     }
 
     @NonNull
     Map<Integer, String> getAudioTracks() {
-        if (mediaPlayer != null) {
-            MediaPlayer.TrackDescription[] audioTracks = mediaPlayer.getAudioTracks();
+        final MediaPlayer.TrackDescription[] audioTracks = queryMediaPlayer(MediaPlayer::getAudioTracks, null);
 
-            if (audioTracks != null) {
-                Map<Integer, String> audios = new HashMap<>();
+        if (audioTracks != null) {
+            Map<Integer, String> audios = new HashMap<>();
 
-                for (MediaPlayer.TrackDescription trackDescription : audioTracks) {
-                    if (trackDescription.id >= 0) {
-                        audios.put(trackDescription.id, trackDescription.name);
-                    }
+            for (MediaPlayer.TrackDescription trackDescription : audioTracks) {
+                if (trackDescription.id >= 0) {
+                    audios.put(trackDescription.id, trackDescription.name);
                 }
-
-                return audios;
             }
+
+            return audios;
         }
 
         return Collections.emptyMap();
     }
 
     void setAudioTrack(int index) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setAudioTrack(index);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setAudioTrack(index));
     }
 
     int getAudioTrack() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getAudioTrack();
+        return queryMediaPlayer(MediaPlayer::getAudioTrack, -1);
     }
 
     void setAudioDelay(long delay) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setAudioDelay(delay);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setAudioDelay(delay));
     }
 
     long getAudioDelay() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getAudioDelay();
+        return queryMediaPlayer(MediaPlayer::getAudioDelay, -1L);
     }
 
     void addAudioTrack(String url, boolean isSelected) {
-        if (mediaPlayer != null) {
-            mediaPlayer.addSlave(Media.Slave.Type.Audio, Uri.parse(url), isSelected);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.addSlave(Media.Slave.Type.Audio, Uri.parse(url), isSelected));
     }
 
     int getVideoTracksCount() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getVideoTracksCount();
+        return queryMediaPlayer(MediaPlayer::getVideoTracksCount, -1);
     }
 
     @NonNull
     Map<Integer, String> getVideoTracks() {
-        if (mediaPlayer != null) {
-            MediaPlayer.TrackDescription[] videoTracks = mediaPlayer.getVideoTracks();
-            if (videoTracks != null) {
-                Map<Integer, String> videos = new HashMap<>();
+        final MediaPlayer.TrackDescription[] videoTracks = queryMediaPlayer(MediaPlayer::getVideoTracks, null);
+        if (videoTracks != null) {
+            Map<Integer, String> videos = new HashMap<>();
 
-                for (MediaPlayer.TrackDescription trackDescription : videoTracks) {
-                    if (trackDescription.id >= 0) {
-                        videos.put(trackDescription.id, trackDescription.name);
-                    }
+            for (MediaPlayer.TrackDescription trackDescription : videoTracks) {
+                if (trackDescription.id >= 0) {
+                    videos.put(trackDescription.id, trackDescription.name);
                 }
-
-                return videos;
             }
+
+            return videos;
         }
 
         return Collections.emptyMap();
     }
 
     void setVideoTrack(int index) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setVideoTrack(index);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setVideoTrack(index));
     }
 
     int getVideoTrack() {
-        return mediaPlayer == null ? -1 : mediaPlayer.getVideoTrack();
+        return queryMediaPlayer(MediaPlayer::getVideoTrack, -1);
     }
 
     void setVideoScale(float scale) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setScale(scale);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setScale(scale));
     }
 
     float getVideoScale() {
-        return mediaPlayer == null ? -1.0f : mediaPlayer.getScale();
+        return queryMediaPlayer(MediaPlayer::getScale, -1.0f);
     }
 
     void setVideoAspectRatio(String aspectRatio) {
-        if (mediaPlayer != null) {
-            mediaPlayer.setAspectRatio(aspectRatio);
-        }
+        runNonBlocking(mediaPlayer -> mediaPlayer.setAspectRatio(aspectRatio));
     }
 
     @NonNull
     String getVideoAspectRatio() {
-        return mediaPlayer == null ? "" : mediaPlayer.getAspectRatio();
+        return queryMediaPlayer(MediaPlayer::getAspectRatio, "");
     }
 
     void startRendererScanning(String rendererService) {
-        if (libVLC == null) {
+        if (libVLC == null || isDisposed) {
             return;
         }
 
@@ -549,8 +1065,8 @@ final class FlutterVlcPlayer implements PlatformView {
         //  android -> chromecast -> "microdns"
         //  ios -> chromecast -> "Bonjour_renderer"
         //
-        rendererDiscoverers = new ArrayList<>();
-        rendererItems = new ArrayList<>();
+        rendererDiscoverers = new CopyOnWriteArrayList<>();
+        rendererItems = new CopyOnWriteArrayList<>();
         //
         //todo: check for duplicates
         RendererDiscoverer.Description[] renderers = RendererDiscoverer.list(libVLC);
@@ -566,14 +1082,14 @@ final class FlutterVlcPlayer implements PlatformView {
                             eventObject.put("event", "attached");
                             eventObject.put("id", item.name);
                             eventObject.put("name", item.displayName);
-                            rendererEventSink.success(eventObject);
+                            rendererEventDelivery.success(eventObject);
                             break;
                         case RendererDiscoverer.Event.ItemDeleted:
                             rendererItems.remove(item);
                             eventObject.put("event", "detached");
                             eventObject.put("id", item.name);
                             eventObject.put("name", item.displayName);
-                            rendererEventSink.success(eventObject);
+                            rendererEventDelivery.success(eventObject);
                             break;
                         default:
                             break;
@@ -609,15 +1125,21 @@ final class FlutterVlcPlayer implements PlatformView {
 
     @NonNull
     List<String> getAvailableRendererServices() {
-        if (libVLC != null) {
-            RendererDiscoverer.Description[] renderers = RendererDiscoverer.list(libVLC);
-            List<String> availableRendererServices = new ArrayList<>();
+        // holds a reference so that a concurrent teardown cannot free LibVLC meanwhile
+        final LibVLC libVLC = this.libVLC;
+        if (libVLC != null && libVLC.retain()) {
+            try {
+                RendererDiscoverer.Description[] renderers = RendererDiscoverer.list(libVLC);
+                List<String> availableRendererServices = new ArrayList<>();
 
-            for (RendererDiscoverer.Description renderer : renderers) {
-                availableRendererServices.add(renderer.name);
-            }
+                for (RendererDiscoverer.Description renderer : renderers) {
+                    availableRendererServices.add(renderer.name);
+                }
 
-            return availableRendererServices;
+                return availableRendererServices;
+            } finally {
+                libVLC.release();
+            }
         }
 
         return Collections.emptyList();
@@ -663,10 +1185,14 @@ final class FlutterVlcPlayer implements PlatformView {
         mediaPlayer.play();
     }
 
+    /**
+     * Returns the current frame as a base64 JPEG. The frame is copied on the main thread, which
+     * owns the texture view, and encoded on the calling thread.
+     */
     @NonNull
     String getSnapshot() {
         if (textureView != null) {
-            Bitmap bitmap = textureView.getBitmap();
+            Bitmap bitmap = captureFrame();
             if (bitmap != null) {
                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
                 bitmap.compress(Bitmap.CompressFormat.JPEG, 100, outputStream);
@@ -677,17 +1203,55 @@ final class FlutterVlcPlayer implements PlatformView {
         return "";
     }
 
+    @Nullable
+    private Bitmap captureFrame() {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            return textureView.getBitmap();
+        }
+
+        final FutureTask<Bitmap> capture = new FutureTask<>(textureView::getBitmap);
+        mainHandler.post(capture);
+        try {
+            return capture.get(SNAPSHOT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            capture.cancel(false);
+            log(e.getMessage());
+            return null;
+        }
+    }
+
     boolean startRecording(String directory) {
-        return mediaPlayer.record(directory);
+        return queryMediaPlayer(mediaPlayer -> mediaPlayer.record(directory), false);
     }
 
     boolean stopRecording() {
-        return mediaPlayer.record(null);
+        return queryMediaPlayer(mediaPlayer -> mediaPlayer.record(null), false);
+    }
+
+    /**
+     * Runs {@code query} on the media player, holding a reference on it so that a concurrent
+     * teardown cannot free it meanwhile. Returns {@code fallback} once the player is released.
+     */
+    private <T> T queryMediaPlayer(@NonNull Function<MediaPlayer, T> query, T fallback) {
+        final MediaPlayer mediaPlayer = this.mediaPlayer;
+        if (mediaPlayer == null || !mediaPlayer.retain()) {
+            return fallback;
+        }
+
+        try {
+            return query.apply(mediaPlayer);
+        } finally {
+            mediaPlayer.release();
+        }
     }
 
     private void runNonBlocking(final @NonNull Consumer<MediaPlayer> consumer) {
+        runNonBlocking(PlayerCommandQueue.Kind.OTHER, consumer);
+    }
+
+    private void runNonBlocking(int kind, final @NonNull Consumer<MediaPlayer> consumer) {
         if (mediaPlayer != null) {
-            handler.post(() -> {
+            commandQueue.enqueue(kind, () -> {
                 if (mediaPlayer != null) {
                     consumer.accept(mediaPlayer);
                 }
@@ -695,6 +1259,30 @@ final class FlutterVlcPlayer implements PlatformView {
         }
     }
 
+    @NonNull
+    PlayerStats getPlayerStats() {
+        return playerStats;
+    }
+
+    @NonNull
+    QueuingEventSink getMediaEventSink() {
+        return mediaEventSink;
+    }
+
+    /**
+     * Returns the number of commands of this player waiting on the player thread.
+     */
+    int getPendingTaskCount() {
+        return commandQueue.size();
+    }
+
+    /**
+     * Returns the number of commands superseded by a later command of the same kind.
+     */
+    long getSupersededCommandCount() {
+        return commandQueue.getSupersededCount();
+    }
+
     private void log(String message) {
         if (DEBUG) {
             Log.d(TAG, message);
@@ -2,12 +2,17 @@ package software.solid.fluttervlcplayer;
 
 import android.content.Context;
 import android.os.Looper;
-import android.util.LongSparseArray;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import io.flutter.plugin.common.BinaryMessenger;
@@ -22,16 +27,58 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         }
     }
 
-    private final LongSparseArray<FlutterVlcPlayer> vlcPlayers = new LongSparseArray<>();
+    private static final String CHANNEL_PREFIX = "dev.flutter.pigeon.VlcPlayerApi.";
+    // queries which may block on libvlc locks, encode images or parse media run off the platform
+    // thread, where their view may be disposed meanwhile. Commands stay on it and are queued on
+    // the player thread, in order with playback control
+    private static final Set<String> BACKGROUND_CHANNELS = new HashSet<>(Arrays.asList(
+            CHANNEL_PREFIX + "takeSnapshot",
+            CHANNEL_PREFIX + "getSpuTracksCount",
+            CHANNEL_PREFIX + "getSpuTracks",
+            CHANNEL_PREFIX + "getSpuTrack",
+            CHANNEL_PREFIX + "getSpuDelay",
+            CHANNEL_PREFIX + "getAudioTracksCount",
+            CHANNEL_PREFIX + "getAudioTracks",
+            CHANNEL_PREFIX + "getAudioTrack",
+            CHANNEL_PREFIX + "getAudioDelay",
+            CHANNEL_PREFIX + "getVideoTracksCount",
+            CHANNEL_PREFIX + "getVideoTracks",
+            CHANNEL_PREFIX + "getVideoTrack",
+            CHANNEL_PREFIX + "getAvailableRendererServices",
+            CHANNEL_PREFIX + "getRendererDevices",
+            CHANNEL_PREFIX + "parseMedia"
+    ));
+
+    // read from the platform thread and the background task queue
+    private final Map<Long, FlutterVlcPlayer> vlcPlayers = new ConcurrentHashMap<>();
+    private final Context applicationContext;
     private FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset;
     private FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName;
+    @Nullable
+    private MediaParser mediaParser;
+
+    FlutterVlcPlayerBuilder(
+            @NonNull Context applicationContext,
+            @NonNull FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset,
+            @NonNull FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName
+    ) {
+        this.applicationContext = applicationContext;
+        this.keyForAsset = keyForAsset;
+        this.keyForAssetAndPackageName = keyForAssetAndPackageName;
+    }
 
     void startListening(@NonNull BinaryMessenger messenger) {
-        Messages.VlcPlayerApi.setup(messenger, this);
+        Messages.VlcPlayerApi.setup(new BackgroundChannelMessenger(messenger, BACKGROUND_CHANNELS), this);
     }
 
     void stopListening(@NonNull BinaryMessenger messenger) {
         Messages.VlcPlayerApi.setup(messenger, null);
+        synchronized (this) {
+            if (mediaParser != null) {
+                mediaParser.release();
+                mediaParser = null;
+            }
+        }
     }
 
     @NonNull
@@ -41,6 +88,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
             @NonNull Looper looper,
             @NonNull BinaryMessenger binaryMessenger,
             @NonNull TextureRegistry textureRegistry,
+            @NonNull PlayerPool playerPool,
             @NonNull FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset,
             @NonNull FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName
     ) {
@@ -52,15 +100,16 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
                 context,
                 looper,
                 binaryMessenger,
-                textureRegistry
+                textureRegistry,
+                playerPool
         );
-        vlcPlayers.append(viewId, vlcPlayer);
+        vlcPlayers.put((long) viewId, vlcPlayer);
         return vlcPlayer;
     }
 
     private void disposeAllPlayers() {
-        for (int i = 0; i < vlcPlayers.size(); i++) {
-            vlcPlayers.valueAt(i).dispose();
+        for (FlutterVlcPlayer player : vlcPlayers.values()) {
+            player.dispose();
         }
 
         vlcPlayers.clear();
@@ -81,6 +130,17 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
 
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         player.initialize(options);
+        player.setEventOptions(
+                arg.getEventRateMode() != null ? arg.getEventRateMode() : EventRateLimiter.Mode.ALL,
+                arg.getMaxEventRate() != null ? arg.getMaxEventRate() : 0,
+                arg.getDeltaEvents() != null && arg.getDeltaEvents(),
+                arg.getKeyframeInterval() != null ? arg.getKeyframeInterval() : 0,
+                arg.getEventQueueCapacity() != null ? arg.getEventQueueCapacity() : QueuingEventSink.DEFAULT_CAPACITY,
+                arg.getEventOverflowPolicy() != null ? arg.getEventOverflowPolicy() : QueuingEventSink.OverflowPolicy.COALESCE,
+                arg.getBinaryEvents() != null && arg.getBinaryEvents(),
+                arg.getPositionAnchors() != null && arg.getPositionAnchors()
+        );
+        player.setEventMask(arg.getEventMask() != null ? arg.getEventMask() : EventMask.DEFAULT);
         setupStreamUrl(
                 player,
                 arg.getUri(),
@@ -152,7 +212,10 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     @Override
     public void seekTo(Messages.PositionMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
-        player.seekTo(arg.getPosition().intValue());
+        player.seekTo(
+                arg.getPosition(),
+                arg.getSeekMode() != null ? arg.getSeekMode().intValue() : SeekPipeline.Mode.PRECISE
+        );
     }
 
     @Override
@@ -203,7 +266,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.SnapshotMessage takeSnapshot(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.SnapshotMessage message = new Messages.SnapshotMessage();
-        message.setSnapshot(player.getSnapshot());
+        message.setSnapshot(player != null ? player.getSnapshot() : "");
         return message;
     }
 
@@ -211,7 +274,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.TrackCountMessage getSpuTracksCount(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.TrackCountMessage message = new Messages.TrackCountMessage();
-        message.setCount((long) player.getSpuTracksCount());
+        message.setCount(player != null ? (long) player.getSpuTracksCount() : -1L);
         return message;
     }
 
@@ -219,7 +282,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.SpuTracksMessage getSpuTracks(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.SpuTracksMessage message = new Messages.SpuTracksMessage();
-        message.setSubtitles(player.getSpuTracks());
+        message.setSubtitles(player != null ? player.getSpuTracks() : Collections.emptyMap());
         return message;
     }
 
@@ -233,7 +296,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.SpuTrackMessage getSpuTrack(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.SpuTrackMessage message = new Messages.SpuTrackMessage();
-        message.setSpuTrackNumber((long) player.getSpuTrack());
+        message.setSpuTrackNumber(player != null ? (long) player.getSpuTrack() : -1L);
         return message;
     }
 
@@ -247,7 +310,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.DelayMessage getSpuDelay(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.DelayMessage message = new Messages.DelayMessage();
-        message.setDelay(player.getSpuDelay());
+        message.setDelay(player != null ? player.getSpuDelay() : -1L);
         return message;
     }
 
@@ -261,7 +324,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.TrackCountMessage getAudioTracksCount(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.TrackCountMessage message = new Messages.TrackCountMessage();
-        message.setCount((long) player.getAudioTracksCount());
+        message.setCount(player != null ? (long) player.getAudioTracksCount() : -1L);
         return message;
     }
 
@@ -269,7 +332,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.AudioTracksMessage getAudioTracks(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.AudioTracksMessage message = new Messages.AudioTracksMessage();
-        message.setAudios(player.getAudioTracks());
+        message.setAudios(player != null ? player.getAudioTracks() : Collections.emptyMap());
         return message;
     }
 
@@ -283,7 +346,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.AudioTrackMessage getAudioTrack(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.AudioTrackMessage message = new Messages.AudioTrackMessage();
-        message.setAudioTrackNumber((long) player.getAudioTrack());
+        message.setAudioTrackNumber(player != null ? (long) player.getAudioTrack() : -1L);
         return message;
     }
 
@@ -297,7 +360,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.DelayMessage getAudioDelay(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.DelayMessage message = new Messages.DelayMessage();
-        message.setDelay(player.getAudioDelay());
+        message.setDelay(player != null ? player.getAudioDelay() : -1L);
         return message;
     }
 
@@ -311,7 +374,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.TrackCountMessage getVideoTracksCount(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.TrackCountMessage message = new Messages.TrackCountMessage();
-        message.setCount((long) player.getVideoTracksCount());
+        message.setCount(player != null ? (long) player.getVideoTracksCount() : -1L);
         return message;
     }
 
@@ -319,7 +382,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.VideoTracksMessage getVideoTracks(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.VideoTracksMessage message = new Messages.VideoTracksMessage();
-        message.setVideos(player.getVideoTracks());
+        message.setVideos(player != null ? player.getVideoTracks() : Collections.emptyMap());
         return message;
     }
 
@@ -333,7 +396,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.VideoTrackMessage getVideoTrack(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.VideoTrackMessage message = new Messages.VideoTrackMessage();
-        message.setVideoTrackNumber((long) player.getVideoTrack());
+        message.setVideoTrackNumber(player != null ? (long) player.getVideoTrack() : -1L);
         return null;
     }
 
@@ -369,7 +432,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.RendererServicesMessage getAvailableRendererServices(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.RendererServicesMessage message = new Messages.RendererServicesMessage();
-        message.setServices(player.getAvailableRendererServices());
+        message.setServices(player != null ? player.getAvailableRendererServices() : Collections.emptyList());
         return message;
     }
 
@@ -389,7 +452,7 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     public Messages.RendererDevicesMessage getRendererDevices(Messages.ViewMessage arg) {
         FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
         Messages.RendererDevicesMessage message = new Messages.RendererDevicesMessage();
-        message.setRendererDevices(player.getRendererDevices());
+        message.setRendererDevices(player != null ? player.getRendererDevices() : Collections.emptyMap());
         return message;
     }
 
@@ -417,6 +480,135 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         return message;
     }
 
+    @Override
+    public Messages.PlayerStatsMessage getPlayerStats(Messages.ViewMessage arg) {
+        FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
+        PlayerStats stats = player.getPlayerStats();
+        QueuingEventSink eventSink = player.getMediaEventSink();
+        Messages.PlayerStatsMessage message = new Messages.PlayerStatsMessage();
+        message.setViewId(arg.getViewId());
+        message.setEventsReceived(stats.getEventsReceived());
+        message.setEventsEmitted(eventSink.getEmittedCount());
+        message.setEventsDropped(eventSink.getDroppedCount());
+        message.setEventsCoalesced(eventSink.getCoalescedCount());
+        message.setQueueHighWaterMark((long) eventSink.getHighWaterMark());
+        message.setHandlerBacklog((long) player.getPendingTaskCount());
+        message.setCommandsSuperseded(player.getSupersededCommandCount());
+        message.setListenerAverageMicros(stats.getListenerAverageMicros());
+        message.setListenerP99Micros(stats.getListenerPercentileMicros(99));
+        message.setStartupMillis(stats.getStartupMillis());
+        message.setRebufferCount(stats.getRebufferCount());
+        return message;
+    }
+
+    @Override
+    public Messages.MediaCacheStatsMessage getMediaCacheStats() {
+        MediaDiskCache.Stats stats = MediaCacheProxy.getStats();
+        Messages.MediaCacheStatsMessage message = new Messages.MediaCacheStatsMessage();
+        message.setEnabled(stats != null);
+        if (stats != null) {
+            message.setHits(stats.hits);
+            message.setMisses(stats.misses);
+            message.setBytesFromCache(stats.bytesFromCache);
+            message.setBytesFromNetwork(stats.bytesFromNetwork);
+            message.setEvictions(stats.evictions);
+            message.setSizeBytes(stats.sizeBytes);
+        }
+        return message;
+    }
+
+    @Override
+    public void setEventMask(Messages.EventMaskMessage arg) {
+        FlutterVlcPlayer player = vlcPlayers.get(arg.getViewId());
+        player.setEventMask(arg.getMask());
+    }
+
+    @Override
+    public void preload(Messages.PreloadMessage arg) {
+        final boolean isAssetUrl = arg.getType() == DataSourceType.ASSET;
+        vlcPlayers.get(arg.getViewId()).preload(
+                resolveMediaUrl(arg.getUri(), arg.getPackageName(), arg.getType()),
+                isAssetUrl,
+                arg.getHwAcc()
+        );
+    }
+
+    @Override
+    public void appendPlaylistItem(Messages.PlaylistItemMessage arg) {
+        vlcPlayers.get(arg.getViewId()).appendPlaylistItem(
+                resolveMediaUrl(arg.getUri(), arg.getPackageName(), arg.getType()),
+                arg.getType() == DataSourceType.ASSET,
+                arg.getHwAcc()
+        );
+    }
+
+    @Override
+    public void insertPlaylistItem(Messages.PlaylistItemMessage arg) {
+        vlcPlayers.get(arg.getViewId()).insertPlaylistItem(
+                arg.getIndex().intValue(),
+                resolveMediaUrl(arg.getUri(), arg.getPackageName(), arg.getType()),
+                arg.getType() == DataSourceType.ASSET,
+                arg.getHwAcc()
+        );
+    }
+
+    @Override
+    public void removePlaylistItem(Messages.PlaylistIndexMessage arg) {
+        vlcPlayers.get(arg.getViewId()).removePlaylistItem(arg.getIndex().intValue());
+    }
+
+    @Override
+    public void playPlaylistItem(Messages.PlaylistIndexMessage arg) {
+        vlcPlayers.get(arg.getViewId()).playPlaylistItem(arg.getIndex().intValue());
+    }
+
+    @Override
+    public void clearPlaylist(Messages.ViewMessage arg) {
+        vlcPlayers.get(arg.getViewId()).clearPlaylist();
+    }
+
+    @Override
+    public void prewarm(Messages.PrewarmMessage arg) {
+        List<String> options = arg.getOptions()
+                .stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .collect(Collectors.toList());
+
+        LibVlcCache.prewarmAsync(applicationContext, options);
+    }
+
+    @Override
+    public Messages.ParsedMediaMessage parseMedia(Messages.ParseMediaMessage arg) {
+        final long type = arg.getType();
+        final List<MediaParser.Request> requests = arg.getUris()
+                .stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .map(uri -> new MediaParser.Request(
+                        uri,
+                        // parsed from the origin, the proxies only help playback
+                        type == DataSourceType.ASSET ? resolveMediaUrl(uri, arg.getPackageName(), type) : uri,
+                        type == DataSourceType.ASSET
+                ))
+                .collect(Collectors.toList());
+        final long timeoutMillis = arg.getTimeoutMillis() != null
+                ? arg.getTimeoutMillis()
+                : MediaParser.DEFAULT_TIMEOUT_MILLIS;
+
+        Messages.ParsedMediaMessage message = new Messages.ParsedMediaMessage();
+        message.setItems(getMediaParser().parse(requests, timeoutMillis));
+        return message;
+    }
+
+    @NonNull
+    private synchronized MediaParser getMediaParser() {
+        if (mediaParser == null) {
+            mediaParser = new MediaParser(applicationContext);
+        }
+        return mediaParser;
+    }
+
     private void setupStreamUrl(
             @NonNull FlutterVlcPlayer player,
             @NonNull String uri,
@@ -425,20 +617,21 @@ final class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
             long dataSourceType,
             long hwAcc
     ) {
-        final String mediaUrl;
-        final boolean isAssetUrl;
+        final boolean isAssetUrl = dataSourceType == DataSourceType.ASSET;
+        player.setStreamUrl(resolveMediaUrl(uri, packageName, dataSourceType), isAssetUrl, autoPlay, hwAcc);
+    }
 
+    @NonNull
+    private String resolveMediaUrl(@NonNull String uri, @Nullable String packageName, long dataSourceType) {
         if (dataSourceType == DataSourceType.ASSET) {
-            mediaUrl = packageName != null
+            return packageName != null
                     ? keyForAssetAndPackageName.get(uri, packageName)
                     : keyForAsset.get(uri);
-            isAssetUrl = true;
-        } else {
-            mediaUrl = uri;
-            isAssetUrl = false;
         }
-
-        player.setStreamUrl(mediaUrl, isAssetUrl, autoPlay, hwAcc);
+        // HLS streams go through the segment prefetcher, progressive http(s) media through the
+        // disk cache, when the app enables them. Manifests are never written to the disk cache
+        final String prefetchUrl = HlsPrefetchProxy.urlFor(uri);
+        return prefetchUrl != null ? prefetchUrl : MediaCacheProxy.urlFor(uri);
     }
 
 }
@@ -1,7 +1,6 @@
 package software.solid.fluttervlcplayer;
 
 import android.content.Context;
-import android.os.HandlerThread;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -26,35 +25,48 @@ final class FlutterVlcPlayerFactory extends PlatformViewFactory {
     private final TextureRegistry textureRegistry;
     private final KeyForAssetFn keyForAsset;
     private final KeyForAssetAndPackageName keyForAssetAndPackageName;
-    private final FlutterVlcPlayerBuilder flutterVlcPlayerBuilder = new FlutterVlcPlayerBuilder();
-    private final HandlerThread bgThread = new HandlerThread("VLCBackgroundThread");
+    private final FlutterVlcPlayerBuilder flutterVlcPlayerBuilder;
+    private final PlayerDispatcher dispatcher;
+    private final PlayerPool playerPool;
 
     FlutterVlcPlayerFactory(
+            @NonNull Context applicationContext,
             @NonNull BinaryMessenger messenger,
             @NonNull TextureRegistry textureRegistry,
             @NonNull KeyForAssetFn keyForAsset,
-            @NonNull KeyForAssetAndPackageName keyForAssetAndPackageName
+            @NonNull KeyForAssetAndPackageName keyForAssetAndPackageName,
+            int dispatchThreads,
+            @NonNull PlayerPool playerPool
     ) {
         super(StandardMessageCodec.INSTANCE);
+        this.flutterVlcPlayerBuilder = new FlutterVlcPlayerBuilder(
+                applicationContext,
+                keyForAsset,
+                keyForAssetAndPackageName
+        );
         this.messenger = messenger;
         this.textureRegistry = textureRegistry;
         this.keyForAsset = keyForAsset;
         this.keyForAssetAndPackageName = keyForAssetAndPackageName;
-        bgThread.start();
+        this.dispatcher = new PlayerDispatcher(dispatchThreads);
+        this.playerPool = playerPool;
     }
 
     @NonNull
     @Override
     public PlatformView create(@NonNull Context context, int viewId, @Nullable Object args) {
-        return flutterVlcPlayerBuilder.build(
+        final FlutterVlcPlayer player = flutterVlcPlayerBuilder.build(
                 viewId,
                 context,
-                bgThread.getLooper(),
+                dispatcher.acquire(viewId),
                 messenger,
                 textureRegistry,
+                playerPool,
                 keyForAsset,
                 keyForAssetAndPackageName
         );
+        player.setOnDisposedListener(() -> dispatcher.release(viewId));
+        return player;
     }
 
     public void startListening() {
@@ -63,5 +75,9 @@ final class FlutterVlcPlayerFactory extends PlatformViewFactory {
 
     public void stopListening() {
         flutterVlcPlayerBuilder.stopListening(messenger);
+        playerPool.clear();
+        AssetStreamServer.stop();
+        MediaCacheProxy.stop();
+        HlsPrefetchProxy.stop();
     }
 }
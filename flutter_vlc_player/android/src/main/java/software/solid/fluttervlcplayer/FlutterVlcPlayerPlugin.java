@@ -1,7 +1,14 @@
 package software.solid.fluttervlcplayer;
 
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Bundle;
+
 import androidx.annotation.NonNull;
 
+import java.util.Collections;
+
 import io.flutter.FlutterInjector;
 import io.flutter.plugin.common.PluginRegistry;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
@@ -14,19 +21,39 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
     private FlutterPluginBinding flutterPluginBinding;
 
     private static final String VIEW_TYPE = "flutter_video_plugin/getVideoView";
+    // application meta-data: 0 for one thread per player, n for a pool of n threads
+    private static final String DISPATCH_THREADS_KEY = "software.solid.fluttervlcplayer.DISPATCH_THREADS";
+    // application meta-data: the warm players kept for reuse, 0 to disable
+    private static final String PLAYER_POOL_SIZE_KEY = "software.solid.fluttervlcplayer.PLAYER_POOL_SIZE";
+    private static final String PLAYER_POOL_IDLE_TIMEOUT_KEY = "software.solid.fluttervlcplayer.PLAYER_POOL_IDLE_TIMEOUT_MILLIS";
+    // application meta-data: whether warm players are only reused with the same options
+    private static final String PLAYER_POOL_MATCH_OPTIONS_KEY = "software.solid.fluttervlcplayer.PLAYER_POOL_MATCH_OPTIONS";
+    // application meta-data: whether LibVLC is created for players without options at attach
+    private static final String PREWARM_KEY = "software.solid.fluttervlcplayer.PREWARM";
+    // application meta-data: the size of the disk cache of http(s) media, 0 to disable
+    private static final String MEDIA_CACHE_SIZE_MB_KEY = "software.solid.fluttervlcplayer.MEDIA_CACHE_SIZE_MB";
+    // application meta-data: the HLS segments fetched ahead of the player, 0 to disable
+    private static final String SEGMENT_PREFETCH_COUNT_KEY = "software.solid.fluttervlcplayer.SEGMENT_PREFETCH_COUNT";
+    // application meta-data: whether the network caching is tuned per host from the buffering
+    private static final String ADAPTIVE_NETWORK_CACHING_KEY = "software.solid.fluttervlcplayer.ADAPTIVE_NETWORK_CACHING";
 
     @SuppressWarnings("deprecation")
     public static void registerWith(PluginRegistry.Registrar registrar) {
         if (flutterVlcPlayerFactory == null) {
             flutterVlcPlayerFactory = new FlutterVlcPlayerFactory(
+                    registrar.context().getApplicationContext(),
                     registrar.messenger(),
                     registrar.textures(),
                     registrar::lookupKeyForAsset,
-                    registrar::lookupKeyForAsset
+                    registrar::lookupKeyForAsset,
+                    readDispatchThreads(registrar.context()),
+                    createPlayerPool(registrar.context())
             );
 
             registrar.platformViewRegistry()
                     .registerViewFactory(VIEW_TYPE, flutterVlcPlayerFactory);
+            maybePrewarm(registrar.context().getApplicationContext());
+            startMediaCache(registrar.context().getApplicationContext());
         }
 
         registrar.addViewDestroyListener(view -> {
@@ -44,13 +71,18 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
         if (flutterVlcPlayerFactory == null) {
             final FlutterInjector injector = FlutterInjector.instance();
             flutterVlcPlayerFactory = new FlutterVlcPlayerFactory(
+                    flutterPluginBinding.getApplicationContext(),
                     flutterPluginBinding.getBinaryMessenger(),
                     flutterPluginBinding.getTextureRegistry(),
                     injector.flutterLoader()::getLookupKeyForAsset,
-                    injector.flutterLoader()::getLookupKeyForAsset
+                    injector.flutterLoader()::getLookupKeyForAsset,
+                    readDispatchThreads(flutterPluginBinding.getApplicationContext()),
+                    createPlayerPool(flutterPluginBinding.getApplicationContext())
             );
             flutterPluginBinding.getPlatformViewRegistry()
                     .registerViewFactory(VIEW_TYPE, flutterVlcPlayerFactory);
+            maybePrewarm(flutterPluginBinding.getApplicationContext());
+            startMediaCache(flutterPluginBinding.getApplicationContext());
         }
         startListening();
     }
@@ -77,6 +109,50 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
     public void onDetachedFromActivity() {
     }
 
+    private static int readDispatchThreads(@NonNull Context context) {
+        return readMetaData(context).getInt(DISPATCH_THREADS_KEY, PlayerDispatcher.DEFAULT_THREADS);
+    }
+
+    @NonNull
+    private static PlayerPool createPlayerPool(@NonNull Context context) {
+        final Bundle metaData = readMetaData(context);
+        return new PlayerPool(
+                metaData.getInt(PLAYER_POOL_SIZE_KEY, PlayerPool.DEFAULT_SIZE),
+                metaData.getInt(PLAYER_POOL_IDLE_TIMEOUT_KEY, (int) PlayerPool.DEFAULT_IDLE_TIMEOUT_MILLIS),
+                metaData.getBoolean(PLAYER_POOL_MATCH_OPTIONS_KEY, true) ? PlayerPool.Match.OPTIONS : PlayerPool.Match.ANY
+        );
+    }
+
+    private static void maybePrewarm(@NonNull Context context) {
+        if (readMetaData(context).getBoolean(PREWARM_KEY, false)) {
+            // the libraries load and LibVLC is created while the first frames of the app render
+            LibVlcCache.prewarmAsync(context, Collections.emptyList());
+        }
+    }
+
+    private static void startMediaCache(@NonNull Context context) {
+        final Bundle metaData = readMetaData(context);
+        final int sizeMb = metaData.getInt(MEDIA_CACHE_SIZE_MB_KEY, 0);
+        if (sizeMb > 0) {
+            MediaCacheProxy.start(context, sizeMb * 1024L * 1024L);
+        }
+        HlsPrefetchProxy.start(metaData.getInt(SEGMENT_PREFETCH_COUNT_KEY, HlsPrefetchProxy.DEFAULT_PREFETCH_COUNT));
+        if (metaData.getBoolean(ADAPTIVE_NETWORK_CACHING_KEY, false)) {
+            NetworkCachingTuner.start(context);
+        }
+    }
+
+    @NonNull
+    private static Bundle readMetaData(@NonNull Context context) {
+        try {
+            final ApplicationInfo info = context.getPackageManager()
+                    .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+            return info.metaData != null ? info.metaData : Bundle.EMPTY;
+        } catch (PackageManager.NameNotFoundException e) {
+            return Bundle.EMPTY;
+        }
+    }
+
     private static void startListening() {
         if (flutterVlcPlayerFactory != null) {
             flutterVlcPlayerFactory.startListening();
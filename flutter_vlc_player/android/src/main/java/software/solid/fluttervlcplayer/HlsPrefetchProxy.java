@@ -0,0 +1,435 @@
+package software.solid.fluttervlcplayer;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Prefetches the segments of HLS streams ahead of libvlc, as a {@link LoopbackHttpServer} the
+ * player reads the stream from.
+ *
+ * <p>libvlc fetches the playlists and segments of an adaptive stream one at a time, so a cold
+ * start costs a round trip for the master playlist, the media playlist, the init segment and the
+ * first segment. The proxy serves the playlists fresh from the origin, rewritten so that every
+ * playlist and segment is requested through it, and as soon as a media playlist is served, its
+ * init segment and first {@code prefetchCount} segments, or its last ones for a live stream, are
+ * fetched in parallel. Every segment requested then prefetches the ones following it. Segments
+ * are kept in a {@link SegmentCache} per media playlist, for the few most recently played streams,
+ * and streamed to the player as they arrive, be they fetched on demand or still being prefetched.
+ *
+ * <p>Playlists addressing segments by byte range are only rewritten for their playlists, their
+ * segments being read from the origin as usual.
+ *
+ * <p>This class is thread-safe.
+ */
+final class HlsPrefetchProxy extends LoopbackHttpServer {
+
+    static final int DEFAULT_PREFETCH_COUNT = 0;
+    private static final String TAG = "HlsPrefetchProxy";
+    private static final String PLAYLIST = "p";
+    private static final String SEGMENT = "s";
+    private static final String PLAYLIST_TYPE = "application/vnd.apple.mpegurl";
+    private static final long STREAM_CACHE_BYTES = 16L * 1024 * 1024;
+    private static final int MAX_STREAMS = 4;
+    private static final int FETCH_THREADS = 4;
+    private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+    private static final int READ_TIMEOUT_MILLIS = 30000;
+    private static final Pattern URI_ATTRIBUTE = Pattern.compile("URI=\"([^\"]*)\"");
+
+    /**
+     * A playlist fetched from the origin, with the url it was served from once redirected, which
+     * its relative uris resolve against.
+     */
+    private static final class FetchedPlaylist {
+        final String url;
+        final String text;
+
+        FetchedPlaylist(@NonNull String url, @NonNull String text) {
+            this.url = url;
+            this.text = text;
+        }
+    }
+
+    @Nullable
+    private static HlsPrefetchProxy instance;
+
+    private final int prefetchCount;
+    private final ExecutorService fetchExecutor;
+    // the segments the player asks for are never queued behind prefetches
+    private final ExecutorService onDemandExecutor;
+    // the caches of the most recently played streams, keyed by media playlist url
+    private final LinkedHashMap<String, SegmentCache> streams = new LinkedHashMap<String, SegmentCache>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SegmentCache> eldest) {
+            return size() > MAX_STREAMS;
+        }
+    };
+
+    HlsPrefetchProxy(int prefetchCount) throws IOException {
+        super("VLCHlsPrefetch");
+        this.prefetchCount = prefetchCount;
+        final AtomicInteger threadCount = new AtomicInteger();
+        fetchExecutor = Executors.newFixedThreadPool(FETCH_THREADS, runnable -> {
+            final Thread thread = new Thread(runnable, "VLCHlsFetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        onDemandExecutor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "VLCHlsFetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the proxy prefetching {@code prefetchCount} segments, unless it runs already.
+     */
+    static synchronized void start(int prefetchCount) {
+        if (instance != null || prefetchCount <= 0) {
+            return;
+        }
+
+        try {
+            instance = new HlsPrefetchProxy(prefetchCount);
+        } catch (IOException e) {
+            Log.w(TAG, "Could not start the segment prefetcher", e);
+        }
+    }
+
+    static synchronized void stop() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the url to open {@code url} through the prefetcher when it is an HLS playlist and the
+     * prefetcher runs, or null otherwise.
+     */
+    @Nullable
+    static synchronized String urlFor(@NonNull String url) {
+        return instance != null ? instance.proxiedUrlFor(url) : null;
+    }
+
+    /**
+     * Returns the url to open {@code url} through this proxy when it is an HLS playlist, or null
+     * otherwise.
+     */
+    @Nullable
+    String proxiedUrlFor(@NonNull String url) {
+        return isPlaylistUrl(url) ? localUrlFor(PLAYLIST, url) : null;
+    }
+
+    @Override
+    void close() {
+        super.close();
+        fetchExecutor.shutdownNow();
+        onDemandExecutor.shutdownNow();
+    }
+
+    private static boolean isPlaylistUrl(@NonNull String url) {
+        final String lower = url.toLowerCase(Locale.ROOT);
+        if (!lower.startsWith("http://") && !lower.startsWith("https://")) {
+            return false;
+        }
+        final int end = lower.indexOf('?');
+        return (end >= 0 ? lower.substring(0, end) : lower).endsWith(".m3u8");
+    }
+
+    @Override
+    boolean respond(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer
+    ) throws IOException {
+        final String[] segments = request.path.split("/");
+        if (segments.length == 2 && segments[0].equals(PLAYLIST)) {
+            return respondPlaylist(channel, request, buffer, decode(segments[1]));
+        }
+        if (segments.length == 3 && segments[0].equals(SEGMENT)) {
+            return respondSegment(channel, request, buffer, decode(segments[1]), decode(segments[2]));
+        }
+
+        writeHeaders(channel, NOT_FOUND, buffer);
+        return true;
+    }
+
+    private boolean respondPlaylist(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer,
+            @NonNull String url
+    ) throws IOException {
+        final FetchedPlaylist playlist;
+        try {
+            playlist = fetchPlaylist(url);
+        } catch (IOException e) {
+            writeHeaders(channel, "HTTP/1.1 502 Bad Gateway\r\nContent-Length: 0\r\n\r\n", buffer);
+            return true;
+        }
+
+        writeData(channel, request, buffer, rewrite(url, playlist).getBytes(StandardCharsets.UTF_8), PLAYLIST_TYPE);
+        return true;
+    }
+
+    private boolean respondSegment(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer,
+            @NonNull String playlistUrl,
+            @NonNull String url
+    ) throws IOException {
+        final SegmentCache cache = streamFor(playlistUrl);
+        final SegmentCache.Segment segment = cache.get(url);
+        long length;
+        try {
+            length = segment.awaitLength();
+            if (length < 0 && request.hasRange()) {
+                // a range of a segment of unknown length is only known once the segment is complete
+                length = segment.awaitComplete();
+            }
+        } catch (IOException e) {
+            writeHeaders(channel, "HTTP/1.1 502 Bad Gateway\r\nContent-Length: 0\r\n\r\n", buffer);
+            return true;
+        }
+
+        cache.prefetchAfter(url, prefetchCount);
+        if (request.rangeStart >= length && length > 0) {
+            writeHeaders(channel, rangeNotSatisfiable(length), buffer);
+            return true;
+        }
+
+        writeHeaders(channel, responseHeaders(request, length, "application/octet-stream"), buffer);
+        if (request.isHead) {
+            return true;
+        }
+
+        // the bytes are written as they arrive, up to the end of the segment when its length is unknown
+        final long end = length >= 0 ? lastByte(request, length) + 1 : Long.MAX_VALUE;
+        long offset = request.rangeStart;
+        while (offset < end) {
+            final ByteBuffer bytes = segment.awaitBytesFrom(offset);
+            if (bytes == null) {
+                break;
+            }
+            if (bytes.remaining() > end - offset) {
+                bytes.limit(bytes.position() + (int) (end - offset));
+            }
+            offset += bytes.remaining();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        // without a length, the end of the segment is the end of the connection
+        return length >= 0;
+    }
+
+    /**
+     * Returns {@code playlist}, requested at {@code url}, with its playlists and segments requested
+     * through the proxy, and starts prefetching the first segments of a media playlist. The uris
+     * the proxy cannot fetch, such as {@code data:} uris, are left as they are.
+     */
+    @NonNull
+    private String rewrite(@NonNull String url, @NonNull FetchedPlaylist fetched) {
+        final String playlist = fetched.text;
+        final boolean isMaster = playlist.contains("#EXT-X-STREAM-INF");
+        // segments addressed by byte range share a file, they are read from the origin
+        final boolean proxySegments = !isMaster && !playlist.contains("#EXT-X-BYTERANGE");
+        final List<String> segments = new ArrayList<>();
+        final List<String> prefetched = new ArrayList<>();
+        final StringBuilder rewritten = new StringBuilder(playlist.length() * 2);
+
+        for (String line : playlist.split("\r?\n")) {
+            final String trimmed = line.trim();
+            if (trimmed.isEmpty()) {
+                rewritten.append('\n');
+            } else if (trimmed.startsWith("#")) {
+                rewritten.append(rewriteTag(url, fetched.url, trimmed, proxySegments, prefetched)).append('\n');
+            } else {
+                final String resolved = resolve(fetched.url, trimmed);
+                if (resolved == null) {
+                    rewritten.append(trimmed);
+                } else if (isMaster) {
+                    rewritten.append(localUrlFor(PLAYLIST, resolved));
+                } else if (proxySegments) {
+                    segments.add(resolved);
+                    rewritten.append(localUrlFor(SEGMENT, url, resolved));
+                } else {
+                    rewritten.append(resolved);
+                }
+                rewritten.append('\n');
+            }
+        }
+
+        if (proxySegments && !segments.isEmpty()) {
+            final SegmentCache cache = streamFor(url);
+            cache.setSegments(segments);
+            // live streams start near their end
+            final boolean isLive = !playlist.contains("#EXT-X-ENDLIST");
+            final int count = Math.min(prefetchCount, segments.size());
+            prefetched.addAll(isLive
+                    ? segments.subList(segments.size() - count, segments.size())
+                    : segments.subList(0, count));
+            cache.prefetch(prefetched);
+        }
+        return rewritten.toString();
+    }
+
+    @NonNull
+    private String rewriteTag(
+            @NonNull String url,
+            @NonNull String baseUrl,
+            @NonNull String tag,
+            boolean proxySegments,
+            @NonNull List<String> prefetched
+    ) {
+        final Matcher matcher = URI_ATTRIBUTE.matcher(tag);
+        if (!matcher.find()) {
+            return tag;
+        }
+
+        final String resolved = resolve(baseUrl, matcher.group(1));
+        if (resolved == null) {
+            return tag;
+        }
+        final String replacement;
+        if (tag.startsWith("#EXT-X-MEDIA") || tag.startsWith("#EXT-X-I-FRAME-STREAM-INF")) {
+            replacement = localUrlFor(PLAYLIST, resolved);
+        } else if (proxySegments && (tag.startsWith("#EXT-X-MAP") || tag.startsWith("#EXT-X-KEY"))) {
+            // the init segment and the keys are needed before the first segment
+            prefetched.add(resolved);
+            replacement = localUrlFor(SEGMENT, url, resolved);
+        } else {
+            replacement = resolved;
+        }
+        return tag.substring(0, matcher.start(1)) + replacement + tag.substring(matcher.end(1));
+    }
+
+    @NonNull
+    private synchronized SegmentCache streamFor(@NonNull String playlistUrl) {
+        SegmentCache cache = streams.get(playlistUrl);
+        if (cache == null) {
+            cache = new SegmentCache(STREAM_CACHE_BYTES, fetchExecutor, onDemandExecutor, HlsPrefetchProxy::fetchInto);
+            streams.put(playlistUrl, cache);
+        }
+        return cache;
+    }
+
+    private static void writeData(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer,
+            @NonNull byte[] data,
+            @NonNull String contentType
+    ) throws IOException {
+        if (request.rangeStart >= data.length && data.length > 0) {
+            writeHeaders(channel, rangeNotSatisfiable(data.length), buffer);
+            return;
+        }
+
+        writeHeaders(channel, responseHeaders(request, data.length, contentType), buffer);
+        if (!request.isHead) {
+            final long last = lastByte(request, data.length);
+            final ByteBuffer body = ByteBuffer.wrap(data, (int) request.rangeStart, (int) (last - request.rangeStart + 1));
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code url} resolved against {@code base}, or null when it is malformed or not an
+     * http(s) url.
+     */
+    @Nullable
+    private static String resolve(@NonNull String base, @NonNull String url) {
+        final String resolved;
+        try {
+            resolved = new URL(new URL(base), url).toString();
+        } catch (MalformedURLException e) {
+            return null;
+        }
+        final String lower = resolved.toLowerCase(Locale.ROOT);
+        return lower.startsWith("http://") || lower.startsWith("https://") ? resolved : null;
+    }
+
+    private static void fetchInto(@NonNull String url, @NonNull SegmentCache.Segment segment) throws IOException {
+        final HttpURLConnection connection = open(url);
+        try {
+            segment.start(connection.getContentLengthLong());
+            try (InputStream input = connection.getInputStream()) {
+                final byte[] chunk = new byte[16 * 1024];
+                int read;
+                while ((read = input.read(chunk)) >= 0) {
+                    segment.append(chunk, read);
+                }
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    @NonNull
+    private static FetchedPlaylist fetchPlaylist(@NonNull String url) throws IOException {
+        final HttpURLConnection connection = open(url);
+        try {
+            final long length = connection.getContentLengthLong();
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(length > 0 ? (int) length : 64 * 1024);
+            try (InputStream input = connection.getInputStream()) {
+                final byte[] chunk = new byte[16 * 1024];
+                int read;
+                while ((read = input.read(chunk)) >= 0) {
+                    output.write(chunk, 0, read);
+                }
+            }
+            return new FetchedPlaylist(
+                    connection.getURL().toString(),
+                    new String(output.toByteArray(), StandardCharsets.UTF_8)
+            );
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Returns a connection to {@code url} which got a successful response.
+     */
+    @NonNull
+    private static HttpURLConnection open(@NonNull String url) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            final int status = connection.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("HTTP " + status + " for " + url);
+            }
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+}
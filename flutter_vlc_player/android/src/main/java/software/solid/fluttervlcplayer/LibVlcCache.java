@@ -0,0 +1,200 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.LibVLC;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The LibVLC instances of the process, shared by the players with the same options.
+ *
+ * <p>Every LibVLC instance loads the plugins and allocates a module bank of its own, while libvlc
+ * is meant to have a single instance serving every media player. Instances are keyed by their
+ * options, trimmed and without blanks but in their order, which libvlc gives a meaning to when an
+ * option is repeated, and counted: each {@link #acquire} must be balanced by a {@link #release},
+ * and the last release frees the instance. A native reference
+ * taken on an instance with {@code retain()} keeps it alive past that. A pre-warmed instance is
+ * kept until a player acquires it, so that the first player skips its creation.
+ *
+ * <p>This class is thread-safe.
+ */
+final class LibVlcCache {
+
+    private static final class Entry {
+        /** Null while the instance is created. */
+        @Nullable
+        LibVLC libVLC;
+        int users = 0;
+        /** Whether the instance is kept for the first player even without users. */
+        boolean warm = false;
+    }
+
+    private static final String TAG = "LibVlcCache";
+    private static final Map<List<String>, Entry> entries = new HashMap<>();
+
+    private LibVlcCache() {
+    }
+
+    /**
+     * Returns the instance for {@code options}, creating it if no player uses it yet. Waits for
+     * an instance being pre-warmed rather than creating another one.
+     */
+    @NonNull
+    static LibVLC acquire(@NonNull Context context, @NonNull List<String> options) {
+        final List<String> key = keyOf(options);
+        while (true) {
+            final Entry entry;
+            synchronized (entries) {
+                final Entry cached = entries.get(key);
+                if (cached != null) {
+                    cached.users++;
+                    cached.warm = false;
+                    final LibVLC libVLC = awaitCreated(key, cached);
+                    if (libVLC != null) {
+                        return libVLC;
+                    }
+                    // its creation failed, try again
+                    continue;
+                }
+
+                entry = new Entry();
+                entry.users = 1;
+                entries.put(key, entry);
+            }
+
+            return create(context, options, key, entry);
+        }
+    }
+
+    /**
+     * Creates the instance for {@code options} on the calling thread, unless it exists, and keeps
+     * it for the first player acquiring it.
+     */
+    static void prewarm(@NonNull Context context, @NonNull List<String> options) {
+        final List<String> key = keyOf(options);
+        final Entry entry;
+        synchronized (entries) {
+            if (entries.containsKey(key)) {
+                return;
+            }
+
+            entry = new Entry();
+            entry.warm = true;
+            entries.put(key, entry);
+        }
+
+        try {
+            create(context, options, key, entry);
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Could not pre-warm LibVLC", e);
+        }
+    }
+
+    /**
+     * Pre-warms the instance for {@code options} on a background thread.
+     */
+    static void prewarmAsync(@NonNull Context context, @NonNull List<String> options) {
+        new Thread(() -> prewarm(context, options), "VLCPrewarm").start();
+    }
+
+    /**
+     * Releases an instance returned by {@link #acquire}, freeing it once no player uses it. An
+     * instance which was not acquired here is left alone, its owner releases it.
+     */
+    static void release(@NonNull LibVLC libVLC) {
+        synchronized (entries) {
+            final Iterator<Entry> iterator = entries.values().iterator();
+            Entry entry = null;
+            while (entry == null && iterator.hasNext()) {
+                final Entry cached = iterator.next();
+                if (cached.libVLC == libVLC) {
+                    entry = cached;
+                }
+            }
+            if (entry == null) {
+                Log.w(TAG, "Ignoring the release of a LibVLC instance which was not acquired");
+                return;
+            }
+            if (--entry.users > 0 || entry.warm) {
+                return;
+            }
+            iterator.remove();
+        }
+
+        libVLC.release();
+    }
+
+    @NonNull
+    private static LibVLC create(
+            @NonNull Context context,
+            @NonNull List<String> options,
+            @NonNull List<String> key,
+            @NonNull Entry entry
+    ) {
+        // created outside the lock, loading the libraries and plugins takes a while
+        final LibVLC libVLC;
+        try {
+            libVLC = new LibVLC(context.getApplicationContext(), options);
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key);
+                entries.notifyAll();
+            }
+            throw e;
+        }
+
+        synchronized (entries) {
+            entry.libVLC = libVLC;
+            entries.notifyAll();
+        }
+        return libVLC;
+    }
+
+    /**
+     * Returns the instance of {@code entry} once created, or null if its creation failed. Must be
+     * called holding the lock.
+     */
+    @Nullable
+    private static LibVLC awaitCreated(@NonNull List<String> key, @NonNull Entry entry) {
+        boolean interrupted = false;
+        while (entry.libVLC == null && entries.get(key) == entry) {
+            try {
+                entries.wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return entry.libVLC;
+    }
+
+    /**
+     * Returns whether two option lists get the same instance.
+     */
+    static boolean isCompatible(@NonNull List<String> options, @NonNull List<String> otherOptions) {
+        return keyOf(options).equals(keyOf(otherOptions));
+    }
+
+    @NonNull
+    private static List<String> keyOf(@NonNull List<String> options) {
+        final List<String> key = new ArrayList<>(options.size());
+        for (String option : options) {
+            final String trimmed = option.trim();
+            if (!trimmed.isEmpty()) {
+                key.add(trimmed);
+            }
+        }
+        return key;
+    }
+}
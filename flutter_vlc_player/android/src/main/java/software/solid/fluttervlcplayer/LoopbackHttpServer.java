@@ -0,0 +1,310 @@
+package software.solid.fluttervlcplayer;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal HTTP/1.1 server on the loopback interface, feeding libvlc with media it cannot open
+ * by itself.
+ *
+ * <p>The server listens on 127.0.0.1 only, on a port picked by the system, and only answers the
+ * urls carrying a random token, so that the other apps of the device cannot use it. Only GET and
+ * HEAD requests with an optional single byte range are understood, which is all the libvlc http
+ * input sends. Every connection runs on a thread of its own with a direct buffer allocated once,
+ * and may carry several requests.
+ *
+ * <p>This class is thread-safe.
+ */
+abstract class LoopbackHttpServer {
+
+    static final class Request {
+        final boolean isHead;
+        /** The path after the token, still encoded. */
+        final String path;
+        final long rangeStart;
+        /** The last byte asked for, or -1 up to the end. */
+        final long rangeEnd;
+
+        Request(boolean isHead, @NonNull String path, long rangeStart, long rangeEnd) {
+            this.isHead = isHead;
+            this.path = path;
+            this.rangeStart = rangeStart;
+            this.rangeEnd = rangeEnd;
+        }
+
+        boolean hasRange() {
+            return rangeStart > 0 || rangeEnd >= 0;
+        }
+    }
+
+    static final String NOT_FOUND = "HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\n\r\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // long enough for the request headers libvlc sends
+    private static final int MAX_HEADER_LINES = 64;
+
+    private final String tag;
+    private final ServerSocketChannel serverChannel;
+    private final String token;
+    private final ExecutorService connectionExecutor;
+
+    LoopbackHttpServer(@NonNull String name) throws IOException {
+        tag = name;
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.socket().bind(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0));
+        token = newToken();
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Thread acceptThread = new Thread(this::acceptConnections, name);
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    /**
+     * Returns the url serving {@code segments}, each encoded as a single path segment: the
+     * {@link Request#path} splits back on {@code /}.
+     */
+    @NonNull
+    final String localUrlFor(@NonNull String... segments) {
+        final StringBuilder url = new StringBuilder("http://127.0.0.1:")
+                .append(serverChannel.socket().getLocalPort())
+                .append('/')
+                .append(token);
+        for (String segment : segments) {
+            url.append('/').append(encode(segment));
+        }
+        return url.toString();
+    }
+
+    /**
+     * Returns a segment of a {@link Request#path} decoded, as given to {@link #localUrlFor}.
+     */
+    @NonNull
+    static String decode(@NonNull String segment) {
+        try {
+            return URLDecoder.decode(segment, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            // every Java runtime has UTF-8
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @NonNull
+    private static String encode(@NonNull String segment) {
+        try {
+            return URLEncoder.encode(segment, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Answers a single request, returns whether the connection can serve another one.
+     */
+    abstract boolean respond(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer
+    ) throws IOException;
+
+    void close() {
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            Log.w(tag, "Could not close the server", e);
+        }
+        connectionExecutor.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (serverChannel.isOpen()) {
+            try {
+                final SocketChannel channel = serverChannel.accept();
+                connectionExecutor.execute(() -> serve(channel));
+            } catch (IOException e) {
+                // closed
+                return;
+            }
+        }
+    }
+
+    private void serve(@NonNull SocketChannel channel) {
+        try (SocketChannel ignored = channel) {
+            final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(channel.socket().getInputStream(), StandardCharsets.ISO_8859_1)
+            );
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            String requestLine;
+            while ((requestLine = reader.readLine()) != null && !requestLine.isEmpty()) {
+                long rangeStart = 0;
+                long rangeEnd = -1;
+                for (int i = 0; i < MAX_HEADER_LINES; i++) {
+                    final String header = reader.readLine();
+                    if (header == null || header.isEmpty()) {
+                        break;
+                    }
+                    final String lower = header.toLowerCase(Locale.ROOT);
+                    if (lower.startsWith("range:") && lower.contains("bytes=")) {
+                        final String range = lower.substring(lower.indexOf("bytes=") + 6).trim();
+                        final int dash = range.indexOf('-');
+                        if (dash > 0) {
+                            rangeStart = Long.parseLong(range.substring(0, dash).trim());
+                            final String end = range.substring(dash + 1).trim();
+                            rangeEnd = end.isEmpty() ? -1 : Long.parseLong(end);
+                        }
+                    }
+                }
+
+                final String[] parts = requestLine.split(" ");
+                final boolean isHead = parts.length > 0 && parts[0].equals("HEAD");
+                final String prefix = "/" + token + "/";
+                if (parts.length < 2 || !(isHead || parts[0].equals("GET")) || !parts[1].startsWith(prefix)) {
+                    writeHeaders(channel, NOT_FOUND, buffer);
+                    return;
+                }
+
+                final Request request = new Request(isHead, parts[1].substring(prefix.length()), rangeStart, rangeEnd);
+                if (!respond(channel, request, buffer)) {
+                    return;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // the player closes its connection on every seek and on stop
+            Log.d(tag, "Connection closed: " + e.getMessage());
+        }
+    }
+
+    static void writeHeaders(
+            @NonNull SocketChannel channel,
+            @NonNull String headers,
+            @NonNull ByteBuffer buffer
+    ) throws IOException {
+        buffer.clear();
+        buffer.put(headers.getBytes(StandardCharsets.ISO_8859_1));
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the status line and headers of a response to {@code request} for a body of
+     * {@code length} bytes, or of unknown length when negative.
+     */
+    @NonNull
+    static String responseHeaders(@NonNull Request request, long length, @NonNull String contentType) {
+        final StringBuilder headers = new StringBuilder();
+        if (request.hasRange() && length >= 0) {
+            final long last = lastByte(request, length);
+            headers.append("HTTP/1.1 206 Partial Content\r\n")
+                    .append("Content-Range: bytes ").append(request.rangeStart).append('-').append(last)
+                    .append('/').append(length).append("\r\n")
+                    .append("Content-Length: ").append(last - request.rangeStart + 1).append("\r\n");
+        } else {
+            headers.append("HTTP/1.1 200 OK\r\n");
+            if (length >= 0) {
+                headers.append("Content-Length: ").append(length).append("\r\n");
+            } else {
+                headers.append("Connection: close\r\n");
+            }
+        }
+        return headers.append("Accept-Ranges: bytes\r\n")
+                .append("Content-Type: ").append(contentType).append("\r\n\r\n")
+                .toString();
+    }
+
+    @NonNull
+    static String rangeNotSatisfiable(long length) {
+        return "HTTP/1.1 416 Range Not Satisfiable\r\nContent-Range: bytes */" + length
+                + "\r\nContent-Length: 0\r\n\r\n";
+    }
+
+    static long lastByte(@NonNull Request request, long length) {
+        return request.rangeEnd < 0 || request.rangeEnd >= length ? length - 1 : request.rangeEnd;
+    }
+
+    static void skipFully(@NonNull InputStream input, long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            final long skipped = input.skip(remaining);
+            if (skipped <= 0) {
+                // skip may stop short, a read tells the end of the stream apart
+                if (input.read() < 0) {
+                    throw new IOException("Range past the end of the stream");
+                }
+                remaining--;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+
+    /**
+     * Copies {@code count} bytes, or up to the end of {@code input} when negative, and returns
+     * the number of bytes copied.
+     */
+    static long copy(
+            @NonNull ReadableByteChannel input,
+            @NonNull SocketChannel output,
+            long count,
+            @NonNull ByteBuffer buffer
+    ) throws IOException {
+        long copied = 0;
+        while (count < 0 || copied < count) {
+            buffer.clear();
+            if (count >= 0 && count - copied < buffer.capacity()) {
+                buffer.limit((int) (count - copied));
+            }
+            final int read = input.read(buffer);
+            if (read < 0) {
+                if (count >= 0) {
+                    throw new IOException("Stream shorter than announced");
+                }
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                output.write(buffer);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    @NonNull
+    private static String newToken() {
+        final byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        final StringBuilder token = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            token.append(String.format(Locale.ROOT, "%02x", b));
+        }
+        return token.toString();
+    }
+}
@@ -0,0 +1,107 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * An implementation of {@link EventChannel.EventSink} which can be called from any thread and
+ * delivers to its delegate on the main thread, where {@link EventChannel.EventSink} must be used.
+ *
+ * <p>Producers write into a lock-free queue and only the producer which finds the queue idle posts
+ * a drain to the main looper, which then delivers every queued event at once. Events produced on
+ * the main thread while nothing is pending skip the queue and are delivered immediately.
+ */
+final class MainThreadEventSink implements EventChannel.EventSink {
+    private final EventChannel.EventSink delegate;
+    private final ConcurrentLinkedQueue<Runnable> eventQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private final Executor mainExecutor;
+    private final BooleanSupplier isMainThread;
+    private final Runnable drainRunnable = this::drain;
+
+    MainThreadEventSink(@NonNull EventChannel.EventSink delegate) {
+        this(
+                delegate,
+                new Handler(Looper.getMainLooper())::post,
+                () -> Looper.myLooper() == Looper.getMainLooper()
+        );
+    }
+
+    /**
+     * Creates a sink delivering on the thread {@code mainExecutor} runs on, which
+     * {@code isMainThread} tells apart.
+     */
+    MainThreadEventSink(
+            @NonNull EventChannel.EventSink delegate,
+            @NonNull Executor mainExecutor,
+            @NonNull BooleanSupplier isMainThread
+    ) {
+        this.delegate = delegate;
+        this.mainExecutor = mainExecutor;
+        this.isMainThread = isMainThread;
+    }
+
+    @Override
+    public void success(Object event) {
+        if (canDeliverNow()) {
+            delegate.success(event);
+        } else {
+            enqueue(() -> delegate.success(event));
+        }
+    }
+
+    @Override
+    public void error(String code, String message, Object details) {
+        if (canDeliverNow()) {
+            delegate.error(code, message, details);
+        } else {
+            enqueue(() -> delegate.error(code, message, details));
+        }
+    }
+
+    @Override
+    public void endOfStream() {
+        if (canDeliverNow()) {
+            delegate.endOfStream();
+        } else {
+            enqueue(delegate::endOfStream);
+        }
+    }
+
+    /**
+     * Delivers every pending event right away. Must be called on the main thread, a drain still
+     * posted then finds nothing to deliver.
+     */
+    void flush() {
+        drain();
+    }
+
+    private boolean canDeliverNow() {
+        return !drainScheduled.get() && isMainThread.getAsBoolean();
+    }
+
+    private void enqueue(@NonNull Runnable delivery) {
+        eventQueue.offer(delivery);
+        if (drainScheduled.compareAndSet(false, true)) {
+            mainExecutor.execute(drainRunnable);
+        }
+    }
+
+    private void drain() {
+        // events offered after this point schedule a new drain
+        drainScheduled.set(false);
+        Runnable delivery;
+        while ((delivery = eventQueue.poll()) != null) {
+            delivery.run();
+        }
+    }
+}
@@ -0,0 +1,504 @@
+package software.solid.fluttervlcplayer;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A read-through disk cache for progressive http(s) media, as a {@link LoopbackHttpServer}
+ * libvlc reads the network media from.
+ *
+ * <p>A media found in the {@link MediaDiskCache} is served from its file, with range requests.
+ * Otherwise the request is forwarded to the origin and its response streamed back. A response
+ * carrying the whole media is written to the cache in the background and streamed to the player
+ * from the file as it fills, so that the next playback of the media, typically a looping or
+ * replayed clip, never reaches the network. The fill goes on once the player disconnects, as it
+ * does on a seek, and a media being filled is forwarded to the requests meanwhile. Responses to
+ * range requests starting past the beginning are only forwarded: partial media are never cached.
+ *
+ * <p>Only progressive media are cached. HLS and DASH manifests are not proxied at all, and a
+ * response typed as one is forwarded without being persisted: the manifest of a live stream
+ * changes with every refresh, and a copy on disk would freeze it.
+ *
+ * <p>The proxy is only started when the app sets a cache size, see {@link #start}.
+ *
+ * <p>This class is thread-safe.
+ */
+final class MediaCacheProxy extends LoopbackHttpServer {
+
+    private static final String TAG = "MediaCacheProxy";
+    private static final String CACHE_DIRECTORY = "flutter_vlc_player_media";
+    private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+    private static final int READ_TIMEOUT_MILLIS = 30000;
+    private static final int MAX_REDIRECTS = 5;
+    private static final int FILL_BUFFER_SIZE = 64 * 1024;
+    private static final String[] MANIFEST_EXTENSIONS = {".m3u8", ".mpd"};
+    private static final String[] MANIFEST_TYPES = {
+            "application/vnd.apple.mpegurl",
+            "application/x-mpegurl",
+            "application/dash+xml",
+    };
+
+    @Nullable
+    private static MediaCacheProxy instance;
+
+    /**
+     * The progress of a media written to the cache in the background, read while it fills.
+     */
+    private static final class Fill {
+        private long written = 0;
+        @Nullable
+        private IOException failure;
+
+        synchronized void onWritten(long written) {
+            this.written = written;
+            notifyAll();
+        }
+
+        synchronized void fail(@NonNull IOException e) {
+            failure = e;
+            notifyAll();
+        }
+
+        /**
+         * Returns the number of bytes written, waiting for more than {@code offset}.
+         */
+        synchronized long awaitBytesAfter(long offset) throws IOException {
+            while (written <= offset && failure == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            if (written > offset) {
+                return written;
+            }
+            throw failure;
+        }
+    }
+
+    private final MediaDiskCache cache;
+    // the fills outlive the connections of the player
+    private final ExecutorService fillExecutor;
+    // the media being filled, keyed by url
+    private final Map<String, Fill> fills = new HashMap<>();
+
+    MediaCacheProxy(@NonNull MediaDiskCache cache) throws IOException {
+        super("VLCMediaCache");
+        this.cache = cache;
+        final AtomicInteger threadCount = new AtomicInteger();
+        fillExecutor = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "VLCMediaCacheFill-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the proxy with a cache of at most {@code maxBytes} in the cache directory of the app,
+     * unless it runs already.
+     */
+    static synchronized void start(@NonNull Context context, long maxBytes) {
+        if (instance != null || maxBytes <= 0) {
+            return;
+        }
+
+        final File directory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+        try {
+            instance = new MediaCacheProxy(new MediaDiskCache(directory, maxBytes));
+        } catch (IOException e) {
+            Log.w(TAG, "Could not start the media cache", e);
+        }
+    }
+
+    static synchronized void stop() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the url to open {@code url} through the cache, or {@code url} itself when the cache
+     * is off or does not apply to it.
+     */
+    @NonNull
+    static synchronized String urlFor(@NonNull String url) {
+        return instance != null ? instance.proxiedUrlFor(url) : url;
+    }
+
+    /**
+     * Returns the url to open {@code url} through this proxy, or {@code url} itself when it is not
+     * a progressive http(s) media.
+     */
+    @NonNull
+    String proxiedUrlFor(@NonNull String url) {
+        final String lower = url.toLowerCase(Locale.ROOT);
+        if (!(lower.startsWith("http://") || lower.startsWith("https://")) || isManifestUrl(lower)) {
+            return url;
+        }
+        return localUrlFor(url);
+    }
+
+    /**
+     * Returns the counters of the cache of this proxy.
+     */
+    @NonNull
+    MediaDiskCache.Stats getCacheStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * Returns the counters of the cache, or null when it is off.
+     */
+    @Nullable
+    static synchronized MediaDiskCache.Stats getStats() {
+        return instance != null ? instance.getCacheStats() : null;
+    }
+
+    @Override
+    void close() {
+        super.close();
+        fillExecutor.shutdownNow();
+    }
+
+    @Override
+    boolean respond(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer
+    ) throws IOException {
+        final String url = decode(request.path);
+        final File file = cache.get(url);
+        if (file != null) {
+            try {
+                return respondFromFile(channel, request, buffer, file);
+            } catch (IOException e) {
+                // evicted and deleted in between, nothing was written yet
+                if (!file.exists()) {
+                    return respondFromOrigin(channel, request, buffer, url);
+                }
+                throw e;
+            }
+        }
+        return respondFromOrigin(channel, request, buffer, url);
+    }
+
+    private boolean respondFromFile(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer,
+            @NonNull File file
+    ) throws IOException {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+            final FileChannel fileChannel = input.getChannel();
+            final long length = fileChannel.size();
+            if (request.rangeStart >= length && length > 0) {
+                writeHeaders(channel, rangeNotSatisfiable(length), buffer);
+                return true;
+            }
+
+            writeHeaders(channel, responseHeaders(request, length, "application/octet-stream"), buffer);
+            if (!request.isHead) {
+                final long count = lastByte(request, length) - request.rangeStart + 1;
+                long sent = 0;
+                while (sent < count) {
+                    final long transferred = fileChannel.transferTo(request.rangeStart + sent, count - sent, channel);
+                    if (transferred <= 0) {
+                        throw new IOException("Cached media shorter than expected");
+                    }
+                    sent += transferred;
+                }
+                cache.onBytesFromCache(sent);
+            }
+            return true;
+        }
+    }
+
+    private boolean respondFromOrigin(
+            @NonNull SocketChannel channel,
+            @NonNull Request request,
+            @NonNull ByteBuffer buffer,
+            @NonNull String url
+    ) throws IOException {
+        final HttpURLConnection connection;
+        try {
+            connection = openOrigin(url, request);
+        } catch (IOException e) {
+            writeHeaders(channel, "HTTP/1.1 502 Bad Gateway\r\nContent-Length: 0\r\n\r\n", buffer);
+            return true;
+        }
+        // a fill owns the connection once started
+        boolean isFilling = false;
+        try {
+            final int status = connection.getResponseCode();
+            if (isRedirect(status)) {
+                // too many redirects, the player follows them on its own
+                final String location = connection.getHeaderField("Location");
+                writeHeaders(
+                        channel,
+                        "HTTP/1.1 " + status + " Redirect\r\n" +
+                                (location != null ? "Location: " + new URL(connection.getURL(), location) + "\r\n" : "") +
+                                "Content-Length: 0\r\n\r\n",
+                        buffer
+                );
+                return true;
+            }
+            if (status != HttpURLConnection.HTTP_OK && status != HttpURLConnection.HTTP_PARTIAL) {
+                writeHeaders(channel, "HTTP/1.1 " + status + " Origin Error\r\nContent-Length: 0\r\n\r\n", buffer);
+                return true;
+            }
+
+            final long contentLength = connection.getContentLengthLong();
+            final String contentType = connection.getContentType() != null
+                    ? connection.getContentType()
+                    : "application/octet-stream";
+            final StringBuilder headers = new StringBuilder();
+            headers.append("HTTP/1.1 ").append(status).append(status == HttpURLConnection.HTTP_OK ? " OK" : " Partial Content").append("\r\n");
+            final String contentRange = connection.getHeaderField("Content-Range");
+            if (contentRange != null) {
+                headers.append("Content-Range: ").append(contentRange).append("\r\n");
+            }
+            if (contentLength >= 0) {
+                headers.append("Content-Length: ").append(contentLength).append("\r\n");
+            } else {
+                headers.append("Connection: close\r\n");
+            }
+            headers.append("Accept-Ranges: bytes\r\n")
+                    .append("Content-Type: ").append(contentType).append("\r\n\r\n");
+            writeHeaders(channel, headers.toString(), buffer);
+
+            if (request.isHead) {
+                return true;
+            }
+
+            // only a response carrying the whole media is worth keeping, manifests change
+            final boolean isWholeMedia = status == HttpURLConnection.HTTP_OK
+                    && contentLength > 0
+                    && !isManifestType(contentType)
+                    && !isManifestUrl(url.toLowerCase(Locale.ROOT))
+                    && !isManifestUrl(connection.getURL().toString().toLowerCase(Locale.ROOT));
+            final Fill fill = isWholeMedia ? startFill(url) : null;
+            if (fill == null) {
+                try (InputStream input = connection.getInputStream()) {
+                    cache.onBytesFromNetwork(copy(Channels.newChannel(input), channel, contentLength, buffer));
+                }
+                return contentLength >= 0;
+            }
+
+            final File tempFile;
+            try {
+                tempFile = cache.newTempFile();
+            } catch (IOException e) {
+                finishFill(url);
+                throw e;
+            }
+            // opened before the fill may commit the file under another name
+            try (RandomAccessFile input = new RandomAccessFile(tempFile, "r")) {
+                fillExecutor.execute(() -> fillCache(connection, url, tempFile, contentLength, fill));
+                isFilling = true;
+                streamFill(input.getChannel(), channel, contentLength, fill);
+            } catch (RejectedExecutionException e) {
+                finishFill(url);
+                tempFile.delete();
+                throw new IOException(e);
+            }
+            return true;
+        } finally {
+            if (!isFilling) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Returns the fill of {@code url} to start, or null when it is being filled already.
+     */
+    @Nullable
+    private synchronized Fill startFill(@NonNull String url) {
+        if (fills.containsKey(url)) {
+            return null;
+        }
+        final Fill fill = new Fill();
+        fills.put(url, fill);
+        return fill;
+    }
+
+    private synchronized void finishFill(@NonNull String url) {
+        fills.remove(url);
+    }
+
+    /**
+     * Writes the {@code contentLength} bytes of the response of {@code connection} to
+     * {@code tempFile}, then commits it as the entry of {@code url}, whether or not the player is
+     * still reading it.
+     */
+    private void fillCache(
+            @NonNull HttpURLConnection connection,
+            @NonNull String url,
+            @NonNull File tempFile,
+            long contentLength,
+            @NonNull Fill fill
+    ) {
+        boolean complete = false;
+        try (
+                InputStream input = connection.getInputStream();
+                FileOutputStream output = new FileOutputStream(tempFile)
+        ) {
+            final FileChannel fileChannel = output.getChannel();
+            final ReadableByteChannel inputChannel = Channels.newChannel(input);
+            final ByteBuffer buffer = ByteBuffer.allocate(FILL_BUFFER_SIZE);
+            long copied = 0;
+            while (copied < contentLength) {
+                buffer.clear();
+                if (contentLength - copied < buffer.capacity()) {
+                    buffer.limit((int) (contentLength - copied));
+                }
+                final int read = inputChannel.read(buffer);
+                if (read < 0) {
+                    throw new IOException("Media shorter than announced");
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    fileChannel.write(buffer);
+                }
+                copied += read;
+                cache.onBytesFromNetwork(read);
+                fill.onWritten(copied);
+            }
+            complete = true;
+        } catch (IOException e) {
+            fill.fail(e);
+        } finally {
+            connection.disconnect();
+            if (complete) {
+                cache.commit(url, tempFile);
+            } else {
+                tempFile.delete();
+            }
+            finishFill(url);
+        }
+    }
+
+    /**
+     * Streams the {@code contentLength} bytes of a media to the player as {@code fill} writes them
+     * to {@code file}.
+     */
+    private static void streamFill(
+            @NonNull FileChannel file,
+            @NonNull SocketChannel channel,
+            long contentLength,
+            @NonNull Fill fill
+    ) throws IOException {
+        long sent = 0;
+        while (sent < contentLength) {
+            final long written = fill.awaitBytesAfter(sent);
+            while (sent < written) {
+                final long transferred = file.transferTo(sent, written - sent, channel);
+                if (transferred <= 0) {
+                    throw new IOException("Cached media shorter than expected");
+                }
+                sent += transferred;
+            }
+        }
+    }
+
+    /**
+     * Returns a connection to {@code url} which got a response, once the redirects are followed,
+     * across protocols too, up to {@link #MAX_REDIRECTS}.
+     */
+    @NonNull
+    private static HttpURLConnection openOrigin(@NonNull String url, @NonNull Request request) throws IOException {
+        URL target = new URL(url);
+        for (int redirects = 0; ; redirects++) {
+            final HttpURLConnection connection = (HttpURLConnection) target.openConnection();
+            try {
+                connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+                connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+                // HttpURLConnection never follows a redirect from http to https or back
+                connection.setInstanceFollowRedirects(false);
+                connection.setRequestMethod(request.isHead ? "HEAD" : "GET");
+                if (request.hasRange()) {
+                    connection.setRequestProperty(
+                            "Range",
+                            "bytes=" + request.rangeStart + "-" + (request.rangeEnd >= 0 ? request.rangeEnd : "")
+                    );
+                }
+                final int status = connection.getResponseCode();
+                final String location = connection.getHeaderField("Location");
+                if (!isRedirect(status) || location == null || redirects == MAX_REDIRECTS) {
+                    return connection;
+                }
+                target = new URL(connection.getURL(), location);
+            } catch (IOException | RuntimeException e) {
+                connection.disconnect();
+                throw e;
+            }
+            connection.disconnect();
+        }
+    }
+
+    private static boolean isRedirect(int status) {
+        return status == HttpURLConnection.HTTP_MOVED_PERM
+                || status == HttpURLConnection.HTTP_MOVED_TEMP
+                || status == HttpURLConnection.HTTP_SEE_OTHER
+                || status == 307
+                || status == 308;
+    }
+
+    private static boolean isManifestUrl(@NonNull String lowerUrl) {
+        int end = lowerUrl.length();
+        final int query = lowerUrl.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        final int fragment = lowerUrl.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        final String path = lowerUrl.substring(0, end);
+        for (String extension : MANIFEST_EXTENSIONS) {
+            if (path.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isManifestType(@NonNull String contentType) {
+        final int parameters = contentType.indexOf(';');
+        final String type = (parameters >= 0 ? contentType.substring(0, parameters) : contentType)
+                .trim()
+                .toLowerCase(Locale.ROOT);
+        for (String manifestType : MANIFEST_TYPES) {
+            if (type.equals(manifestType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,178 @@
+package software.solid.fluttervlcplayer;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Complete media files downloaded over http(s), kept on disk up to a total size.
+ *
+ * <p>Each media is stored in a file named after the hash of its url, and its last access is the
+ * modification time of the file, so the directory itself is the index: it is read back on the next
+ * start and survives restarts without a separate index to keep in sync. The least recently used
+ * media are deleted first once the size cap is exceeded. A download in progress is written to a
+ * temporary file, which only becomes a cache entry once complete, so an interrupted download never
+ * leaves a truncated entry behind.
+ *
+ * <p>This class is thread-safe.
+ */
+final class MediaDiskCache {
+
+    static final class Stats {
+        final long hits;
+        final long misses;
+        final long bytesFromCache;
+        final long bytesFromNetwork;
+        final long evictions;
+        final long sizeBytes;
+
+        Stats(long hits, long misses, long bytesFromCache, long bytesFromNetwork, long evictions, long sizeBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.bytesFromCache = bytesFromCache;
+            this.bytesFromNetwork = bytesFromNetwork;
+            this.evictions = evictions;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+
+    private static final String TAG = "MediaDiskCache";
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final File directory;
+    private final long maxBytes;
+    // the least recently used first, file name to length
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long sizeBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long bytesFromCache = 0;
+    private long bytesFromNetwork = 0;
+    private long evictions = 0;
+
+    MediaDiskCache(@NonNull File directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        load();
+    }
+
+    private void load() {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "Could not create " + directory);
+            return;
+        }
+
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        synchronized (this) {
+            for (File file : files) {
+                if (file.getName().endsWith(TEMP_SUFFIX)) {
+                    // left by a download the process did not finish
+                    file.delete();
+                } else {
+                    entries.put(file.getName(), file.length());
+                    sizeBytes += file.length();
+                }
+            }
+            trimToSize();
+        }
+    }
+
+    /**
+     * Returns the file of the media at {@code url} and marks it used, or null if it is not cached.
+     * A file deleted by a later eviction stays readable by the reader which already opened it.
+     */
+    @Nullable
+    synchronized File get(@NonNull String url) {
+        final String name = nameOf(url);
+        if (entries.get(name) == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        final File file = new File(directory, name);
+        file.setLastModified(System.currentTimeMillis());
+        return file;
+    }
+
+    /**
+     * Returns a new temporary file to download a media to.
+     */
+    @NonNull
+    File newTempFile() throws IOException {
+        return File.createTempFile("download", TEMP_SUFFIX, directory);
+    }
+
+    /**
+     * Makes the complete download in {@code tempFile} the entry of {@code url}, unless it is larger
+     * than the whole cache.
+     */
+    synchronized void commit(@NonNull String url, @NonNull File tempFile) {
+        final long length = tempFile.length();
+        final String name = nameOf(url);
+        final File file = new File(directory, name);
+        if (length > maxBytes || !tempFile.renameTo(file)) {
+            tempFile.delete();
+            return;
+        }
+
+        final Long previous = entries.put(name, length);
+        sizeBytes += length - (previous != null ? previous : 0);
+        trimToSize();
+    }
+
+    synchronized void onBytesFromCache(long count) {
+        bytesFromCache += count;
+    }
+
+    synchronized void onBytesFromNetwork(long count) {
+        bytesFromNetwork += count;
+    }
+
+    @NonNull
+    synchronized Stats getStats() {
+        return new Stats(hits, misses, bytesFromCache, bytesFromNetwork, evictions, sizeBytes);
+    }
+
+    private void trimToSize() {
+        final Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (sizeBytes > maxBytes && iterator.hasNext()) {
+            final Map.Entry<String, Long> entry = iterator.next();
+            new File(directory, entry.getKey()).delete();
+            sizeBytes -= entry.getValue();
+            evictions++;
+            iterator.remove();
+        }
+    }
+
+    @NonNull
+    private static String nameOf(@NonNull String url) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder name = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Android release has SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.Media;
+import org.videolan.libvlc.interfaces.IMedia;
+
+import android.content.Context;
+import android.net.Uri;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses media without playing them, and keeps what was parsed.
+ *
+ * <p>The duration, tracks and meta data of a media are only known to a player once it plays it.
+ * The parser reads them with the libvlc preparser instead, every media of a batch being parsed at
+ * once on a LibVLC instance of its own, and keeps the results in memory, the least recently used
+ * being dropped first. A result is kept for as long as its media is unchanged: the modification
+ * time of a file is checked on every lookup, the {@code ETag} or {@code Last-Modified} of an http(s)
+ * media once {@link #REVALIDATE_MILLIS} have passed, the media of a batch in parallel, and an asset
+ * never changes. Other media are parsed again after that delay. The info of an http(s) media whose
+ * origin cannot be reached is kept until it can.
+ *
+ * <p>{@link #parse} blocks until the batch is parsed, it must run off the platform thread.
+ *
+ * <p>This class is thread-safe.
+ */
+final class MediaParser {
+
+    static final class Request {
+        /** The uri the result is reported for. */
+        final String uri;
+        /** The url libvlc opens, the asset path for an asset. */
+        final String url;
+        final boolean isAssetUrl;
+
+        Request(@NonNull String uri, @NonNull String url, boolean isAssetUrl) {
+            this.uri = uri;
+            this.url = url;
+            this.isAssetUrl = isAssetUrl;
+        }
+    }
+
+    private static final class Entry {
+        final Map<Object, Object> info;
+        /** The modification time or the http validator of the media, null when it has none. */
+        @Nullable
+        final String validator;
+        long checkedAtMillis;
+
+        Entry(@NonNull Map<Object, Object> info, @Nullable String validator, long checkedAtMillis) {
+            this.info = info;
+            this.validator = validator;
+            this.checkedAtMillis = checkedAtMillis;
+        }
+    }
+
+    static final int DEFAULT_TIMEOUT_MILLIS = 10000;
+    private static final String TAG = "MediaParser";
+    private static final int MAX_ENTRIES = 256;
+    private static final long REVALIDATE_MILLIS = 5 * 60 * 1000;
+    private static final int VALIDATE_THREADS = 4;
+    private static final int CONNECT_TIMEOUT_MILLIS = 15000;
+    private static final int READ_TIMEOUT_MILLIS = 15000;
+
+    private final Context context;
+    private final ExecutorService validateExecutor;
+    // the least recently used first, keyed by url
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    @Nullable
+    private LibVLC libVLC;
+
+    MediaParser(@NonNull Context context) {
+        this.context = context.getApplicationContext();
+        final AtomicInteger threadCount = new AtomicInteger();
+        validateExecutor = Executors.newFixedThreadPool(VALIDATE_THREADS, runnable -> {
+            final Thread thread = new Thread(runnable, "VLCParseValidate-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the info of every media of {@code requests}, in order, parsing those not cached
+     * for at most {@code timeoutMillis} altogether. The http(s) media cached for long are first
+     * revalidated, all at once and for at most as long, the info of a media whose origin does not
+     * answer in time being kept as is.
+     */
+    @NonNull
+    List<Object> parse(@NonNull List<Request> requests, long timeoutMillis) {
+        final Object[] results = new Object[requests.size()];
+        final List<Integer> misses = new ArrayList<>();
+        final List<Integer> stale = new ArrayList<>();
+        final List<Entry> staleEntries = new ArrayList<>();
+        final List<Future<String>> revalidations = new ArrayList<>();
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < requests.size(); i++) {
+            final Request request = requests.get(i);
+            final Entry entry;
+            synchronized (this) {
+                entry = entries.get(request.url);
+            }
+            if (entry == null) {
+                misses.add(i);
+            } else if (isFresh(request, entry, now)) {
+                results[i] = withUri(entry.info, request.uri);
+            } else if (canRevalidate(request, entry)) {
+                // a round trip, still far cheaper than parsing again
+                stale.add(i);
+                staleEntries.add(entry);
+                revalidations.add(validateExecutor.submit(() -> httpValidator(request.url)));
+            } else {
+                misses.add(i);
+            }
+        }
+
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (int i = 0; i < stale.size(); i++) {
+            final Entry entry = staleEntries.get(i);
+            final int index = stale.get(i);
+            final String validator = await(revalidations.get(i), deadlineNanos);
+            if (validator == null || entry.validator.equals(validator)) {
+                if (validator != null) {
+                    synchronized (this) {
+                        entry.checkedAtMillis = now;
+                    }
+                }
+                // stale rather than parsed again from an origin which does not answer
+                results[index] = withUri(entry.info, requests.get(index).uri);
+            } else {
+                misses.add(index);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            final List<Request> missed = new ArrayList<>(misses.size());
+            for (int index : misses) {
+                missed.add(requests.get(index));
+            }
+            final List<Map<Object, Object>> parsed = parseAll(missed, timeoutMillis);
+            for (int i = 0; i < misses.size(); i++) {
+                results[misses.get(i)] = withUri(parsed.get(i), missed.get(i).uri);
+            }
+        }
+
+        final List<Object> list = new ArrayList<>(results.length);
+        Collections.addAll(list, results);
+        return list;
+    }
+
+    synchronized void release() {
+        if (libVLC != null) {
+            LibVlcCache.release(libVLC);
+            libVLC = null;
+        }
+        validateExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns whether {@code entry} still holds the info of the media of {@code request}, without
+     * a round trip to the origin of the media.
+     */
+    private boolean isFresh(@NonNull Request request, @NonNull Entry entry, long now) {
+        if (request.isAssetUrl) {
+            return true;
+        }
+
+        final File file = fileOf(request.url);
+        if (file != null) {
+            return String.valueOf(file.lastModified()).equals(entry.validator);
+        }
+        synchronized (this) {
+            return now - entry.checkedAtMillis < REVALIDATE_MILLIS;
+        }
+    }
+
+    private static boolean canRevalidate(@NonNull Request request, @NonNull Entry entry) {
+        return entry.validator != null && !request.isAssetUrl && isHttpUrl(request.url);
+    }
+
+    @NonNull
+    private List<Map<Object, Object>> parseAll(@NonNull List<Request> requests, long timeoutMillis) {
+        final List<Future<String>> validators = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            validators.add(validatorAsync(request));
+        }
+
+        final LibVLC libVLC = getLibVLC();
+        final Media[] medias = new Media[requests.size()];
+        final int[] statuses = new int[requests.size()];
+        final CountDownLatch parsed = new CountDownLatch(requests.size());
+        // the media events are delivered on the main looper, which would wait for this thread
+        final boolean isAsync = Looper.myLooper() != Looper.getMainLooper();
+
+        for (int i = 0; i < requests.size(); i++) {
+            final int index = i;
+            try {
+                final Media media = createMedia(libVLC, requests.get(i));
+                medias[i] = media;
+                if (isAsync) {
+                    media.setEventListener(event -> {
+                        if (event.type == Media.Event.ParsedChanged) {
+                            synchronized (statuses) {
+                                statuses[index] = event.getParsedStatus();
+                            }
+                            parsed.countDown();
+                        }
+                    });
+                    if (!media.parseAsync(IMedia.Parse.ParseNetwork, (int) timeoutMillis)) {
+                        statuses[i] = IMedia.ParsedStatus.Failed;
+                        parsed.countDown();
+                    }
+                } else {
+                    statuses[i] = media.parse(IMedia.Parse.ParseNetwork) && media.isParsed()
+                            ? IMedia.ParsedStatus.Done
+                            : IMedia.ParsedStatus.Failed;
+                }
+            } catch (IOException e) {
+                Log.w(TAG, "Could not open " + requests.get(i).url, e);
+                statuses[i] = IMedia.ParsedStatus.Failed;
+                parsed.countDown();
+            }
+        }
+
+        if (isAsync) {
+            try {
+                // the preparser times out by itself, this only guards against a lost event
+                parsed.await(timeoutMillis + 1000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        final List<Map<Object, Object>> infos = new ArrayList<>(requests.size());
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < requests.size(); i++) {
+            final Media media = medias[i];
+            final int status;
+            synchronized (statuses) {
+                status = statuses[i] != 0 ? statuses[i] : IMedia.ParsedStatus.Timeout;
+            }
+            final Map<Object, Object> info = media != null && status == IMedia.ParsedStatus.Done
+                    ? infoOf(media)
+                    : failedInfo(status);
+            if (media != null) {
+                media.setEventListener(null);
+                media.release();
+            }
+            infos.add(info);
+
+            if (status == IMedia.ParsedStatus.Done) {
+                final String validator = await(validators.get(i));
+                synchronized (this) {
+                    entries.put(requests.get(i).url, new Entry(info, validator, now));
+                }
+            }
+        }
+        return infos;
+    }
+
+    @NonNull
+    private synchronized LibVLC getLibVLC() {
+        if (libVLC == null) {
+            libVLC = LibVlcCache.acquire(context, Collections.emptyList());
+        }
+        return libVLC;
+    }
+
+    @NonNull
+    private Media createMedia(@NonNull LibVLC libVLC, @NonNull Request request) throws IOException {
+        if (!request.isAssetUrl) {
+            final File file = fileOf(request.url);
+            return file != null ? new Media(libVLC, file.getPath()) : new Media(libVLC, Uri.parse(request.url));
+        }
+        try {
+            return new Media(libVLC, context.getAssets().openFd(request.url));
+        } catch (FileNotFoundException e) {
+            return new Media(libVLC, Uri.parse(AssetStreamServer.urlFor(context, request.url)));
+        }
+    }
+
+    @NonNull
+    private Future<String> validatorAsync(@NonNull Request request) {
+        final File file = fileOf(request.url);
+        if (file != null) {
+            final String validator = String.valueOf(file.lastModified());
+            return validateExecutor.submit(() -> validator);
+        }
+        if (!request.isAssetUrl && isHttpUrl(request.url)) {
+            return validateExecutor.submit(() -> httpValidator(request.url));
+        }
+        return validateExecutor.submit(() -> null);
+    }
+
+    /**
+     * Returns the validator computed by {@code validator}, or null when it is not done by
+     * {@code deadlineNanos}.
+     */
+    @Nullable
+    private static String await(@NonNull Future<String> validator, long deadlineNanos) {
+        try {
+            return validator.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            validator.cancel(true);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    @Nullable
+    private static String await(@NonNull Future<String> validator) {
+        try {
+            return validator.get();
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Returns the {@code ETag} of the http(s) media at {@code url}, or its {@code Last-Modified},
+     * or null when it has neither or cannot be reached.
+     */
+    @Nullable
+    private static String httpValidator(@NonNull String url) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            try {
+                connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+                connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+                connection.setRequestMethod("HEAD");
+                if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                    return null;
+                }
+                final String etag = connection.getHeaderField("ETag");
+                return etag != null ? "etag:" + etag : connection.getHeaderField("Last-Modified");
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static File fileOf(@NonNull String url) {
+        if (url.startsWith("/")) {
+            return new File(url);
+        }
+        if (url.toLowerCase(Locale.ROOT).startsWith("file://")) {
+            final String path = Uri.parse(url).getPath();
+            return path != null ? new File(path) : null;
+        }
+        return null;
+    }
+
+    private static boolean isHttpUrl(@NonNull String url) {
+        final String lower = url.toLowerCase(Locale.ROOT);
+        return lower.startsWith("http://") || lower.startsWith("https://");
+    }
+
+    @NonNull
+    private static Map<Object, Object> infoOf(@NonNull Media media) {
+        final Map<Object, Object> info = new HashMap<>();
+        info.put("status", (long) IMedia.ParsedStatus.Done);
+        info.put("duration", media.getDuration());
+
+        final List<Object> tracks = new ArrayList<>();
+        for (int i = 0; i < media.getTrackCount(); i++) {
+            final IMedia.Track track = media.getTrack(i);
+            if (track != null) {
+                tracks.add(trackOf(track));
+            }
+        }
+        info.put("tracks", tracks);
+
+        final Map<Object, Object> meta = new HashMap<>();
+        putMeta(meta, "title", media.getMeta(IMedia.Meta.Title));
+        putMeta(meta, "artist", media.getMeta(IMedia.Meta.Artist));
+        putMeta(meta, "album", media.getMeta(IMedia.Meta.Album));
+        putMeta(meta, "genre", media.getMeta(IMedia.Meta.Genre));
+        putMeta(meta, "description", media.getMeta(IMedia.Meta.Description));
+        putMeta(meta, "artworkUrl", media.getMeta(IMedia.Meta.ArtworkURL));
+        info.put("meta", meta);
+        return info;
+    }
+
+    @NonNull
+    private static Map<Object, Object> trackOf(@NonNull IMedia.Track track) {
+        final Map<Object, Object> info = new HashMap<>();
+        info.put("id", (long) track.id);
+        info.put("type", (long) track.type);
+        info.put("codec", track.codec);
+        info.put("language", track.language);
+        info.put("description", track.description);
+        info.put("bitrate", (long) track.bitrate);
+        if (track instanceof IMedia.VideoTrack) {
+            final IMedia.VideoTrack video = (IMedia.VideoTrack) track;
+            info.put("width", (long) video.width);
+            info.put("height", (long) video.height);
+            if (video.frameRateDen > 0) {
+                info.put("frameRate", (double) video.frameRateNum / video.frameRateDen);
+            }
+        } else if (track instanceof IMedia.AudioTrack) {
+            final IMedia.AudioTrack audio = (IMedia.AudioTrack) track;
+            info.put("channels", (long) audio.channels);
+            info.put("sampleRate", (long) audio.rate);
+        } else if (track instanceof IMedia.SubtitleTrack) {
+            info.put("encoding", ((IMedia.SubtitleTrack) track).encoding);
+        }
+        return info;
+    }
+
+    private static void putMeta(@NonNull Map<Object, Object> meta, @NonNull String key, @Nullable String value) {
+        if (value != null && !value.isEmpty()) {
+            meta.put(key, value);
+        }
+    }
+
+    @NonNull
+    private static Map<Object, Object> failedInfo(int status) {
+        final Map<Object, Object> info = new HashMap<>();
+        info.put("status", (long) status);
+        return info;
+    }
+
+    @NonNull
+    private static Map<Object, Object> withUri(@NonNull Map<Object, Object> info, @NonNull String uri) {
+        final Map<Object, Object> result = new HashMap<>(info);
+        result.put("uri", uri);
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.Media;
+import org.videolan.libvlc.MediaPlayer;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A cache of the media player values which are reported with every media event.
+ *
+ * <p>Reading them from libvlc means one JNI call per value (and a track array allocation for the
+ * video size), so they are only refreshed by the player events which can actually change them:
+ * track events for the tracks and the video size, {@code LengthChanged} for the duration,
+ * {@code Vout} for the video size and state events for the playing flag. The playback rate is
+ * updated by the player itself whenever it is changed.
+ *
+ * <p>Values are kept boxed, so they are boxed once when they change instead of on every event.
+ *
+ * <p>This class is not thread-safe, it must only be used from the thread libvlc dispatches the
+ * player events on.
+ */
+final class MediaPlayerState {
+    private static final Integer NO_TRACK = -1;
+    private static final Integer ZERO = 0;
+    private static final Float DEFAULT_RATE = 1.0f;
+    private static final Long NO_DURATION = 0L;
+
+    Integer width = ZERO;
+    Integer height = ZERO;
+    Float rate = DEFAULT_RATE;
+    Long duration = NO_DURATION;
+    Integer audioTracksCount = ZERO;
+    Integer activeAudioTrack = NO_TRACK;
+    Integer spuTracksCount = ZERO;
+    Integer activeSpuTrack = NO_TRACK;
+    boolean isPlaying = false;
+
+    /**
+     * Clears the values of the previous media. The playback rate is kept, libvlc applies it to
+     * the next media as well.
+     */
+    void reset() {
+        width = ZERO;
+        height = ZERO;
+        duration = NO_DURATION;
+        audioTracksCount = ZERO;
+        activeAudioTrack = NO_TRACK;
+        spuTracksCount = ZERO;
+        activeSpuTrack = NO_TRACK;
+        isPlaying = false;
+    }
+
+    void refresh(@NonNull MediaPlayer mediaPlayer) {
+        rate = mediaPlayer.getRate();
+        duration = mediaPlayer.getLength();
+        refreshTracks(mediaPlayer);
+    }
+
+    void refreshTracks(@NonNull MediaPlayer mediaPlayer) {
+        audioTracksCount = mediaPlayer.getAudioTracksCount();
+        activeAudioTrack = mediaPlayer.getAudioTrack();
+        spuTracksCount = mediaPlayer.getSpuTracksCount();
+        activeSpuTrack = mediaPlayer.getSpuTrack();
+        refreshVideoSize(mediaPlayer);
+    }
+
+    void refreshVideoSize(@NonNull MediaPlayer mediaPlayer) {
+        // Current video track is only available when the media is playing
+        final Media.VideoTrack currentVideoTrack = mediaPlayer.getCurrentVideoTrack();
+
+        if (currentVideoTrack != null) {
+            width = currentVideoTrack.width;
+            height = currentVideoTrack.height;
+        } else {
+            width = ZERO;
+            height = ZERO;
+        }
+    }
+}
@@ -44,6 +44,42 @@ public class Messages {
     public List<Object> getOptions() { return options; }
     public void setOptions(List<Object> setterArg) { this.options = setterArg; }
 
+    private Long eventRateMode;
+    public Long getEventRateMode() { return eventRateMode; }
+    public void setEventRateMode(Long setterArg) { this.eventRateMode = setterArg; }
+
+    private Long maxEventRate;
+    public Long getMaxEventRate() { return maxEventRate; }
+    public void setMaxEventRate(Long setterArg) { this.maxEventRate = setterArg; }
+
+    private Boolean deltaEvents;
+    public Boolean getDeltaEvents() { return deltaEvents; }
+    public void setDeltaEvents(Boolean setterArg) { this.deltaEvents = setterArg; }
+
+    private Long keyframeInterval;
+    public Long getKeyframeInterval() { return keyframeInterval; }
+    public void setKeyframeInterval(Long setterArg) { this.keyframeInterval = setterArg; }
+
+    private Long eventQueueCapacity;
+    public Long getEventQueueCapacity() { return eventQueueCapacity; }
+    public void setEventQueueCapacity(Long setterArg) { this.eventQueueCapacity = setterArg; }
+
+    private Long eventOverflowPolicy;
+    public Long getEventOverflowPolicy() { return eventOverflowPolicy; }
+    public void setEventOverflowPolicy(Long setterArg) { this.eventOverflowPolicy = setterArg; }
+
+    private Boolean binaryEvents;
+    public Boolean getBinaryEvents() { return binaryEvents; }
+    public void setBinaryEvents(Boolean setterArg) { this.binaryEvents = setterArg; }
+
+    private Boolean positionAnchors;
+    public Boolean getPositionAnchors() { return positionAnchors; }
+    public void setPositionAnchors(Boolean setterArg) { this.positionAnchors = setterArg; }
+
+    private Long eventMask;
+    public Long getEventMask() { return eventMask; }
+    public void setEventMask(Long setterArg) { this.eventMask = setterArg; }
+
     Map<String, Object> toMap() {
       Map<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("viewId", viewId);
@@ -53,6 +89,15 @@ public class Messages {
       toMapResult.put("autoPlay", autoPlay);
       toMapResult.put("hwAcc", hwAcc);
       toMapResult.put("options", options);
+      toMapResult.put("eventRateMode", eventRateMode);
+      toMapResult.put("maxEventRate", maxEventRate);
+      toMapResult.put("deltaEvents", deltaEvents);
+      toMapResult.put("keyframeInterval", keyframeInterval);
+      toMapResult.put("eventQueueCapacity", eventQueueCapacity);
+      toMapResult.put("eventOverflowPolicy", eventOverflowPolicy);
+      toMapResult.put("binaryEvents", binaryEvents);
+      toMapResult.put("positionAnchors", positionAnchors);
+      toMapResult.put("eventMask", eventMask);
       return toMapResult;
     }
     static CreateMessage fromMap(Map<String, Object> map) {
@@ -71,6 +116,24 @@ public class Messages {
       fromMapResult.hwAcc = (hwAcc == null) ? null : ((hwAcc instanceof Integer) ? (Integer)hwAcc : (Long)hwAcc);
       Object options = map.get("options");
       fromMapResult.options = (List<Object>)options;
+      Object eventRateMode = map.get("eventRateMode");
+      fromMapResult.eventRateMode = (eventRateMode == null) ? null : ((eventRateMode instanceof Integer) ? (Integer)eventRateMode : (Long)eventRateMode);
+      Object maxEventRate = map.get("maxEventRate");
+      fromMapResult.maxEventRate = (maxEventRate == null) ? null : ((maxEventRate instanceof Integer) ? (Integer)maxEventRate : (Long)maxEventRate);
+      Object deltaEvents = map.get("deltaEvents");
+      fromMapResult.deltaEvents = (Boolean)deltaEvents;
+      Object keyframeInterval = map.get("keyframeInterval");
+      fromMapResult.keyframeInterval = (keyframeInterval == null) ? null : ((keyframeInterval instanceof Integer) ? (Integer)keyframeInterval : (Long)keyframeInterval);
+      Object eventQueueCapacity = map.get("eventQueueCapacity");
+      fromMapResult.eventQueueCapacity = (eventQueueCapacity == null) ? null : ((eventQueueCapacity instanceof Integer) ? (Integer)eventQueueCapacity : (Long)eventQueueCapacity);
+      Object eventOverflowPolicy = map.get("eventOverflowPolicy");
+      fromMapResult.eventOverflowPolicy = (eventOverflowPolicy == null) ? null : ((eventOverflowPolicy instanceof Integer) ? (Integer)eventOverflowPolicy : (Long)eventOverflowPolicy);
+      Object binaryEvents = map.get("binaryEvents");
+      fromMapResult.binaryEvents = (Boolean)binaryEvents;
+      Object positionAnchors = map.get("positionAnchors");
+      fromMapResult.positionAnchors = (Boolean)positionAnchors;
+      Object eventMask = map.get("eventMask");
+      fromMapResult.eventMask = (eventMask == null) ? null : ((eventMask instanceof Integer) ? (Integer)eventMask : (Long)eventMask);
       return fromMapResult;
     }
   }
@@ -210,10 +273,15 @@ public class Messages {
     public Long getPosition() { return position; }
     public void setPosition(Long setterArg) { this.position = setterArg; }
 
+    private Long seekMode;
+    public Long getSeekMode() { return seekMode; }
+    public void setSeekMode(Long setterArg) { this.seekMode = setterArg; }
+
     Map<String, Object> toMap() {
       Map<String, Object> toMapResult = new HashMap<>();
       toMapResult.put("viewId", viewId);
       toMapResult.put("position", position);
+      toMapResult.put("seekMode", seekMode);
       return toMapResult;
     }
     static PositionMessage fromMap(Map<String, Object> map) {
@@ -222,6 +290,8 @@ public class Messages {
       fromMapResult.viewId = (viewId == null) ? null : ((viewId instanceof Integer) ? (Integer)viewId : (Long)viewId);
       Object position = map.get("position");
       fromMapResult.position = (position == null) ? null : ((position instanceof Integer) ? (Integer)position : (Long)position);
+      Object seekMode = map.get("seekMode");
+      fromMapResult.seekMode = (seekMode == null) ? null : ((seekMode instanceof Integer) ? (Integer)seekMode : (Long)seekMode);
       return fromMapResult;
     }
   }
@@ -800,6 +870,394 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlayerStatsMessage {
+    private Long viewId;
+    public Long getViewId() { return viewId; }
+    public void setViewId(Long setterArg) { this.viewId = setterArg; }
+
+    private Map<Object, Object> eventsReceived;
+    public Map<Object, Object> getEventsReceived() { return eventsReceived; }
+    public void setEventsReceived(Map<Object, Object> setterArg) { this.eventsReceived = setterArg; }
+
+    private Long eventsEmitted;
+    public Long getEventsEmitted() { return eventsEmitted; }
+    public void setEventsEmitted(Long setterArg) { this.eventsEmitted = setterArg; }
+
+    private Long eventsDropped;
+    public Long getEventsDropped() { return eventsDropped; }
+    public void setEventsDropped(Long setterArg) { this.eventsDropped = setterArg; }
+
+    private Long eventsCoalesced;
+    public Long getEventsCoalesced() { return eventsCoalesced; }
+    public void setEventsCoalesced(Long setterArg) { this.eventsCoalesced = setterArg; }
+
+    private Long queueHighWaterMark;
+    public Long getQueueHighWaterMark() { return queueHighWaterMark; }
+    public void setQueueHighWaterMark(Long setterArg) { this.queueHighWaterMark = setterArg; }
+
+    private Long handlerBacklog;
+    public Long getHandlerBacklog() { return handlerBacklog; }
+    public void setHandlerBacklog(Long setterArg) { this.handlerBacklog = setterArg; }
+
+    private Double listenerAverageMicros;
+    public Double getListenerAverageMicros() { return listenerAverageMicros; }
+    public void setListenerAverageMicros(Double setterArg) { this.listenerAverageMicros = setterArg; }
+
+    private Double listenerP99Micros;
+    public Double getListenerP99Micros() { return listenerP99Micros; }
+    public void setListenerP99Micros(Double setterArg) { this.listenerP99Micros = setterArg; }
+
+    private Long commandsSuperseded;
+    public Long getCommandsSuperseded() { return commandsSuperseded; }
+    public void setCommandsSuperseded(Long setterArg) { this.commandsSuperseded = setterArg; }
+
+    private Long startupMillis;
+    public Long getStartupMillis() { return startupMillis; }
+    public void setStartupMillis(Long setterArg) { this.startupMillis = setterArg; }
+
+    private Long rebufferCount;
+    public Long getRebufferCount() { return rebufferCount; }
+    public void setRebufferCount(Long setterArg) { this.rebufferCount = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("viewId", viewId);
+      toMapResult.put("eventsReceived", eventsReceived);
+      toMapResult.put("eventsEmitted", eventsEmitted);
+      toMapResult.put("eventsDropped", eventsDropped);
+      toMapResult.put("eventsCoalesced", eventsCoalesced);
+      toMapResult.put("queueHighWaterMark", queueHighWaterMark);
+      toMapResult.put("handlerBacklog", handlerBacklog);
+      toMapResult.put("listenerAverageMicros", listenerAverageMicros);
+      toMapResult.put("listenerP99Micros", listenerP99Micros);
+      toMapResult.put("commandsSuperseded", commandsSuperseded);
+      toMapResult.put("startupMillis", startupMillis);
+      toMapResult.put("rebufferCount", rebufferCount);
+      return toMapResult;
+    }
+    static PlayerStatsMessage fromMap(Map<String, Object> map) {
+      PlayerStatsMessage fromMapResult = new PlayerStatsMessage();
+      Object viewId = map.get("viewId");
+      fromMapResult.viewId = (viewId == null) ? null : ((viewId instanceof Integer) ? (Integer)viewId : (Long)viewId);
+      Object eventsReceived = map.get("eventsReceived");
+      fromMapResult.eventsReceived = (Map<Object, Object>)eventsReceived;
+      Object eventsEmitted = map.get("eventsEmitted");
+      fromMapResult.eventsEmitted = (eventsEmitted == null) ? null : ((eventsEmitted instanceof Integer) ? (Integer)eventsEmitted : (Long)eventsEmitted);
+      Object eventsDropped = map.get("eventsDropped");
+      fromMapResult.eventsDropped = (eventsDropped == null) ? null : ((eventsDropped instanceof Integer) ? (Integer)eventsDropped : (Long)eventsDropped);
+      Object eventsCoalesced = map.get("eventsCoalesced");
+      fromMapResult.eventsCoalesced = (eventsCoalesced == null) ? null : ((eventsCoalesced instanceof Integer) ? (Integer)eventsCoalesced : (Long)eventsCoalesced);
+      Object queueHighWaterMark = map.get("queueHighWaterMark");
+      fromMapResult.queueHighWaterMark = (queueHighWaterMark == null) ? null : ((queueHighWaterMark instanceof Integer) ? (Integer)queueHighWaterMark : (Long)queueHighWaterMark);
+      Object handlerBacklog = map.get("handlerBacklog");
+      fromMapResult.handlerBacklog = (handlerBacklog == null) ? null : ((handlerBacklog instanceof Integer) ? (Integer)handlerBacklog : (Long)handlerBacklog);
+      Object listenerAverageMicros = map.get("listenerAverageMicros");
+      fromMapResult.listenerAverageMicros = (Double)listenerAverageMicros;
+      Object listenerP99Micros = map.get("listenerP99Micros");
+      fromMapResult.listenerP99Micros = (Double)listenerP99Micros;
+      Object commandsSuperseded = map.get("commandsSuperseded");
+      fromMapResult.commandsSuperseded = (commandsSuperseded == null) ? null : ((commandsSuperseded instanceof Integer) ? (Integer)commandsSuperseded : (Long)commandsSuperseded);
+      Object startupMillis = map.get("startupMillis");
+      fromMapResult.startupMillis = (startupMillis == null) ? null : ((startupMillis instanceof Integer) ? (Integer)startupMillis : (Long)startupMillis);
+      Object rebufferCount = map.get("rebufferCount");
+      fromMapResult.rebufferCount = (rebufferCount == null) ? null : ((rebufferCount instanceof Integer) ? (Integer)rebufferCount : (Long)rebufferCount);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class EventMaskMessage {
+    private Long viewId;
+    public Long getViewId() { return viewId; }
+    public void setViewId(Long setterArg) { this.viewId = setterArg; }
+
+    private Long mask;
+    public Long getMask() { return mask; }
+    public void setMask(Long setterArg) { this.mask = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("viewId", viewId);
+      toMapResult.put("mask", mask);
+      return toMapResult;
+    }
+    static EventMaskMessage fromMap(Map<String, Object> map) {
+      EventMaskMessage fromMapResult = new EventMaskMessage();
+      Object viewId = map.get("viewId");
+      fromMapResult.viewId = (viewId == null) ? null : ((viewId instanceof Integer) ? (Integer)viewId : (Long)viewId);
+      Object mask = map.get("mask");
+      fromMapResult.mask = (mask == null) ? null : ((mask instanceof Integer) ? (Integer)mask : (Long)mask);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PrewarmMessage {
+    private List<Object> options;
+    public List<Object> getOptions() { return options; }
+    public void setOptions(List<Object> setterArg) { this.options = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("options", options);
+      return toMapResult;
+    }
+    static PrewarmMessage fromMap(Map<String, Object> map) {
+      PrewarmMessage fromMapResult = new PrewarmMessage();
+      Object options = map.get("options");
+      fromMapResult.options = (List<Object>)options;
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PreloadMessage {
+    private Long viewId;
+    public Long getViewId() { return viewId; }
+    public void setViewId(Long setterArg) { this.viewId = setterArg; }
+
+    private String uri;
+    public String getUri() { return uri; }
+    public void setUri(String setterArg) { this.uri = setterArg; }
+
+    private Long type;
+    public Long getType() { return type; }
+    public void setType(Long setterArg) { this.type = setterArg; }
+
+    private String packageName;
+    public String getPackageName() { return packageName; }
+    public void setPackageName(String setterArg) { this.packageName = setterArg; }
+
+    private Long hwAcc;
+    public Long getHwAcc() { return hwAcc; }
+    public void setHwAcc(Long setterArg) { this.hwAcc = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("viewId", viewId);
+      toMapResult.put("uri", uri);
+      toMapResult.put("type", type);
+      toMapResult.put("packageName", packageName);
+      toMapResult.put("hwAcc", hwAcc);
+      return toMapResult;
+    }
+    static PreloadMessage fromMap(Map<String, Object> map) {
+      PreloadMessage fromMapResult = new PreloadMessage();
+      Object viewId = map.get("viewId");
+      fromMapResult.viewId = (viewId == null) ? null : ((viewId instanceof Integer) ? (Integer)viewId : (Long)viewId);
+      Object uri = map.get("uri");
+      fromMapResult.uri = (String)uri;
+      Object type = map.get("type");
+      fromMapResult.type = (type == null) ? null : ((type instanceof Integer) ? (Integer)type : (Long)type);
+      Object packageName = map.get("packageName");
+      fromMapResult.packageName = (String)packageName;
+      Object hwAcc = map.get("hwAcc");
+      fromMapResult.hwAcc = (hwAcc == null) ? null : ((hwAcc instanceof Integer) ? (Integer)hwAcc : (Long)hwAcc);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaylistItemMessage {
+    private Long viewId;
+    public Long getViewId() { return viewId; }
+    public void setViewId(Long setterArg) { this.viewId = setterArg; }
+
+    private Long index;
+    public Long getIndex() { return index; }
+    public void setIndex(Long setterArg) { this.index = setterArg; }
+
+    private String uri;
+    public String getUri() { return uri; }
+    public void setUri(String setterArg) { this.uri = setterArg; }
+
+    private Long type;
+    public Long getType() { return type; }
+    public void setType(Long setterArg) { this.type = setterArg; }
+
+    private String packageName;
+    public String getPackageName() { return packageName; }
+    public void setPackageName(String setterArg) { this.packageName = setterArg; }
+
+    private Long hwAcc;
+    public Long getHwAcc() { return hwAcc; }
+    public void setHwAcc(Long setterArg) { this.hwAcc = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("viewId", viewId);
+      toMapResult.put("index", index);
+      toMapResult.put("uri", uri);
+      toMapResult.put("type", type);
+      toMapResult.put("packageName", packageName);
+      toMapResult.put("hwAcc", hwAcc);
+      return toMapResult;
+    }
+    static PlaylistItemMessage fromMap(Map<String, Object> map) {
+      PlaylistItemMessage fromMapResult = new PlaylistItemMessage();
+      Object viewId = map.get("viewId");
+      fromMapResult.viewId = (viewId == null) ? null : ((viewId instanceof Integer) ? (Integer)viewId : (Long)viewId);
+      Object index = map.get("index");
+      fromMapResult.index = (index == null) ? null : ((index instanceof Integer) ? (Integer)index : (Long)index);
+      Object uri = map.get("uri");
+      fromMapResult.uri = (String)uri;
+      Object type = map.get("type");
+      fromMapResult.type = (type == null) ? null : ((type instanceof Integer) ? (Integer)type : (Long)type);
+      Object packageName = map.get("packageName");
+      fromMapResult.packageName = (String)packageName;
+      Object hwAcc = map.get("hwAcc");
+      fromMapResult.hwAcc = (hwAcc == null) ? null : ((hwAcc instanceof Integer) ? (Integer)hwAcc : (Long)hwAcc);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlaylistIndexMessage {
+    private Long viewId;
+    public Long getViewId() { return viewId; }
+    public void setViewId(Long setterArg) { this.viewId = setterArg; }
+
+    private Long index;
+    public Long getIndex() { return index; }
+    public void setIndex(Long setterArg) { this.index = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("viewId", viewId);
+      toMapResult.put("index", index);
+      return toMapResult;
+    }
+    static PlaylistIndexMessage fromMap(Map<String, Object> map) {
+      PlaylistIndexMessage fromMapResult = new PlaylistIndexMessage();
+      Object viewId = map.get("viewId");
+      fromMapResult.viewId = (viewId == null) ? null : ((viewId instanceof Integer) ? (Integer)viewId : (Long)viewId);
+      Object index = map.get("index");
+      fromMapResult.index = (index == null) ? null : ((index instanceof Integer) ? (Integer)index : (Long)index);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class MediaCacheStatsMessage {
+    private Boolean enabled;
+    public Boolean getEnabled() { return enabled; }
+    public void setEnabled(Boolean setterArg) { this.enabled = setterArg; }
+
+    private Long hits;
+    public Long getHits() { return hits; }
+    public void setHits(Long setterArg) { this.hits = setterArg; }
+
+    private Long misses;
+    public Long getMisses() { return misses; }
+    public void setMisses(Long setterArg) { this.misses = setterArg; }
+
+    private Long bytesFromCache;
+    public Long getBytesFromCache() { return bytesFromCache; }
+    public void setBytesFromCache(Long setterArg) { this.bytesFromCache = setterArg; }
+
+    private Long bytesFromNetwork;
+    public Long getBytesFromNetwork() { return bytesFromNetwork; }
+    public void setBytesFromNetwork(Long setterArg) { this.bytesFromNetwork = setterArg; }
+
+    private Long evictions;
+    public Long getEvictions() { return evictions; }
+    public void setEvictions(Long setterArg) { this.evictions = setterArg; }
+
+    private Long sizeBytes;
+    public Long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(Long setterArg) { this.sizeBytes = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("enabled", enabled);
+      toMapResult.put("hits", hits);
+      toMapResult.put("misses", misses);
+      toMapResult.put("bytesFromCache", bytesFromCache);
+      toMapResult.put("bytesFromNetwork", bytesFromNetwork);
+      toMapResult.put("evictions", evictions);
+      toMapResult.put("sizeBytes", sizeBytes);
+      return toMapResult;
+    }
+    static MediaCacheStatsMessage fromMap(Map<String, Object> map) {
+      MediaCacheStatsMessage fromMapResult = new MediaCacheStatsMessage();
+      Object enabled = map.get("enabled");
+      fromMapResult.enabled = (Boolean)enabled;
+      Object hits = map.get("hits");
+      fromMapResult.hits = (hits == null) ? null : ((hits instanceof Integer) ? (Integer)hits : (Long)hits);
+      Object misses = map.get("misses");
+      fromMapResult.misses = (misses == null) ? null : ((misses instanceof Integer) ? (Integer)misses : (Long)misses);
+      Object bytesFromCache = map.get("bytesFromCache");
+      fromMapResult.bytesFromCache = (bytesFromCache == null) ? null : ((bytesFromCache instanceof Integer) ? (Integer)bytesFromCache : (Long)bytesFromCache);
+      Object bytesFromNetwork = map.get("bytesFromNetwork");
+      fromMapResult.bytesFromNetwork = (bytesFromNetwork == null) ? null : ((bytesFromNetwork instanceof Integer) ? (Integer)bytesFromNetwork : (Long)bytesFromNetwork);
+      Object evictions = map.get("evictions");
+      fromMapResult.evictions = (evictions == null) ? null : ((evictions instanceof Integer) ? (Integer)evictions : (Long)evictions);
+      Object sizeBytes = map.get("sizeBytes");
+      fromMapResult.sizeBytes = (sizeBytes == null) ? null : ((sizeBytes instanceof Integer) ? (Integer)sizeBytes : (Long)sizeBytes);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class ParseMediaMessage {
+    private List<Object> uris;
+    public List<Object> getUris() { return uris; }
+    public void setUris(List<Object> setterArg) { this.uris = setterArg; }
+
+    private Long type;
+    public Long getType() { return type; }
+    public void setType(Long setterArg) { this.type = setterArg; }
+
+    private String packageName;
+    public String getPackageName() { return packageName; }
+    public void setPackageName(String setterArg) { this.packageName = setterArg; }
+
+    private Long timeoutMillis;
+    public Long getTimeoutMillis() { return timeoutMillis; }
+    public void setTimeoutMillis(Long setterArg) { this.timeoutMillis = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uris", uris);
+      toMapResult.put("type", type);
+      toMapResult.put("packageName", packageName);
+      toMapResult.put("timeoutMillis", timeoutMillis);
+      return toMapResult;
+    }
+    static ParseMediaMessage fromMap(Map<String, Object> map) {
+      ParseMediaMessage fromMapResult = new ParseMediaMessage();
+      Object uris = map.get("uris");
+      fromMapResult.uris = (List<Object>)uris;
+      Object type = map.get("type");
+      fromMapResult.type = (type == null) ? null : ((type instanceof Integer) ? (Integer)type : (Long)type);
+      Object packageName = map.get("packageName");
+      fromMapResult.packageName = (String)packageName;
+      Object timeoutMillis = map.get("timeoutMillis");
+      fromMapResult.timeoutMillis = (timeoutMillis == null) ? null : ((timeoutMillis instanceof Integer) ? (Integer)timeoutMillis : (Long)timeoutMillis);
+      return fromMapResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class ParsedMediaMessage {
+    private List<Object> items;
+    public List<Object> getItems() { return items; }
+    public void setItems(List<Object> setterArg) { this.items = setterArg; }
+
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("items", items);
+      return toMapResult;
+    }
+    static ParsedMediaMessage fromMap(Map<String, Object> map) {
+      ParsedMediaMessage fromMapResult = new ParsedMediaMessage();
+      Object items = map.get("items");
+      fromMapResult.items = (List<Object>)items;
+      return fromMapResult;
+    }
+  }
+
   /** Generated interface from Pigeon that represents a handler of messages from Flutter.*/
   public interface VlcPlayerApi {
     void initialize();
@@ -849,6 +1307,17 @@ public class Messages {
     void castToRenderer(RenderDeviceMessage arg);
     BooleanMessage startRecording(RecordMessage arg);
     BooleanMessage stopRecording(ViewMessage arg);
+    PlayerStatsMessage getPlayerStats(ViewMessage arg);
+    void setEventMask(EventMaskMessage arg);
+    void prewarm(PrewarmMessage arg);
+    void preload(PreloadMessage arg);
+    void appendPlaylistItem(PlaylistItemMessage arg);
+    void insertPlaylistItem(PlaylistItemMessage arg);
+    void removePlaylistItem(PlaylistIndexMessage arg);
+    void playPlaylistItem(PlaylistIndexMessage arg);
+    void clearPlaylist(ViewMessage arg);
+    MediaCacheStatsMessage getMediaCacheStats();
+    ParsedMediaMessage parseMedia(ParseMediaMessage arg);
 
     /** Sets up an instance of `VlcPlayerApi` to handle messages through the `binaryMessenger`. */
     static void setup(BinaryMessenger binaryMessenger, VlcPlayerApi api) {
@@ -1837,6 +2306,235 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.getPlayerStats", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              ViewMessage input = ViewMessage.fromMap((Map<String, Object>)message);
+              PlayerStatsMessage output = api.getPlayerStats(input);
+              wrapped.put("result", output.toMap());
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.setEventMask", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              EventMaskMessage input = EventMaskMessage.fromMap((Map<String, Object>)message);
+              api.setEventMask(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.prewarm", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              PrewarmMessage input = PrewarmMessage.fromMap((Map<String, Object>)message);
+              api.prewarm(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.preload", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              PreloadMessage input = PreloadMessage.fromMap((Map<String, Object>)message);
+              api.preload(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.appendPlaylistItem", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              PlaylistItemMessage input = PlaylistItemMessage.fromMap((Map<String, Object>)message);
+              api.appendPlaylistItem(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.insertPlaylistItem", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              PlaylistItemMessage input = PlaylistItemMessage.fromMap((Map<String, Object>)message);
+              api.insertPlaylistItem(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.removePlaylistItem", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              PlaylistIndexMessage input = PlaylistIndexMessage.fromMap((Map<String, Object>)message);
+              api.removePlaylistItem(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.playPlaylistItem", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              PlaylistIndexMessage input = PlaylistIndexMessage.fromMap((Map<String, Object>)message);
+              api.playPlaylistItem(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.clearPlaylist", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              ViewMessage input = ViewMessage.fromMap((Map<String, Object>)message);
+              api.clearPlaylist(input);
+              wrapped.put("result", null);
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.getMediaCacheStats", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              MediaCacheStatsMessage output = api.getMediaCacheStats();
+              wrapped.put("result", output.toMap());
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(binaryMessenger, "dev.flutter.pigeon.VlcPlayerApi.parseMedia", new StandardMessageCodec());
+        if (api != null) {
+          channel.setMessageHandler((message, reply) -> {
+            Map<String, Object> wrapped = new HashMap<>();
+            try {
+              @SuppressWarnings("ConstantConditions")
+              ParseMediaMessage input = ParseMediaMessage.fromMap((Map<String, Object>)message);
+              ParsedMediaMessage output = api.parseMedia(input);
+              wrapped.put("result", output.toMap());
+            }
+            catch (Error | RuntimeException exception) {
+              wrapped.put("error", wrapError(exception));
+            }
+            reply.reply(wrapped);
+          });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   private static Map<String, Object> wrapError(Throwable exception) {
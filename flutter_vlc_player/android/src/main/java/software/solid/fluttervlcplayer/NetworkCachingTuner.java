@@ -0,0 +1,318 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.interfaces.IMedia;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tunes the network caching of the media per host, from the buffering observed while they play.
+ *
+ * <p>A single {@code --network-caching} value is either too high for a fast connection, delaying
+ * every start, or too low for a slow one, which then rebuffers. Once enabled, every network media
+ * is opened with the {@code :network-caching} and {@code :live-caching} tuned for its host, starting
+ * from the value of the player options, or the libvlc default. Each playback then reports a
+ * {@link Session}: a stall grows the caching of the host by half, or by the average stall when
+ * longer, while a playback of at least {@link #MIN_CLEAN_PLAYBACK_MILLIS} without stalls shrinks
+ * it by a tenth, unless the input was read barely faster than it was played. The values are kept
+ * between {@link #MIN_CACHING_MILLIS} and {@link #MAX_CACHING_MILLIS}, persisted in the shared
+ * preferences of the app for the {@link #MAX_HOSTS} most recently tuned hosts. A host is only
+ * kept once a playback tuned it.
+ *
+ * <p>The media read through a local proxy are tuned for the host of their origin.
+ *
+ * <p>This class is thread-safe.
+ */
+final class NetworkCachingTuner {
+
+    /**
+     * The buffering of a single playback, fed from the player events.
+     *
+     * <p>The playback starts once the buffer is first full. A stall runs from the buffer draining
+     * while playing to it being full again, except after a seek, which always refills the buffer.
+     * Both are measured from the buffering events, handled unless the app unsubscribes from the
+     * time changes and buffering.
+     *
+     * <p>This class is thread-safe.
+     */
+    static final class Session {
+        private final String host;
+        // the caching of the host when not tuned yet
+        private final int initialCachingMillis;
+        private boolean isStarted = false;
+        private boolean isSeeking = false;
+        private boolean isFinished = false;
+        // 0 while paused
+        private long playingSinceNanos = 0;
+        private long playingNanos = 0;
+        // 0 when not stalled
+        private long stallStartNanos = 0;
+        private long stallNanos = 0;
+        private int stallCount = 0;
+
+        private Session(@NonNull String host, int initialCachingMillis) {
+            this.host = host;
+            this.initialCachingMillis = initialCachingMillis;
+        }
+
+        synchronized void onPlaying() {
+            if (playingSinceNanos == 0) {
+                playingSinceNanos = System.nanoTime();
+            }
+        }
+
+        synchronized void onPaused() {
+            if (playingSinceNanos != 0) {
+                playingNanos += System.nanoTime() - playingSinceNanos;
+                playingSinceNanos = 0;
+            }
+            endStall();
+        }
+
+        synchronized void onSeek() {
+            isSeeking = true;
+            endStall();
+        }
+
+        synchronized void onBuffering(float percent) {
+            if (percent >= 100f) {
+                isStarted = true;
+                isSeeking = false;
+                endStall();
+            } else if (isStarted && !isSeeking && playingSinceNanos != 0 && stallStartNanos == 0) {
+                stallStartNanos = System.nanoTime();
+                stallCount++;
+            }
+        }
+
+        /**
+         * Ends the playback and tunes the caching of its host, {@code stats} being the input
+         * statistics of its media if still available. Only the first call counts.
+         */
+        void finish(@Nullable IMedia.Stats stats) {
+            final int stalls;
+            final long playedMillis;
+            final long averageStallMillis;
+            synchronized (this) {
+                if (isFinished) {
+                    return;
+                }
+                isFinished = true;
+                onPaused();
+                if (!isStarted) {
+                    // the media never played, which says nothing about its caching
+                    return;
+                }
+                stalls = stallCount;
+                playedMillis = (playingNanos - stallNanos) / 1000000;
+                averageStallMillis = stallCount > 0 ? stallNanos / stallCount / 1000000 : 0;
+            }
+
+            // the input read barely faster than the media plays leaves no room for a smaller buffer
+            final boolean hasHeadroom = stats == null
+                    || stats.inputBitrate <= 0
+                    || stats.demuxBitrate <= 0
+                    || stats.inputBitrate / stats.demuxBitrate >= MIN_BITRATE_HEADROOM;
+            onSessionFinished(host, initialCachingMillis, stalls, averageStallMillis, playedMillis, hasHeadroom);
+        }
+
+        private void endStall() {
+            if (stallStartNanos != 0) {
+                stallNanos += System.nanoTime() - stallStartNanos;
+                stallStartNanos = 0;
+            }
+        }
+    }
+
+    private static final class Entry {
+        final int cachingMillis;
+        final long updatedAtMillis;
+
+        Entry(int cachingMillis, long updatedAtMillis) {
+            this.cachingMillis = cachingMillis;
+            this.updatedAtMillis = updatedAtMillis;
+        }
+    }
+
+    private static final String PREFERENCES_NAME = "flutter_vlc_player_network_caching";
+    private static final String CACHING_OPTION = "--network-caching=";
+    // the libvlc default
+    private static final int DEFAULT_CACHING_MILLIS = 1000;
+    private static final int MIN_CACHING_MILLIS = 300;
+    private static final int MAX_CACHING_MILLIS = 10000;
+    private static final long MIN_CLEAN_PLAYBACK_MILLIS = 30000;
+    private static final float MIN_BITRATE_HEADROOM = 1.5f;
+    private static final int MAX_HOSTS = 100;
+
+    @Nullable
+    private static SharedPreferences preferences;
+    private static final Map<String, Entry> entries = new HashMap<>();
+
+    private NetworkCachingTuner() {
+    }
+
+    /**
+     * Enables the tuning with the values persisted by the previous runs of the app.
+     */
+    static synchronized void start(@NonNull Context context) {
+        if (preferences != null) {
+            return;
+        }
+
+        preferences = context.getSharedPreferences(PREFERENCES_NAME, Context.MODE_PRIVATE);
+        for (Map.Entry<String, ?> stored : preferences.getAll().entrySet()) {
+            final Entry entry = parseEntry(stored.getValue());
+            if (entry != null) {
+                entries.put(stored.getKey(), entry);
+            }
+        }
+    }
+
+    /**
+     * Returns the caching tuned for the host of {@code url}, starting from the one of
+     * {@code options}, or -1 when the tuning is off or does not apply to the url.
+     */
+    static synchronized int cachingMillisFor(@NonNull String url, @Nullable List<String> options) {
+        final String host = preferences != null ? hostOf(url) : null;
+        if (host == null) {
+            return -1;
+        }
+
+        final Entry entry = entries.get(host);
+        return entry != null ? entry.cachingMillis : initialCachingMillis(options);
+    }
+
+    /**
+     * Returns a new session to report the playback of {@code url} with, or null when the tuning is
+     * off or does not apply to the url. The caching of a host first tuned starts from the one of
+     * {@code options}.
+     */
+    @Nullable
+    static synchronized Session newSession(@NonNull String url, @Nullable List<String> options) {
+        final String host = preferences != null ? hostOf(url) : null;
+        if (host == null) {
+            return null;
+        }
+
+        return new Session(host, initialCachingMillis(options));
+    }
+
+    private static synchronized void onSessionFinished(
+            @NonNull String host,
+            int initialCachingMillis,
+            int stallCount,
+            long averageStallMillis,
+            long playedMillis,
+            boolean hasHeadroom
+    ) {
+        if (preferences == null) {
+            return;
+        }
+
+        final Entry entry = entries.get(host);
+        final int current = entry != null ? entry.cachingMillis : initialCachingMillis;
+        final long next;
+        if (stallCount > 0) {
+            next = current + Math.max(current / 2, averageStallMillis);
+        } else if (playedMillis >= MIN_CLEAN_PLAYBACK_MILLIS && hasHeadroom) {
+            next = current - current / 10;
+        } else {
+            return;
+        }
+
+        final int cachingMillis = (int) Math.max(MIN_CACHING_MILLIS, Math.min(MAX_CACHING_MILLIS, next));
+        final long now = System.currentTimeMillis();
+        entries.put(host, new Entry(cachingMillis, now));
+
+        final SharedPreferences.Editor editor = preferences.edit()
+                .putString(host, cachingMillis + ":" + now);
+        if (entries.size() > MAX_HOSTS) {
+            final String eldest = eldestHost();
+            if (eldest != null) {
+                entries.remove(eldest);
+                editor.remove(eldest);
+            }
+        }
+        editor.apply();
+    }
+
+    @Nullable
+    private static String eldestHost() {
+        String eldest = null;
+        long eldestUpdatedAt = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (entry.getValue().updatedAtMillis < eldestUpdatedAt) {
+                eldest = entry.getKey();
+                eldestUpdatedAt = entry.getValue().updatedAtMillis;
+            }
+        }
+        return eldest;
+    }
+
+    /**
+     * Returns the host of a network url, the host of the origin for a url of a local proxy, or
+     * null for a local url.
+     */
+    @Nullable
+    private static String hostOf(@NonNull String url) {
+        final Uri uri = Uri.parse(url);
+        final String host = uri.getHost();
+        if (host == null || host.isEmpty()) {
+            return null;
+        }
+
+        final String lower = host.toLowerCase(Locale.ROOT);
+        if (!lower.equals("127.0.0.1") && !lower.equals("localhost")) {
+            return lower;
+        }
+        // the proxies address the origin url by the last segment of their path
+        final String path = uri.getEncodedPath();
+        if (path == null) {
+            return null;
+        }
+        final String origin = LoopbackHttpServer.decode(path.substring(path.lastIndexOf('/') + 1));
+        final String lowerOrigin = origin.toLowerCase(Locale.ROOT);
+        return lowerOrigin.startsWith("http://") || lowerOrigin.startsWith("https://") ? hostOf(origin) : null;
+    }
+
+    private static int initialCachingMillis(@Nullable List<String> options) {
+        if (options != null) {
+            for (String option : options) {
+                final String trimmed = option.trim();
+                if (trimmed.startsWith(CACHING_OPTION)) {
+                    try {
+                        return Integer.parseInt(trimmed.substring(CACHING_OPTION.length()).trim());
+                    } catch (NumberFormatException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        return DEFAULT_CACHING_MILLIS;
+    }
+
+    @Nullable
+    private static Entry parseEntry(@Nullable Object value) {
+        if (!(value instanceof String)) {
+            return null;
+        }
+
+        final String[] parts = ((String) value).split(":");
+        try {
+            return parts.length == 2
+                    ? new Entry(Integer.parseInt(parts[0]), Long.parseLong(parts[1]))
+                    : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+
+/**
+ * The commands of a single player waiting to run on its player thread.
+ *
+ * <p>Commands run in order, one at a time. A command of a coalescing {@link Kind} supersedes the
+ * pending command of the same kind, taking its place in the queue, so that only the latest media,
+ * seek target or playback state reaches libvlc while the commands sent after the superseded one
+ * still run after it. A new media also supersedes the pending seek and playback state, which
+ * targeted the previous one and which opening a media resets anyway. Commands are never dropped
+ * otherwise, and a queue never touches the commands of another player even when players share a
+ * thread.
+ *
+ * <p>This class is thread-safe.
+ */
+final class PlayerCommandQueue {
+
+    static final class Kind {
+        /** Always runs. */
+        static final int OTHER = 0;
+        /** The latest media wins. */
+        static final int MEDIA = 1;
+        /** The latest of play, pause and stop wins. */
+        static final int PLAYBACK = 2;
+        /** The latest seek target wins. */
+        static final int SEEK = 3;
+
+        private Kind() {
+        }
+    }
+
+    private static final class Command {
+        final int kind;
+        Runnable action;
+
+        Command(int kind, @NonNull Runnable action) {
+            this.kind = kind;
+            this.action = action;
+        }
+    }
+
+    private final Executor executor;
+    private final ArrayDeque<Command> pending = new ArrayDeque<>();
+    private final Runnable drainRunnable = this::drain;
+    private boolean drainScheduled = false;
+    private long supersededCount = 0;
+
+    PlayerCommandQueue(@NonNull Looper looper) {
+        this(new Handler(looper)::post);
+    }
+
+    /**
+     * Creates a queue running its commands on {@code executor}, which must run them one at a time.
+     */
+    PlayerCommandQueue(@NonNull Executor executor) {
+        this.executor = executor;
+    }
+
+    void enqueue(int kind, @NonNull Runnable action) {
+        synchronized (this) {
+            Command superseded = null;
+            if (kind != Kind.OTHER) {
+                final Iterator<Command> iterator = pending.iterator();
+                while (iterator.hasNext()) {
+                    final Command command = iterator.next();
+                    if (command.kind == kind && superseded == null) {
+                        superseded = command;
+                        supersededCount++;
+                    } else if (supersedes(kind, command.kind)) {
+                        iterator.remove();
+                        supersededCount++;
+                    }
+                }
+            }
+            if (superseded != null) {
+                // a drain is scheduled as long as a command is pending
+                superseded.action = action;
+                return;
+            }
+            pending.addLast(new Command(kind, action));
+            if (drainScheduled) {
+                return;
+            }
+            drainScheduled = true;
+        }
+        executor.execute(drainRunnable);
+    }
+
+    /**
+     * Drops every pending command.
+     */
+    void clear() {
+        synchronized (this) {
+            pending.clear();
+        }
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    synchronized long getSupersededCount() {
+        return supersededCount;
+    }
+
+    private void drain() {
+        final Command command;
+        synchronized (this) {
+            command = pending.pollFirst();
+            if (command == null) {
+                drainScheduled = false;
+                return;
+            }
+        }
+
+        command.action.run();
+
+        // one command per message, so that players sharing a thread take turns
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                drainScheduled = false;
+                return;
+            }
+        }
+        executor.execute(drainRunnable);
+    }
+
+    private static boolean supersedes(int kind, int pendingKind) {
+        return pendingKind == kind ||
+                (kind == Kind.MEDIA && (pendingKind == Kind.SEEK || pendingKind == Kind.PLAYBACK));
+    }
+}
@@ -0,0 +1,67 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.util.SparseArray;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Hands out the threads the players run their libvlc commands on.
+ *
+ * <p>With a positive thread count, players are pinned by view id to one of a fixed pool of threads,
+ * a single thread being the legacy behaviour. With {@link #PER_PLAYER}, every player gets its own
+ * thread, which is quit once the player is released, so that slow commands of a player never
+ * delay the commands of the others.
+ *
+ * <p>This class is thread-safe.
+ */
+final class PlayerDispatcher {
+    static final int PER_PLAYER = 0;
+    static final int DEFAULT_THREADS = 1;
+
+    private final int threadCount;
+    private final HandlerThread[] lanes;
+    private final SparseArray<HandlerThread> playerThreads = new SparseArray<>();
+
+    PlayerDispatcher(int threadCount) {
+        this.threadCount = Math.max(PER_PLAYER, threadCount);
+        this.lanes = new HandlerThread[this.threadCount];
+    }
+
+    @NonNull
+    synchronized Looper acquire(int viewId) {
+        if (threadCount == PER_PLAYER) {
+            HandlerThread thread = playerThreads.get(viewId);
+            if (thread == null) {
+                thread = start("VLCPlayerThread-" + viewId);
+                playerThreads.put(viewId, thread);
+            }
+            return thread.getLooper();
+        }
+
+        final int lane = Math.abs(viewId % threadCount);
+        if (lanes[lane] == null) {
+            lanes[lane] = start(threadCount == 1 ? "VLCBackgroundThread" : "VLCBackgroundThread-" + lane);
+        }
+        return lanes[lane].getLooper();
+    }
+
+    /**
+     * Releases the thread of a player once all the commands it already posted have run.
+     */
+    synchronized void release(int viewId) {
+        final HandlerThread thread = playerThreads.get(viewId);
+        if (thread != null) {
+            playerThreads.remove(viewId);
+            thread.quitSafely();
+        }
+    }
+
+    @NonNull
+    private static HandlerThread start(@NonNull String name) {
+        final HandlerThread thread = new HandlerThread(name);
+        thread.start();
+        return thread;
+    }
+}
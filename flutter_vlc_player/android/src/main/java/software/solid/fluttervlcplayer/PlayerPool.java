@@ -0,0 +1,185 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.MediaPlayer;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Warm LibVLC and media player instances kept once their player is disposed, so that the next
+ * player skips their construction, by far the largest part of its time to the first frame.
+ *
+ * <p>Only the native instances are pooled: they are rebound to the view, event listener and media
+ * of the next player, while the texture and event channels, which are cheap and tied to a view
+ * id, are created for every player. At most {@code maxSize} instances are kept, the least recently
+ * offered being released first, and an instance idle for {@code idleTimeoutMillis} is released on
+ * the pool thread.
+ *
+ * <p>By default an instance is only reused by a player with the same options, as some of them
+ * apply to LibVLC as a whole. With {@link Match#ANY} any instance is reused: the player options
+ * are also applied to every media, only those which apply to LibVLC as a whole are lost.
+ *
+ * <p>This class is thread-safe.
+ */
+final class PlayerPool {
+
+    static final class Match {
+        /** Instances are reused by players with the same options. */
+        static final int OPTIONS = 0;
+        /** Instances are reused by any player. */
+        static final int ANY = 1;
+
+        private Match() {
+        }
+    }
+
+    static final class Entry {
+        final LibVLC libVLC;
+        final MediaPlayer mediaPlayer;
+        /** The options LibVLC was created with. */
+        final List<String> options;
+        final long idleSinceMillis;
+
+        Entry(@NonNull LibVLC libVLC, @NonNull MediaPlayer mediaPlayer, @NonNull List<String> options, long idleSinceMillis) {
+            this.libVLC = libVLC;
+            this.mediaPlayer = mediaPlayer;
+            this.options = options;
+            this.idleSinceMillis = idleSinceMillis;
+        }
+
+        void release() {
+            mediaPlayer.release();
+            LibVlcCache.release(libVLC);
+        }
+    }
+
+    static final int DEFAULT_SIZE = 0;
+    static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30000;
+
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final int match;
+    // the most recently offered last
+    private final ArrayDeque<Entry> idleEntries = new ArrayDeque<>();
+    private final Runnable evictRunnable = this::evictExpired;
+    @Nullable
+    private HandlerThread thread;
+    @Nullable
+    private Handler handler;
+
+    PlayerPool(int maxSize, long idleTimeoutMillis, int match) {
+        this.maxSize = Math.max(0, maxSize);
+        this.idleTimeoutMillis = Math.max(0, idleTimeoutMillis);
+        this.match = match;
+    }
+
+    /**
+     * Returns the warmest instance usable with {@code options}, or null if there is none.
+     */
+    @Nullable
+    synchronized Entry acquire(@NonNull List<String> options) {
+        final Iterator<Entry> iterator = idleEntries.descendingIterator();
+        while (iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            if (match == Match.ANY || LibVlcCache.isCompatible(entry.options, options)) {
+                iterator.remove();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Offers the instances of a disposed player, once its views are detached and its texture view
+     * disposed on the main thread, then its playback stopped. Returns whether the pool took them,
+     * the caller releases them otherwise.
+     */
+    boolean offer(@NonNull LibVLC libVLC, @NonNull MediaPlayer mediaPlayer, @NonNull List<String> options) {
+        if (maxSize == 0 || idleTimeoutMillis == 0) {
+            return false;
+        }
+
+        // the next player starts from the defaults
+        mediaPlayer.setRate(1f);
+        mediaPlayer.setVolume(100);
+        mediaPlayer.setAudioDelay(0);
+        mediaPlayer.setSpuDelay(0);
+        mediaPlayer.setScale(0);
+        mediaPlayer.setAspectRatio(null);
+        mediaPlayer.setRenderer(null);
+
+        final Entry evicted;
+        synchronized (this) {
+            evicted = idleEntries.size() >= maxSize ? idleEntries.pollFirst() : null;
+            idleEntries.addLast(new Entry(libVLC, mediaPlayer, options, SystemClock.uptimeMillis()));
+            if (handler == null) {
+                thread = new HandlerThread("VLCPlayerPool");
+                thread.start();
+                handler = new Handler(thread.getLooper());
+            }
+            if (idleEntries.size() == 1) {
+                handler.removeCallbacks(evictRunnable);
+                handler.postDelayed(evictRunnable, idleTimeoutMillis);
+            }
+        }
+
+        if (evicted != null) {
+            evicted.release();
+        }
+        return true;
+    }
+
+    /**
+     * Releases every idle instance on the pool thread, then stops it.
+     */
+    void clear() {
+        final List<Entry> entries;
+        final HandlerThread thread;
+        final Handler handler;
+        synchronized (this) {
+            entries = new ArrayList<>(idleEntries);
+            idleEntries.clear();
+            thread = this.thread;
+            handler = this.handler;
+            this.thread = null;
+            this.handler = null;
+        }
+
+        if (handler != null) {
+            handler.removeCallbacks(evictRunnable);
+            handler.post(() -> {
+                for (Entry entry : entries) {
+                    entry.release();
+                }
+            });
+            thread.quitSafely();
+        }
+    }
+
+    private void evictExpired() {
+        final List<Entry> expired = new ArrayList<>();
+        synchronized (this) {
+            final long now = SystemClock.uptimeMillis();
+            while (!idleEntries.isEmpty() && idleEntries.peekFirst().idleSinceMillis + idleTimeoutMillis <= now) {
+                expired.add(idleEntries.pollFirst());
+            }
+            if (!idleEntries.isEmpty() && handler != null) {
+                handler.postAtTime(evictRunnable, idleEntries.peekFirst().idleSinceMillis + idleTimeoutMillis);
+            }
+        }
+
+        for (Entry entry : expired) {
+            entry.release();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.MediaPlayer;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runtime counters of the plugin overhead for a single player: the libvlc events received by type
+ * and the time spent handling them in the event listener, along with the startup time and the
+ * rebuffers of its media.
+ *
+ * <p>The startup time runs from the media being opened to its buffer first being full, and a
+ * rebuffer is counted every time the buffer drains after that, seeks included. Both are measured
+ * from the buffering events, which are handled while time changes or buffering are subscribed, as
+ * they are by default.
+ *
+ * <p>Listener times are recorded in a histogram with four buckets per power of two microseconds, so
+ * the reported percentiles are the upper bound of their bucket, at most 25% above the actual value.
+ *
+ * <p>This class is not thread-safe, it must only be used from the thread libvlc dispatches the
+ * player events on, the main thread, where the stats are read as well.
+ */
+final class PlayerStats {
+    // libvlc media player event types are in [0x100, 0x120)
+    private static final int FIRST_EVENT_TYPE = 0x100;
+    private static final int EVENT_TYPE_COUNT = 0x20;
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    private final long[] eventsReceived = new long[EVENT_TYPE_COUNT];
+    private long otherEventsReceived = 0;
+    private final long[] listenerTimeBuckets = new long[64 * SUB_BUCKET_COUNT];
+    private long listenerTimeCount = 0;
+    private long listenerTimeTotalNanos = 0;
+    // set on the player thread, 0 once the media started
+    private volatile long mediaOpenedNanos = 0;
+    private long startupMillis = -1;
+    private long rebufferCount = 0;
+    private boolean isRebuffering = false;
+
+    void onEventReceived(int type) {
+        final int index = type - FIRST_EVENT_TYPE;
+        if (index >= 0 && index < EVENT_TYPE_COUNT) {
+            eventsReceived[index]++;
+        } else {
+            otherEventsReceived++;
+        }
+    }
+
+    void onListenerTime(long nanos) {
+        listenerTimeCount++;
+        listenerTimeTotalNanos += nanos;
+        listenerTimeBuckets[bucketOf(nanos / 1000)]++;
+    }
+
+    /**
+     * Starts measuring the startup time of a new media, may be called from any thread.
+     */
+    void onMediaOpened() {
+        mediaOpenedNanos = System.nanoTime();
+    }
+
+    void onBuffering(float percent) {
+        final long openedNanos = mediaOpenedNanos;
+        if (percent >= 100f) {
+            if (openedNanos != 0) {
+                startupMillis = (System.nanoTime() - openedNanos) / 1000000;
+                mediaOpenedNanos = 0;
+            }
+            isRebuffering = false;
+        } else if (openedNanos == 0 && !isRebuffering) {
+            rebufferCount++;
+            isRebuffering = true;
+        }
+    }
+
+    /**
+     * Returns the startup time of the latest media which started, or -1 if none did.
+     */
+    long getStartupMillis() {
+        return startupMillis;
+    }
+
+    long getRebufferCount() {
+        return rebufferCount;
+    }
+
+    /**
+     * Returns the number of events received so far, keyed by event name.
+     */
+    @NonNull
+    Map<Object, Object> getEventsReceived() {
+        final Map<Object, Object> counts = new HashMap<>();
+        for (int i = 0; i < EVENT_TYPE_COUNT; i++) {
+            if (eventsReceived[i] > 0) {
+                counts.put(eventName(FIRST_EVENT_TYPE + i), eventsReceived[i]);
+            }
+        }
+        if (otherEventsReceived > 0) {
+            counts.put("other", otherEventsReceived);
+        }
+        return counts;
+    }
+
+    double getListenerAverageMicros() {
+        return listenerTimeCount == 0 ? 0 : listenerTimeTotalNanos / 1000.0 / listenerTimeCount;
+    }
+
+    double getListenerPercentileMicros(double percentile) {
+        if (listenerTimeCount == 0) {
+            return 0;
+        }
+
+        final long threshold = (long) Math.ceil(listenerTimeCount * percentile / 100.0);
+        long count = 0;
+        for (int i = 0; i < listenerTimeBuckets.length; i++) {
+            count += listenerTimeBuckets[i];
+            if (count >= threshold) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(listenerTimeBuckets.length - 1);
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) Math.max(0, micros);
+        }
+        final int msb = 63 - Long.numberOfLeadingZeros(micros);
+        final int sub = (int) (micros >> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return msb * SUB_BUCKET_COUNT + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        final int msb = bucket / SUB_BUCKET_COUNT;
+        final int sub = bucket % SUB_BUCKET_COUNT;
+        if (msb < SUB_BUCKET_BITS) {
+            return bucket;
+        }
+        return ((long) (SUB_BUCKET_COUNT + sub + 1) << (msb - SUB_BUCKET_BITS)) - 1;
+    }
+
+    @NonNull
+    private static String eventName(int type) {
+        switch (type) {
+            case MediaPlayer.Event.MediaChanged:
+                return "mediaChanged";
+            case MediaPlayer.Event.Opening:
+                return "opening";
+            case MediaPlayer.Event.Buffering:
+                return "buffering";
+            case MediaPlayer.Event.Playing:
+                return "playing";
+            case MediaPlayer.Event.Paused:
+                return "paused";
+            case MediaPlayer.Event.Stopped:
+                return "stopped";
+            case MediaPlayer.Event.EndReached:
+                return "endReached";
+            case MediaPlayer.Event.EncounteredError:
+                return "encounteredError";
+            case MediaPlayer.Event.TimeChanged:
+                return "timeChanged";
+            case MediaPlayer.Event.PositionChanged:
+                return "positionChanged";
+            case MediaPlayer.Event.SeekableChanged:
+                return "seekableChanged";
+            case MediaPlayer.Event.PausableChanged:
+                return "pausableChanged";
+            case MediaPlayer.Event.LengthChanged:
+                return "lengthChanged";
+            case MediaPlayer.Event.Vout:
+                return "vout";
+            case MediaPlayer.Event.ESAdded:
+                return "esAdded";
+            case MediaPlayer.Event.ESDeleted:
+                return "esDeleted";
+            case MediaPlayer.Event.ESSelected:
+                return "esSelected";
+            case MediaPlayer.Event.RecordChanged:
+                return "recordChanged";
+            default:
+                return "0x" + Integer.toHexString(type);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The media a player plays one after the other, without a round trip to the Dart side between
+ * them.
+ *
+ * <p>The current item is the one playing, or -1 when the player plays a media set outside of the
+ * playlist or none at all. Removing the current item keeps it playing, then the playback goes on
+ * with the item which followed it.
+ *
+ * <p>This class is not thread-safe, it is used on the player thread only.
+ */
+final class Playlist {
+
+    static final class Item {
+        final String url;
+        final boolean isAssetUrl;
+        final long hwAcc;
+
+        Item(@NonNull String url, boolean isAssetUrl, long hwAcc) {
+            this.url = url;
+            this.isAssetUrl = isAssetUrl;
+            this.hwAcc = hwAcc;
+        }
+    }
+
+    private final List<Item> items = new ArrayList<>();
+    private int currentIndex = -1;
+    // set when the current item was removed, the next item is then at the current index
+    private boolean currentRemoved = false;
+
+    void append(@NonNull Item item) {
+        items.add(item);
+    }
+
+    /**
+     * Inserts {@code item} at {@code index}, clamped to the playlist bounds.
+     */
+    void insert(int index, @NonNull Item item) {
+        final int clamped = Math.max(0, Math.min(index, items.size()));
+        items.add(clamped, item);
+        if (currentIndex >= 0 && (clamped < currentIndex || (clamped == currentIndex && !currentRemoved))) {
+            currentIndex++;
+        }
+    }
+
+    /**
+     * Removes the item at {@code index}, returns whether there was one.
+     */
+    boolean remove(int index) {
+        if (index < 0 || index >= items.size()) {
+            return false;
+        }
+
+        items.remove(index);
+        if (index < currentIndex) {
+            currentIndex--;
+        } else if (index == currentIndex) {
+            currentRemoved = true;
+        }
+        return true;
+    }
+
+    void clear() {
+        items.clear();
+        currentIndex = -1;
+        currentRemoved = false;
+    }
+
+    @Nullable
+    Item get(int index) {
+        return index >= 0 && index < items.size() ? items.get(index) : null;
+    }
+
+    int getCurrentIndex() {
+        return currentRemoved ? -1 : currentIndex;
+    }
+
+    void setCurrentIndex(int index) {
+        currentIndex = index;
+        currentRemoved = false;
+    }
+
+    /**
+     * Returns the index of the item played after the current one, or -1 if there is none.
+     */
+    int getNextIndex() {
+        if (currentIndex < 0) {
+            return -1;
+        }
+
+        final int next = currentRemoved ? currentIndex : currentIndex + 1;
+        return next < items.size() ? next : -1;
+    }
+}
@@ -0,0 +1,50 @@
+package software.solid.fluttervlcplayer;
+
+/**
+ * Decides when the playback position has to be reported again when the Dart side extrapolates it
+ * from the last reported position, rate and timestamp.
+ *
+ * <p>A new anchor is needed when the playing state, the rate or the buffer level changed, or when
+ * the actual position drifted from the extrapolated one by more than
+ * {@link #DRIFT_THRESHOLD_MILLIS}, which also covers seeks.
+ *
+ * <p>This class is not thread-safe, it must only be used from the thread libvlc dispatches the
+ * player events on.
+ */
+final class PositionAnchor {
+    static final long DRIFT_THRESHOLD_MILLIS = 100;
+
+    private boolean isValid = false;
+    private long position;
+    private float rate;
+    private boolean isPlaying;
+    private float buffer;
+    private long anchorUptimeMillis;
+
+    /**
+     * Forces the next check to require a new anchor.
+     */
+    void invalidate() {
+        isValid = false;
+    }
+
+    boolean needsAnchor(long position, float rate, boolean isPlaying, float buffer, long uptimeMillis) {
+        if (!isValid || rate != this.rate || isPlaying != this.isPlaying || buffer != this.buffer) {
+            return true;
+        }
+
+        final long expected = this.isPlaying ?
+                this.position + (long) ((uptimeMillis - anchorUptimeMillis) * this.rate) :
+                this.position;
+        return Math.abs(position - expected) > DRIFT_THRESHOLD_MILLIS;
+    }
+
+    void set(long position, float rate, boolean isPlaying, float buffer, long uptimeMillis) {
+        this.isValid = true;
+        this.position = position;
+        this.rate = rate;
+        this.isPlaying = isPlaying;
+        this.buffer = buffer;
+        this.anchorUptimeMillis = uptimeMillis;
+    }
+}
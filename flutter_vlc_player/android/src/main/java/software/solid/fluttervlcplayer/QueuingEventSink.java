@@ -1,10 +1,10 @@
 package software.solid.fluttervlcplayer;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 import io.flutter.plugin.common.EventChannel;
 
@@ -14,14 +14,59 @@ import io.flutter.plugin.common.EventChannel;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
- * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
- * externally.
+ * <p>The queue is a bounded ring buffer. Once it holds {@code capacity} events, time changes are
+ * coalesced or discarded according to the {@link OverflowPolicy}. Lifecycle
+ * events (state changes, errors, end of stream) are never dropped, the queue grows past its
+ * capacity to keep them if it has to.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread, producers running
+ * on other threads go through a {@link MainThreadEventSink}.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+
+    static final class OverflowPolicy {
+        /** Time changes are never discarded, this is the legacy behaviour. */
+        static final int UNBOUNDED = 0;
+        /** The oldest time change is discarded when the queue is full. */
+        static final int DROP_OLDEST = 1;
+        /**
+         * A time change is merged into the time change at the tail of the queue, then the
+         * oldest time change is discarded when the queue is still full.
+         */
+        static final int COALESCE = 2;
+
+        private OverflowPolicy() {
+        }
+    }
+
+    static final int DEFAULT_CAPACITY = 256;
+    private static final String EVENT_KEY = "event";
+    private static final String DELTA_KEY = "delta";
+    private static final String TIME_CHANGED = "timeChanged";
+
     @Nullable
     private EventChannel.EventSink delegate;
-    private final List<Object> eventQueue = Collections.synchronizedList(new ArrayList<>());
+    private final int capacity;
+    private final int overflowPolicy;
+    private Object[] eventQueue;
+    private int head = 0;
+    private int size = 0;
     private boolean done = false;
+    //
+    private long emittedCount = 0;
+    private long droppedCount = 0;
+    private long coalescedCount = 0;
+    private int highWaterMark = 0;
+
+    QueuingEventSink() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.COALESCE);
+    }
+
+    QueuingEventSink(int capacity, int overflowPolicy) {
+        this.capacity = capacity > 0 ? capacity : DEFAULT_CAPACITY;
+        this.overflowPolicy = overflowPolicy;
+        this.eventQueue = new Object[Math.min(this.capacity, 16)];
+    }
 
     public void setDelegate(EventChannel.EventSink delegate) {
         this.delegate = delegate;
@@ -47,26 +92,158 @@ final class QueuingEventSink implements EventChannel.EventSink {
         maybeFlush();
     }
 
+    /**
+     * The number of events handed to this sink.
+     */
+    long getEmittedCount() {
+        return emittedCount;
+    }
+
+    /**
+     * The largest number of events queued at once.
+     */
+    int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * The number of queued events discarded because the queue was full.
+     */
+    long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * The number of queued time changes merged into a later one.
+     */
+    long getCoalescedCount() {
+        return coalescedCount;
+    }
+
     private void enqueue(Object event) {
-        if (!done) {
-            eventQueue.add(event);
+        if (done) {
+            return;
         }
+
+        emittedCount++;
+
+        if (delegate == null
+                && overflowPolicy == OverflowPolicy.COALESCE
+                && size > 0
+                && isTimeChanged(event)
+                && isTimeChanged(get(size - 1))) {
+            set(size - 1, merge(get(size - 1), event));
+            coalescedCount++;
+            return;
+        }
+
+        add(event);
+        if (overflowPolicy != OverflowPolicy.UNBOUNDED && size > capacity) {
+            dropOldest();
+        }
+        highWaterMark = Math.max(highWaterMark, size);
+    }
+
+    /**
+     * Discards the oldest time change. It is folded into the next queued time change so that a
+     * following delta still applies, and the last queued time change is always kept. When there
+     * is nothing to drop, the queue grows past its capacity.
+     */
+    private void dropOldest() {
+        int oldest = -1;
+        for (int i = 0; i < size; i++) {
+            if (!isTimeChanged(get(i))) {
+                continue;
+            }
+            if (oldest < 0) {
+                oldest = i;
+                continue;
+            }
+            set(i, merge(get(oldest), get(i)));
+            removeAt(oldest);
+            droppedCount++;
+            return;
+        }
+    }
+
+    /**
+     * Returns the time change equivalent to {@code previous} followed by {@code next}. A delta only
+     * carries the values which changed, so it is applied on top of the previous event.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object merge(Object previous, Object next) {
+        final Map<String, Object> nextEvent = (Map<String, Object>) next;
+        if (!Boolean.TRUE.equals(nextEvent.get(DELTA_KEY))) {
+            return next;
+        }
+
+        final Map<String, Object> merged = new HashMap<>((Map<String, Object>) previous);
+        for (Map.Entry<String, Object> entry : nextEvent.entrySet()) {
+            if (!DELTA_KEY.equals(entry.getKey())) {
+                merged.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return merged;
+    }
+
+    private static boolean isTimeChanged(@Nullable Object event) {
+        return event instanceof Map && TIME_CHANGED.equals(((Map<?, ?>) event).get(EVENT_KEY));
+    }
+
+    private Object get(int index) {
+        return eventQueue[(head + index) % eventQueue.length];
+    }
+
+    private void set(int index, Object event) {
+        eventQueue[(head + index) % eventQueue.length] = event;
+    }
+
+    private void add(Object event) {
+        if (size == eventQueue.length) {
+            final Object[] grown = new Object[eventQueue.length * 2];
+            for (int i = 0; i < size; i++) {
+                grown[i] = get(i);
+            }
+            eventQueue = grown;
+            head = 0;
+        }
+        eventQueue[(head + size) % eventQueue.length] = event;
+        size++;
+    }
+
+    private void removeAt(int index) {
+        for (int i = index; i > 0; i--) {
+            set(i, get(i - 1));
+        }
+        eventQueue[head] = null;
+        head = (head + 1) % eventQueue.length;
+        size--;
+    }
+
+    private Object poll() {
+        final Object event = eventQueue[head];
+        eventQueue[head] = null;
+        head = (head + 1) % eventQueue.length;
+        size--;
+        return event;
     }
 
     private void maybeFlush() {
         if (delegate != null) {
-            for (int i = 0; i < eventQueue.size(); i++) {
-                Object event = eventQueue.get(i);
-                if (event instanceof EndOfStreamEvent) {
-                    delegate.endOfStream();
-                } else if (event instanceof ErrorEvent) {
-                    ErrorEvent errorEvent = (ErrorEvent) event;
-                    delegate.error(errorEvent.code, errorEvent.message, errorEvent.details);
-                } else {
-                    delegate.success(event);
-                }
+            while (size > 0) {
+                deliver(delegate, poll());
             }
-            eventQueue.clear();
+        }
+    }
+
+    private static void deliver(@NonNull EventChannel.EventSink sink, Object event) {
+        if (event instanceof EndOfStreamEvent) {
+            sink.endOfStream();
+        } else if (event instanceof ErrorEvent) {
+            ErrorEvent errorEvent = (ErrorEvent) event;
+            sink.error(errorEvent.code, errorEvent.message, errorEvent.details);
+        } else {
+            sink.success(event);
         }
     }
 
@@ -84,4 +261,4 @@ final class QueuingEventSink implements EventChannel.EventSink {
             this.details = details;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,172 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.MediaPlayer;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the seeks of a single player.
+ *
+ * <p>Fast seeks jump to the nearest keyframe and are meant for scrubbing: they reach libvlc at most
+ * once per {@link #FAST_SEEK_INTERVAL_MILLIS}, a seek arriving in between only replaces the target
+ * of the deferred one. Precise seeks run at once and cancel the deferred fast seek, if any.
+ *
+ * <p>libvlc does not report when a seek is done, so a seek is complete on the first time change
+ * that follows it, or after {@link #COMPLETION_TIMEOUT_MILLIS} when the time does not change, as
+ * with a paused player. Only the completion of the latest seek is reported.
+ *
+ * <p>Seeks must be issued from the player thread, time changes reported from the main thread the
+ * player events are dispatched on, where the completion listener is called. A cancellation drops
+ * the completions begun before it, even those already posted to the main thread.
+ */
+final class SeekPipeline {
+
+    static final class Mode {
+        static final int PRECISE = 0;
+        static final int FAST = 1;
+
+        private Mode() {
+        }
+    }
+
+    interface OnSeekCompletedListener {
+        void onSeekCompleted(long target, long position, int mode);
+    }
+
+    static final long FAST_SEEK_INTERVAL_MILLIS = 50;
+    static final long COMPLETION_TIMEOUT_MILLIS = 1000;
+
+    private final Handler playerHandler;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final OnSeekCompletedListener listener;
+    private final Runnable deferredSeekRunnable = this::runDeferredSeek;
+    private final Runnable completionTimeoutRunnable = this::onCompletionTimeout;
+    // bumped by every cancellation, a completion of an older generation is dropped
+    private final AtomicInteger generation = new AtomicInteger();
+    // player thread only
+    @Nullable
+    private MediaPlayer deferredPlayer;
+    private long deferredTarget;
+    private long lastFastSeekMillis = 0;
+    // main thread only
+    @Nullable
+    private MediaPlayer seekingPlayer;
+    private long seekTarget;
+    private int seekMode;
+    private int seekGeneration;
+
+    SeekPipeline(@NonNull Looper playerLooper, @NonNull OnSeekCompletedListener listener) {
+        this.playerHandler = new Handler(playerLooper);
+        this.listener = listener;
+    }
+
+    void seek(@NonNull MediaPlayer mediaPlayer, long target, int mode) {
+        if (mode != Mode.FAST) {
+            cancelDeferredSeek();
+            setTime(mediaPlayer, target, Mode.PRECISE);
+            return;
+        }
+
+        final long now = SystemClock.uptimeMillis();
+        final long nextFastSeekMillis = lastFastSeekMillis + FAST_SEEK_INTERVAL_MILLIS;
+        if (now >= nextFastSeekMillis && deferredPlayer == null) {
+            lastFastSeekMillis = now;
+            setTime(mediaPlayer, target, Mode.FAST);
+            return;
+        }
+
+        // the latest target wins
+        if (deferredPlayer == null) {
+            playerHandler.postAtTime(deferredSeekRunnable, nextFastSeekMillis);
+        }
+        deferredPlayer = mediaPlayer;
+        deferredTarget = target;
+    }
+
+    /**
+     * Drops the deferred seek and the pending completion, once the media changed or the player is
+     * released. Must be called from the player thread.
+     */
+    void cancel() {
+        cancelDeferredSeek();
+        generation.incrementAndGet();
+        mainHandler.removeCallbacks(completionTimeoutRunnable);
+        mainHandler.post(this::clearCompletion);
+    }
+
+    /**
+     * Drops the pending completion, before the player is disposed. Must be called from the main
+     * thread.
+     */
+    void cancelCompletion() {
+        generation.incrementAndGet();
+        clearCompletion();
+    }
+
+    void onTimeChanged(long time) {
+        if (isCompleting()) {
+            complete(time);
+        }
+    }
+
+    private void runDeferredSeek() {
+        final MediaPlayer mediaPlayer = deferredPlayer;
+        deferredPlayer = null;
+        if (mediaPlayer != null) {
+            lastFastSeekMillis = SystemClock.uptimeMillis();
+            setTime(mediaPlayer, deferredTarget, Mode.FAST);
+        }
+    }
+
+    private void cancelDeferredSeek() {
+        playerHandler.removeCallbacks(deferredSeekRunnable);
+        deferredPlayer = null;
+    }
+
+    private void setTime(@NonNull MediaPlayer mediaPlayer, long target, int mode) {
+        mediaPlayer.setTime(target, mode == Mode.FAST);
+        // time changes posted before this one still report the previous position
+        final int seekGeneration = generation.get();
+        mainHandler.post(() -> beginCompletion(mediaPlayer, target, mode, seekGeneration));
+    }
+
+    private void beginCompletion(@NonNull MediaPlayer mediaPlayer, long target, int mode, int seekGeneration) {
+        if (seekGeneration != generation.get()) {
+            return;
+        }
+
+        seekingPlayer = mediaPlayer;
+        seekTarget = target;
+        seekMode = mode;
+        this.seekGeneration = seekGeneration;
+        mainHandler.removeCallbacks(completionTimeoutRunnable);
+        mainHandler.postDelayed(completionTimeoutRunnable, COMPLETION_TIMEOUT_MILLIS);
+    }
+
+    private void onCompletionTimeout() {
+        if (isCompleting()) {
+            complete(seekingPlayer.getTime());
+        }
+    }
+
+    private boolean isCompleting() {
+        return seekingPlayer != null && seekGeneration == generation.get();
+    }
+
+    private void complete(long position) {
+        clearCompletion();
+        listener.onSeekCompleted(seekTarget, position, seekMode);
+    }
+
+    private void clearCompletion() {
+        mainHandler.removeCallbacks(completionTimeoutRunnable);
+        seekingPlayer = null;
+    }
+}
@@ -0,0 +1,266 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * The segments of a single adaptive stream kept in memory, fetched ahead of the player.
+ *
+ * <p>A segment is either fetched on demand, on the {@code onDemandExecutor}, or prefetched on the
+ * shared {@code prefetchExecutor}. Either way its bytes can be read while they arrive, so that the
+ * player is streamed a segment it asked for while the segment fills the cache, and a request for a
+ * segment being prefetched reads it rather than fetching it again. Completed segments are kept up
+ * to {@code maxBytes}, the least recently used being dropped first. A failed fetch is forgotten,
+ * so that the next request tries again.
+ *
+ * <p>This class is thread-safe.
+ */
+final class SegmentCache {
+
+    interface Fetcher {
+        /**
+         * Fetches the segment at {@code url}, announcing its length to {@code segment} and then
+         * appending its bytes as they arrive.
+         */
+        void fetch(@NonNull String url, @NonNull Segment segment) throws IOException;
+    }
+
+    /**
+     * The bytes of a segment, readable while they are fetched.
+     */
+    static final class Segment {
+        private static final int INITIAL_CAPACITY = 64 * 1024;
+
+        // the bytes below size never change once written, readers use them outside the lock
+        private byte[] data = new byte[0];
+        private int size = 0;
+        private boolean isStarted = false;
+        private long length = -1;
+        private boolean isComplete = false;
+        @Nullable
+        private IOException failure;
+
+        /**
+         * Starts the segment with the {@code length} announced by the origin, -1 when unknown.
+         */
+        synchronized void start(long length) {
+            this.length = length;
+            data = new byte[length > 0 && length <= Integer.MAX_VALUE ? (int) length : INITIAL_CAPACITY];
+            isStarted = true;
+            notifyAll();
+        }
+
+        synchronized void append(@NonNull byte[] chunk, int count) {
+            if (size + count > data.length) {
+                final byte[] grown = new byte[Math.max(size + count, data.length * 2)];
+                System.arraycopy(data, 0, grown, 0, size);
+                data = grown;
+            }
+            System.arraycopy(chunk, 0, data, size, count);
+            size += count;
+            notifyAll();
+        }
+
+        /**
+         * Returns the length of the segment, waiting for the origin to announce it, or -1 when the
+         * origin did not.
+         */
+        synchronized long awaitLength() throws IOException {
+            while (!isStarted && failure == null) {
+                await();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return length;
+        }
+
+        /**
+         * Returns the length of the segment once completely fetched.
+         */
+        synchronized long awaitComplete() throws IOException {
+            while (!isComplete && failure == null) {
+                await();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return size;
+        }
+
+        /**
+         * Returns the bytes from {@code offset} fetched so far, waiting for at least one, or null
+         * when the segment ends before {@code offset}.
+         */
+        @Nullable
+        synchronized ByteBuffer awaitBytesFrom(long offset) throws IOException {
+            while (offset >= size && !isComplete && failure == null) {
+                await();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (offset >= size) {
+                return null;
+            }
+            return ByteBuffer.wrap(data, (int) offset, (int) (size - offset)).asReadOnlyBuffer();
+        }
+
+        /**
+         * Returns the size of the complete segment, or -1 while it is fetched.
+         */
+        synchronized int getCompleteSize() {
+            return isComplete ? size : -1;
+        }
+
+        private synchronized void complete() throws IOException {
+            if (length >= 0 && size != length) {
+                throw new IOException("Segment shorter than announced");
+            }
+            if (data.length != size) {
+                data = Arrays.copyOf(data, size);
+            }
+            isStarted = true;
+            isComplete = true;
+            notifyAll();
+        }
+
+        private synchronized void fail(@NonNull IOException e) {
+            failure = e;
+            notifyAll();
+        }
+
+        private void await() throws IOException {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private final long maxBytes;
+    private final Executor prefetchExecutor;
+    private final Executor onDemandExecutor;
+    private final Fetcher fetcher;
+    // the least recently used first
+    private final LinkedHashMap<String, Segment> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> sizes = new HashMap<>();
+    private long sizeBytes = 0;
+    // the segments of the latest media playlist, in playback order
+    private List<String> segments = Collections.emptyList();
+
+    SegmentCache(
+            long maxBytes,
+            @NonNull Executor prefetchExecutor,
+            @NonNull Executor onDemandExecutor,
+            @NonNull Fetcher fetcher
+    ) {
+        this.maxBytes = maxBytes;
+        this.prefetchExecutor = prefetchExecutor;
+        this.onDemandExecutor = onDemandExecutor;
+        this.fetcher = fetcher;
+    }
+
+    synchronized void setSegments(@NonNull List<String> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the segment at {@code url}, fetching it on demand unless it is cached or already
+     * being fetched.
+     */
+    @NonNull
+    Segment get(@NonNull String url) {
+        final Segment segment;
+        synchronized (this) {
+            final Segment cached = entries.get(url);
+            if (cached != null) {
+                return cached;
+            }
+            segment = new Segment();
+            entries.put(url, segment);
+        }
+
+        onDemandExecutor.execute(() -> fetch(url, segment));
+        return segment;
+    }
+
+    /**
+     * Prefetches the {@code count} segments following {@code url} in the playlist.
+     */
+    void prefetchAfter(@NonNull String url, int count) {
+        final List<String> segments;
+        synchronized (this) {
+            segments = this.segments;
+        }
+        final int index = segments.indexOf(url);
+        if (index >= 0) {
+            prefetch(segments.subList(index + 1, Math.min(segments.size(), index + 1 + count)));
+        }
+    }
+
+    /**
+     * Prefetches {@code urls} in parallel, skipping the segments cached or being fetched.
+     */
+    void prefetch(@NonNull List<String> urls) {
+        for (String url : urls) {
+            final Segment segment;
+            synchronized (this) {
+                if (entries.containsKey(url)) {
+                    continue;
+                }
+                segment = new Segment();
+                entries.put(url, segment);
+            }
+            prefetchExecutor.execute(() -> fetch(url, segment));
+        }
+    }
+
+    private void fetch(@NonNull String url, @NonNull Segment segment) {
+        try {
+            fetcher.fetch(url, segment);
+            segment.complete();
+            onFetched(url, segment.getCompleteSize());
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                if (entries.get(url) == segment) {
+                    entries.remove(url);
+                }
+            }
+            segment.fail(e instanceof IOException ? (IOException) e : new IOException(e));
+        }
+    }
+
+    private synchronized void onFetched(@NonNull String url, int size) {
+        if (!entries.containsKey(url)) {
+            return;
+        }
+
+        sizes.put(url, size);
+        sizeBytes += size;
+        final Iterator<Map.Entry<String, Segment>> iterator = entries.entrySet().iterator();
+        while (sizeBytes > maxBytes && iterator.hasNext()) {
+            final Map.Entry<String, Segment> entry = iterator.next();
+            final Integer entrySize = sizes.get(entry.getKey());
+            // segments still being fetched have no size yet and are kept
+            if (entrySize != null && !entry.getKey().equals(url)) {
+                sizeBytes -= entrySize;
+                sizes.remove(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package software.solid.fluttervlcplayer;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes the current thread allocates, through the HotSpot extension of the thread
+ * management bean.
+ */
+final class Allocations {
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns the bytes allocated by {@code runnable} running on the current thread.
+     */
+    static long of(Runnable runnable) {
+        final long threadId = Thread.currentThread().getId();
+        // the measure allocates on its own, the difference of two back to back calls
+        final long start = threads.getThreadAllocatedBytes(threadId);
+        final long overhead = threads.getThreadAllocatedBytes(threadId) - start;
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        runnable.run();
+        return threads.getThreadAllocatedBytes(threadId) - before - overhead;
+    }
+}
@@ -0,0 +1,68 @@
+package software.solid.fluttervlcplayer;
+
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+
+/**
+ * Compares the size and the encode time on the event channel of the binary records against the
+ * maps of the hot events. Not a test, run it by hand with the test classpath:
+ * {@code java software.solid.fluttervlcplayer.BinaryEventSinkBenchmark}.
+ */
+public final class BinaryEventSinkBenchmark {
+    private static final int WARMUP_ITERATIONS = 200000;
+    private static final int ITERATIONS = 1000000;
+
+    // keeps the encoded messages alive so the encoding is not optimized away
+    private static int sink;
+
+    private BinaryEventSinkBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        report("playing", BinaryEventSinkTest.playing());
+        report("timeChanged", BinaryEventSinkTest.timeChanged(61250L));
+    }
+
+    private static void report(String name, Map<String, Object> event) {
+        final RecordingEventSink delegate = new RecordingEventSink();
+        final BinaryEventSink binarySink = new BinaryEventSink(delegate);
+
+        final Runnable encodeMap = () -> sink += encodeMessage(event);
+        final Runnable encodeRecord = () -> {
+            delegate.events.clear();
+            binarySink.success(event);
+            sink += encodeMessage(delegate.events.get(0));
+        };
+
+        System.out.println(String.format(
+                Locale.ROOT,
+                "%s: map %d bytes, %.0f ns, %d bytes allocated; record %d bytes, %.0f ns, %d bytes allocated",
+                name,
+                BinaryEventSinkTest.encodedSize(event),
+                nanosPerIteration(encodeMap),
+                Allocations.of(encodeMap),
+                BinaryEventSinkTest.encodedSize(BinaryEventSinkTest.encode(event)),
+                nanosPerIteration(encodeRecord),
+                Allocations.of(encodeRecord)
+        ));
+    }
+
+    private static int encodeMessage(Object message) {
+        final ByteBuffer buffer = StandardMessageCodec.INSTANCE.encodeMessage(message);
+        return buffer.position();
+    }
+
+    private static double nanosPerIteration(Runnable encode) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            encode.run();
+        }
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encode.run();
+        }
+        return (System.nanoTime() - startNanos) / (double) ITERATIONS;
+    }
+}
@@ -0,0 +1,109 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.StandardMessageCodec;
+
+public class BinaryEventSinkTest {
+
+    @Test
+    public void playingRecordIsSmallerThanItsMap() {
+        final Map<String, Object> event = playing();
+
+        final byte[] record = encode(event);
+
+        assertEquals(37, record.length);
+        assertTrue(encodedSize(record) * 4 < encodedSize(event));
+    }
+
+    @Test
+    public void timeChangedRecordIsSmallerThanItsMap() {
+        final Map<String, Object> event = timeChanged(61250L);
+
+        final byte[] record = encode(event);
+
+        assertEquals(58, record.length);
+        assertTrue(encodedSize(record) * 4 < encodedSize(event));
+    }
+
+    @Test
+    public void timeChangedRecordIsBigEndian() {
+        final ByteBuffer record = ByteBuffer.wrap(encode(timeChanged(61250L)));
+
+        assertEquals(BinaryEventSink.Type.TIME_CHANGED, record.get());
+        assertEquals(1920, record.getInt());
+        assertEquals(1080, record.getInt());
+        assertEquals(1f, record.getFloat(), 0f);
+        assertEquals(3600000L, record.getLong());
+        record.position(37);
+        assertEquals(61250L, record.getLong());
+        assertEquals(100f, record.getFloat(), 0f);
+        assertEquals(1, record.get());
+        assertEquals(123456789L, record.getLong());
+    }
+
+    @Test
+    public void forwardsDeltasAsIs() {
+        final RecordingEventSink delegate = new RecordingEventSink();
+        final Map<String, Object> delta = new HashMap<>();
+        delta.put("event", "timeChanged");
+        delta.put("delta", true);
+        delta.put("position", 1250L);
+
+        new BinaryEventSink(delegate).success(delta);
+
+        assertEquals(delta, delegate.events.get(0));
+    }
+
+    /**
+     * Returns the size of {@code message} on the event channel, as the {@link StandardMessageCodec}
+     * of the embedding encodes it.
+     */
+    static int encodedSize(Object message) {
+        final ByteBuffer buffer = StandardMessageCodec.INSTANCE.encodeMessage(message);
+        return buffer.position() > 0 ? buffer.position() : buffer.remaining();
+    }
+
+    static byte[] encode(Map<String, Object> event) {
+        final RecordingEventSink delegate = new RecordingEventSink();
+        new BinaryEventSink(delegate).success(event);
+        return (byte[]) delegate.events.get(0);
+    }
+
+    /**
+     * Returns a {@code playing} event as {@link FlutterVlcPlayer} emits it.
+     */
+    static Map<String, Object> playing() {
+        final Map<String, Object> event = new HashMap<>();
+        event.put("event", "playing");
+        event.put("height", 1080);
+        event.put("width", 1920);
+        event.put("speed", 1f);
+        event.put("duration", 3600000L);
+        event.put("audioTracksCount", 2);
+        event.put("activeAudioTrack", 1);
+        event.put("spuTracksCount", 3);
+        event.put("activeSpuTrack", -1);
+        return event;
+    }
+
+    /**
+     * Returns a {@code timeChanged} event as {@link FlutterVlcPlayer} emits it.
+     */
+    static Map<String, Object> timeChanged(long position) {
+        final Map<String, Object> event = playing();
+        event.put("event", "timeChanged");
+        event.put("position", position);
+        event.put("anchorTime", 123456789L);
+        event.put("buffer", 100f);
+        event.put("isPlaying", true);
+        return event;
+    }
+}
@@ -0,0 +1,101 @@
+package software.solid.fluttervlcplayer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Players producing events on threads of their own, as their libvlc event threads do, through a
+ * {@link MainThreadEventSink} into the {@link QueuingEventSink} of a single executor thread
+ * standing for the main thread.
+ */
+final class ConcurrentPlayers implements AutoCloseable {
+    final ExecutorService mainExecutor = Executors.newSingleThreadExecutor();
+    final Thread mainThread;
+    /** The events each player delivered, in delivery order. */
+    final List<List<Object>> received = new ArrayList<>();
+    final AtomicInteger drainCount = new AtomicInteger();
+    final AtomicInteger offMainDeliveries = new AtomicInteger();
+    private final List<MainThreadEventSink> sinks = new ArrayList<>();
+
+    ConcurrentPlayers(int playerCount) throws ExecutionException, InterruptedException {
+        mainThread = mainExecutor.submit(Thread::currentThread).get();
+        for (int player = 0; player < playerCount; player++) {
+            final List<Object> playerEvents = new ArrayList<>();
+            received.add(playerEvents);
+            final QueuingEventSink queuingSink = new QueuingEventSink(
+                    QueuingEventSink.DEFAULT_CAPACITY,
+                    QueuingEventSink.OverflowPolicy.UNBOUNDED
+            );
+            queuingSink.setDelegate(new RecordingEventSink() {
+                @Override
+                public void success(Object event) {
+                    if (Thread.currentThread() != mainThread) {
+                        offMainDeliveries.incrementAndGet();
+                    }
+                    playerEvents.add(event);
+                }
+            });
+            sinks.add(newSink(queuingSink));
+        }
+    }
+
+    /**
+     * Returns a sink delivering to {@code delegate} on the main thread, counting its drains.
+     */
+    MainThreadEventSink newSink(EventChannel.EventSink delegate) {
+        return new MainThreadEventSink(
+                delegate,
+                runnable -> {
+                    drainCount.incrementAndGet();
+                    mainExecutor.execute(runnable);
+                },
+                () -> Thread.currentThread() == mainThread
+        );
+    }
+
+    /**
+     * Sends the events 0 to {@code eventsPerPlayer} - 1 from every player at once, and returns
+     * the nanoseconds until the main thread delivered them all.
+     */
+    long run(int eventsPerPlayer) throws InterruptedException, ExecutionException, TimeoutException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> producers = new ArrayList<>();
+        for (MainThreadEventSink sink : sinks) {
+            final Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < eventsPerPlayer; i++) {
+                    sink.success(i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+
+        final long startNanos = System.nanoTime();
+        start.countDown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        // the drains posted by the producers run before this one
+        mainExecutor.submit(() -> { }).get(30, TimeUnit.SECONDS);
+        return System.nanoTime() - startNanos;
+    }
+
+    @Override
+    public void close() {
+        mainExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,62 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class DeltaEventSinkTest {
+
+    @Test
+    public void sendsOnlyTheChangedEntries() {
+        final RecordingEventSink delegate = new RecordingEventSink();
+        final DeltaEventSink sink = new DeltaEventSink(delegate, 30);
+
+        sink.success(tick(1000, 100f, null));
+        sink.success(tick(1250, 100f, null));
+
+        assertEquals(tick(1000, 100f, null), delegate.events.get(0));
+        final Map<String, Object> delta = new HashMap<>();
+        delta.put("event", "timeChanged");
+        delta.put("delta", true);
+        delta.put("position", 1250L);
+        assertEquals(delta, delegate.events.get(1));
+    }
+
+    @Test
+    public void sendsTheAnchorTimeWithThePositionOnly() {
+        final RecordingEventSink delegate = new RecordingEventSink();
+        final DeltaEventSink sink = new DeltaEventSink(delegate, 30);
+
+        sink.success(tick(1000, 100f, 1L));
+        sink.success(tick(1000, 50f, 2L));
+        sink.success(tick(1250, 50f, 3L));
+
+        final Map<String, Object> bufferDelta = new HashMap<>();
+        bufferDelta.put("event", "timeChanged");
+        bufferDelta.put("delta", true);
+        bufferDelta.put("buffer", 50f);
+        assertEquals(bufferDelta, delegate.events.get(1));
+
+        final Map<String, Object> positionDelta = new HashMap<>();
+        positionDelta.put("event", "timeChanged");
+        positionDelta.put("delta", true);
+        positionDelta.put("position", 1250L);
+        positionDelta.put("anchorTime", 3L);
+        assertEquals(positionDelta, delegate.events.get(2));
+    }
+
+    private static Map<String, Object> tick(long position, float buffer, Long anchorTime) {
+        final Map<String, Object> event = new HashMap<>();
+        event.put("event", "timeChanged");
+        event.put("position", position);
+        event.put("buffer", buffer);
+        event.put("duration", 60000L);
+        if (anchorTime != null) {
+            event.put("anchorTime", anchorTime);
+        }
+        return event;
+    }
+}
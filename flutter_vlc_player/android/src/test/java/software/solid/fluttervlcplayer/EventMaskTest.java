@@ -0,0 +1,55 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.videolan.libvlc.MediaPlayer;
+
+public class EventMaskTest {
+    private static final int[] TICK_TYPES = {
+            MediaPlayer.Event.TimeChanged,
+            MediaPlayer.Event.Buffering,
+            MediaPlayer.Event.PositionChanged,
+    };
+
+    @Test
+    public void ignoresUnsubscribedEventsButTheEnd() {
+        final int types = EventMask.handledTypes(EventMask.PLAYING);
+
+        assertFalse(EventMask.isIgnored(types, MediaPlayer.Event.Playing));
+        assertFalse(EventMask.isIgnored(types, MediaPlayer.Event.EndReached));
+        assertTrue(EventMask.isIgnored(types, MediaPlayer.Event.TimeChanged));
+        assertTrue(EventMask.isIgnored(types, MediaPlayer.Event.PositionChanged));
+        assertTrue(EventMask.isIgnored(types, MediaPlayer.Event.RecordChanged));
+        assertFalse(EventMask.isIgnored(EventMask.handledTypes(0), MediaPlayer.Event.EndReached));
+    }
+
+    @Test
+    public void handlesTimeChangesForSeekCompletion() {
+        final int types = EventMask.handledTypes(EventMask.SEEK_COMPLETED);
+
+        assertTrue(EventMask.isHandled(types, MediaPlayer.Event.TimeChanged));
+        assertFalse(EventMask.isHandled(types, MediaPlayer.Event.Buffering));
+    }
+
+    @Test
+    public void ignoringEventsAllocatesNothing() {
+        final int types = EventMask.handledTypes(EventMask.PLAYING | EventMask.ENDED);
+        final int[] ignored = new int[1];
+        final Runnable listener = () -> {
+            for (int i = 0; i < 100000; i++) {
+                if (EventMask.isIgnored(types, TICK_TYPES[i % TICK_TYPES.length])) {
+                    ignored[0]++;
+                }
+            }
+        };
+        // warm up, compiled code allocates no differently
+        listener.run();
+        ignored[0] = 0;
+
+        assertEquals(0, Allocations.of(listener));
+        assertEquals(100000, ignored[0]);
+    }
+}
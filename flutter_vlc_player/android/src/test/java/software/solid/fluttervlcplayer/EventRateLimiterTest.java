@@ -0,0 +1,63 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class EventRateLimiterTest {
+
+    @Test
+    public void allEmitsEveryTick() {
+        final RecordingEventSink sink = new RecordingEventSink();
+        final int[] built = new int[1];
+        final EventRateLimiter limiter = new EventRateLimiter(
+                EventRateLimiter.Mode.ALL, 0, sink, () -> ++built[0]);
+
+        limiter.onTick();
+        limiter.onTick();
+
+        assertEquals(Arrays.asList(1, 2), sink.events);
+    }
+
+    @Test
+    public void onChangeSkipsEqualTicksUntilAStateChange() {
+        final RecordingEventSink sink = new RecordingEventSink();
+        final EventRateLimiter limiter = new EventRateLimiter(
+                EventRateLimiter.Mode.ON_CHANGE, 0, sink, () -> "tick");
+
+        limiter.onTick();
+        limiter.onTick();
+        limiter.emit("paused");
+        limiter.onTick();
+
+        assertEquals(Arrays.asList("tick", "paused", "tick"), sink.events);
+    }
+
+    @Test
+    public void suppressedTicksAreNeverBuiltNorAllocate() {
+        final RecordingEventSink sink = new RecordingEventSink();
+        final int[] built = new int[1];
+        final EventRateLimiter limiter = new EventRateLimiter(
+                EventRateLimiter.Mode.MAX_RATE, 10, sink, () -> {
+                    built[0]++;
+                    return "tick";
+                });
+        // the clock of the JVM tests stands still, every tick falls in the first interval
+        limiter.onTick();
+        final Runnable ticks = () -> {
+            for (int i = 0; i < 100000; i++) {
+                limiter.onTick();
+            }
+        };
+        ticks.run();
+
+        assertEquals(0, Allocations.of(ticks));
+        assertEquals(0, built[0]);
+
+        limiter.emit("paused");
+        assertEquals(1, built[0]);
+        assertEquals(Arrays.asList("tick", "paused"), sink.events);
+    }
+}
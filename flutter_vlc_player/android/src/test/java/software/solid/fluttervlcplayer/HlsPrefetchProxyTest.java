@@ -0,0 +1,228 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class HlsPrefetchProxyTest {
+    private static final int SEGMENT_COUNT = 3;
+    private static final int SEGMENT_SIZE = 200 * 1024;
+    private static final String PLAYLIST = "#EXTM3U\n"
+            + "#EXT-X-TARGETDURATION:4\n"
+            + "#EXTINF:4.0,\nseg0.ts\n"
+            + "#EXTINF:4.0,\nseg1.ts\n"
+            + "#EXTINF:4.0,\nseg2.ts\n"
+            + "#EXT-X-ENDLIST\n";
+
+    // released by the test to let the origin send the second half of the last segment
+    private final CountDownLatch lastSegmentRelease = new CountDownLatch(1);
+    private OriginServer origin;
+    private HlsPrefetchProxy proxy;
+
+    @Before
+    public void setUp() throws IOException {
+        origin = new OriginServer() {
+            @Override
+            void writeBody(String path, OutputStream output, byte[] body, int offset, int length) throws IOException {
+                if (!path.endsWith("seg2.ts")) {
+                    super.writeBody(path, output, body, offset, length);
+                    return;
+                }
+                final int half = length / 2;
+                output.write(body, offset, half);
+                output.flush();
+                try {
+                    lastSegmentRelease.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                output.write(body, offset + half, length - half);
+            }
+        };
+        origin.put("/live/index.m3u8", PLAYLIST.getBytes(StandardCharsets.UTF_8), "application/vnd.apple.mpegurl");
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            origin.put("/live/seg" + i + ".ts", segment(i), "video/mp2t");
+        }
+        proxy = new HlsPrefetchProxy(1);
+    }
+
+    @After
+    public void tearDown() {
+        lastSegmentRelease.countDown();
+        proxy.close();
+        origin.close();
+    }
+
+    @Test
+    public void proxiesOnlyPlaylists() {
+        assertNull(proxy.proxiedUrlFor(origin.urlOf("/clip.mp4")));
+        assertTrue(proxy.proxiedUrlFor(origin.urlOf("/live/index.m3u8?token=1")).startsWith("http://127.0.0.1:"));
+    }
+
+    @Test
+    public void servesPrefetchedSegmentsFromTheCache() throws IOException {
+        final List<String> segments = segmentUrls();
+
+        assertArrayEquals(segment(0), get(segments.get(0), null));
+        assertArrayEquals(segment(0), get(segments.get(0), null));
+        assertArrayEquals(segment(1), get(segments.get(1), null));
+
+        assertEquals(1, origin.requestCount("/live/seg0.ts"));
+        assertEquals(1, origin.requestCount("/live/seg1.ts"));
+    }
+
+    @Test
+    public void servesRangesOfCachedSegments() throws IOException {
+        final List<String> segments = segmentUrls();
+        get(segments.get(0), null);
+
+        final HttpURLConnection connection = open(segments.get(0), "bytes=100-199");
+        assertEquals(206, connection.getResponseCode());
+        assertEquals("bytes 100-199/" + SEGMENT_SIZE, connection.getHeaderField("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(segment(0), 100, 200), read(connection));
+        assertEquals(1, origin.requestCount("/live/seg0.ts"));
+    }
+
+    @Test
+    public void streamsOnDemandSegmentsWhileTheyAreFetched() throws IOException {
+        final List<String> segments = segmentUrls();
+        final byte[] expected = segment(2);
+
+        final HttpURLConnection connection = open(segments.get(2), null);
+        assertEquals(200, connection.getResponseCode());
+        try (InputStream input = connection.getInputStream()) {
+            // the first half arrives while the origin holds the second one back
+            final byte[] firstHalf = readFully(input, SEGMENT_SIZE / 2);
+            assertArrayEquals(Arrays.copyOfRange(expected, 0, SEGMENT_SIZE / 2), firstHalf);
+
+            lastSegmentRelease.countDown();
+            final byte[] secondHalf = readFully(input, SEGMENT_SIZE - SEGMENT_SIZE / 2);
+            assertArrayEquals(Arrays.copyOfRange(expected, SEGMENT_SIZE / 2, SEGMENT_SIZE), secondHalf);
+        } finally {
+            connection.disconnect();
+        }
+
+        // the segment streamed filled the cache
+        assertArrayEquals(expected, get(segments.get(2), null));
+        assertEquals(1, origin.requestCount("/live/seg2.ts"));
+    }
+
+    @Test
+    public void answersBadGatewayForMissingSegments() throws IOException {
+        origin.put("/live/index.m3u8", PLAYLIST.replace("seg2.ts", "gone.ts").getBytes(StandardCharsets.UTF_8), "application/vnd.apple.mpegurl");
+        final List<String> segments = segmentUrls();
+
+        assertEquals(502, open(segments.get(2), null).getResponseCode());
+    }
+
+    @Test
+    public void resolvesSegmentsAgainstTheRedirectedPlaylist() throws IOException {
+        origin.redirect("/moved/index.m3u8", origin.urlOf("/live/index.m3u8"));
+        final List<String> segments = segmentUrls("/moved/index.m3u8");
+
+        assertArrayEquals(segment(0), get(segments.get(0), null));
+        assertEquals(0, origin.requestCount("/moved/seg0.ts"));
+    }
+
+    @Test
+    public void leavesUrisItCannotFetchAsTheyAre() throws IOException {
+        final String key = "#EXT-X-KEY:METHOD=AES-128,URI=\"data:text/plain;base64,AAECAwQFBgcICQoLDA0ODw==\"";
+        final String session = "#EXT-X-SESSION-KEY:METHOD=SAMPLE-AES,URI=\"skd://key\"";
+        origin.put(
+                "/live/index.m3u8",
+                PLAYLIST.replace("#EXT-X-TARGETDURATION:4\n", "#EXT-X-TARGETDURATION:4\n" + key + "\n" + session + "\n")
+                        .replace("seg1.ts", "http://[bad")
+                        .getBytes(StandardCharsets.UTF_8),
+                "application/vnd.apple.mpegurl"
+        );
+
+        final String playlist = new String(get(proxy.proxiedUrlFor(origin.urlOf("/live/index.m3u8")), null), StandardCharsets.UTF_8);
+
+        assertTrue(playlist, playlist.contains(key + "\n"));
+        assertTrue(playlist, playlist.contains(session + "\n"));
+        assertTrue(playlist, playlist.contains("\nhttp://[bad\n"));
+    }
+
+    private List<String> segmentUrls() throws IOException {
+        return segmentUrls("/live/index.m3u8");
+    }
+
+    private List<String> segmentUrls(String playlistPath) throws IOException {
+        final String playlist = new String(get(proxy.proxiedUrlFor(origin.urlOf(playlistPath)), null), StandardCharsets.UTF_8);
+        final List<String> urls = new ArrayList<>();
+        for (String line : playlist.split("\n")) {
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                assertTrue(line, line.startsWith("http://127.0.0.1:"));
+                urls.add(line);
+            }
+        }
+        assertEquals(SEGMENT_COUNT, urls.size());
+        return urls;
+    }
+
+    private static byte[] segment(int index) {
+        final byte[] data = new byte[SEGMENT_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i * 7 + index);
+        }
+        return data;
+    }
+
+    private static byte[] get(String url, String range) throws IOException {
+        return read(open(url, range));
+    }
+
+    private static HttpURLConnection open(String url, String range) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setReadTimeout(10000);
+        if (range != null) {
+            connection.setRequestProperty("Range", range);
+        }
+        return connection;
+    }
+
+    private static byte[] read(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getInputStream()) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[16 * 1024];
+            int read;
+            while ((read = input.read(chunk)) >= 0) {
+                output.write(chunk, 0, read);
+            }
+            return output.toByteArray();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static byte[] readFully(InputStream input, int count) throws IOException {
+        final byte[] data = new byte[count];
+        int offset = 0;
+        while (offset < count) {
+            final int read = input.read(data, offset, count - offset);
+            if (read < 0) {
+                throw new IOException("Response shorter than expected");
+            }
+            offset += read;
+        }
+        return data;
+    }
+}
@@ -0,0 +1,45 @@
+package software.solid.fluttervlcplayer;
+
+import java.util.Locale;
+
+/**
+ * Measures the cost per event of sixteen players delivering through the main thread stage. Not a
+ * test, run it by hand with the test classpath:
+ * {@code java software.solid.fluttervlcplayer.MainThreadEventSinkBenchmark}.
+ */
+public final class MainThreadEventSinkBenchmark {
+    private static final int PLAYERS = 16;
+    private static final int EVENTS_PER_PLAYER = 100000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+
+    private MainThreadEventSinkBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        long bestNanos = Long.MAX_VALUE;
+        long totalNanos = 0;
+        int drains = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            try (ConcurrentPlayers players = new ConcurrentPlayers(PLAYERS)) {
+                final long nanos = players.run(EVENTS_PER_PLAYER);
+                if (round >= WARMUP_ROUNDS) {
+                    bestNanos = Math.min(bestNanos, nanos);
+                    totalNanos += nanos;
+                    drains += players.drainCount.get();
+                }
+            }
+        }
+
+        final double events = (double) PLAYERS * EVENTS_PER_PLAYER;
+        System.out.println(String.format(
+                Locale.ROOT,
+                "%d players, %d events each: %.1f ns per event on average, %.1f at best, %.0f events per drain",
+                PLAYERS,
+                EVENTS_PER_PLAYER,
+                totalNanos / ROUNDS / events,
+                bestNanos / events,
+                events * ROUNDS / drains
+        ));
+    }
+}
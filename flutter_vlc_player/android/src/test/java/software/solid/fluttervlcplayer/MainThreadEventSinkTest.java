@@ -0,0 +1,56 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class MainThreadEventSinkTest {
+    private static final int PLAYERS = 16;
+    private static final int EVENTS_PER_PLAYER = 20000;
+
+    private ConcurrentPlayers players;
+
+    @Before
+    public void setUp() throws Exception {
+        players = new ConcurrentPlayers(PLAYERS);
+    }
+
+    @After
+    public void tearDown() {
+        players.close();
+    }
+
+    @Test
+    public void deliversImmediatelyOnTheMainThread() throws Exception {
+        final RecordingEventSink delegate = new RecordingEventSink();
+        final MainThreadEventSink sink = players.newSink(delegate);
+
+        players.mainExecutor.submit(() -> sink.success("playing")).get();
+
+        assertEquals(1, delegate.events.size());
+        assertEquals(0, players.drainCount.get());
+    }
+
+    /**
+     * Sixteen players producing events concurrently, see {@link MainThreadEventSinkBenchmark} for
+     * the cost per event.
+     */
+    @Test
+    public void sixteenConcurrentPlayersDeliverInOrderInBatches() throws Exception {
+        players.run(EVENTS_PER_PLAYER);
+
+        assertEquals(0, players.offMainDeliveries.get());
+        for (List<Object> events : players.received) {
+            assertEquals(EVENTS_PER_PLAYER, events.size());
+            for (int i = 0; i < EVENTS_PER_PLAYER; i++) {
+                assertEquals(i, events.get(i));
+            }
+        }
+        assertTrue("one drain per event", players.drainCount.get() < PLAYERS * EVENTS_PER_PLAYER);
+    }
+}
@@ -0,0 +1,221 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class MediaCacheProxyTest {
+    private static final byte[] MEDIA = new byte[300 * 1024];
+
+    static {
+        for (int i = 0; i < MEDIA.length; i++) {
+            MEDIA[i] = (byte) (i * 31);
+        }
+    }
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    // holds the second half of /held.mp4 back until released
+    private final CountDownLatch heldRelease = new CountDownLatch(1);
+    private OriginServer origin;
+    private MediaCacheProxy proxy;
+
+    @Before
+    public void setUp() throws IOException {
+        origin = new OriginServer() {
+            @Override
+            void writeBody(String path, OutputStream output, byte[] body, int offset, int length) throws IOException {
+                if (!path.equals("/held.mp4")) {
+                    super.writeBody(path, output, body, offset, length);
+                    return;
+                }
+                final int half = length / 2;
+                output.write(body, offset, half);
+                output.flush();
+                try {
+                    heldRelease.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                output.write(body, offset + half, length - half);
+            }
+        };
+        origin.put("/clip.mp4", MEDIA, "video/mp4");
+        origin.put("/held.mp4", MEDIA, "video/mp4");
+        proxy = new MediaCacheProxy(new MediaDiskCache(folder.newFolder("cache"), 10 * 1024 * 1024));
+    }
+
+    @After
+    public void tearDown() {
+        heldRelease.countDown();
+        proxy.close();
+        origin.close();
+    }
+
+    @Test
+    public void servesTheSecondPlaybackFromTheCache() throws IOException {
+        final String url = proxy.proxiedUrlFor(origin.urlOf("/clip.mp4"));
+        assertNotEquals(origin.urlOf("/clip.mp4"), url);
+
+        assertArrayEquals(MEDIA, get(url, null));
+        awaitCachedBytes(MEDIA.length);
+        assertArrayEquals(MEDIA, get(url, null));
+
+        assertEquals(1, origin.requestCount("/clip.mp4"));
+        final MediaDiskCache.Stats stats = proxy.getCacheStats();
+        assertEquals(1, stats.hits);
+        assertEquals(1, stats.misses);
+        assertEquals(MEDIA.length, stats.bytesFromNetwork);
+        assertEquals(MEDIA.length, stats.bytesFromCache);
+        assertEquals(MEDIA.length, stats.sizeBytes);
+    }
+
+    @Test
+    public void servesRangesFromTheCache() throws IOException {
+        final String url = proxy.proxiedUrlFor(origin.urlOf("/clip.mp4"));
+        get(url, null);
+        awaitCachedBytes(MEDIA.length);
+
+        final HttpURLConnection connection = open(url, "bytes=1000-1999");
+        assertEquals(206, connection.getResponseCode());
+        assertEquals("bytes 1000-1999/" + MEDIA.length, connection.getHeaderField("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(MEDIA, 1000, 2000), read(connection));
+        assertArrayEquals(Arrays.copyOfRange(MEDIA, MEDIA.length - 10, MEDIA.length), get(url, "bytes=" + (MEDIA.length - 10) + "-"));
+
+        assertEquals(1, origin.requestCount("/clip.mp4"));
+    }
+
+    @Test
+    public void forwardsRangesOfUncachedMediaWithoutCachingThem() throws IOException {
+        final String url = proxy.proxiedUrlFor(origin.urlOf("/clip.mp4"));
+
+        assertArrayEquals(Arrays.copyOfRange(MEDIA, 5000, 6000), get(url, "bytes=5000-5999"));
+        assertArrayEquals(MEDIA, get(url, null));
+
+        assertEquals(2, origin.requestCount("/clip.mp4"));
+        awaitCachedBytes(MEDIA.length);
+    }
+
+    @Test
+    public void keepsFillingTheCacheOnceThePlayerDisconnects() throws IOException {
+        final URL url = new URL(proxy.proxiedUrlFor(origin.urlOf("/held.mp4")));
+        try (Socket player = new Socket(url.getHost(), url.getPort())) {
+            player.getOutputStream().write(("GET " + url.getFile() + " HTTP/1.1\r\nHost: " + url.getHost() + "\r\n\r\n")
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            assertNotEquals(-1, player.getInputStream().read());
+            // a reset, as a player seeking away drops its connection
+            player.setSoLinger(true, 0);
+        }
+        heldRelease.countDown();
+
+        awaitCachedBytes(MEDIA.length);
+        assertArrayEquals(MEDIA, get(url.toString(), null));
+        assertEquals(1, origin.requestCount("/held.mp4"));
+    }
+
+    @Test
+    public void followsRedirectsAndCachesUnderTheRequestedUrl() throws IOException {
+        origin.redirect("/short", "/moved");
+        origin.redirect("/moved", origin.urlOf("/clip.mp4"));
+        final String url = proxy.proxiedUrlFor(origin.urlOf("/short"));
+
+        assertArrayEquals(MEDIA, get(url, null));
+        awaitCachedBytes(MEDIA.length);
+        assertArrayEquals(MEDIA, get(url, null));
+
+        assertEquals(1, origin.requestCount("/short"));
+        assertEquals(1, origin.requestCount("/clip.mp4"));
+    }
+
+    @Test
+    public void passesEndlessRedirectsThrough() throws IOException {
+        origin.redirect("/loop", "/loop");
+        final HttpURLConnection connection = open(proxy.proxiedUrlFor(origin.urlOf("/loop")), null);
+        connection.setInstanceFollowRedirects(false);
+
+        assertEquals(302, connection.getResponseCode());
+        assertEquals(origin.urlOf("/loop"), connection.getHeaderField("Location"));
+        connection.disconnect();
+    }
+
+    @Test
+    public void passesManifestUrlsThrough() {
+        assertEquals(origin.urlOf("/live.m3u8"), proxy.proxiedUrlFor(origin.urlOf("/live.m3u8")));
+        assertEquals(origin.urlOf("/live.M3U8?token=1"), proxy.proxiedUrlFor(origin.urlOf("/live.M3U8?token=1")));
+        assertEquals(origin.urlOf("/stream.mpd"), proxy.proxiedUrlFor(origin.urlOf("/stream.mpd")));
+        assertEquals("rtsp://example.com/clip.mp4", proxy.proxiedUrlFor("rtsp://example.com/clip.mp4"));
+    }
+
+    @Test
+    public void neverPersistsManifestResponses() throws IOException {
+        final byte[] first = "#EXTM3U\n#EXT-X-MEDIA-SEQUENCE:1\n".getBytes(StandardCharsets.UTF_8);
+        final byte[] second = "#EXTM3U\n#EXT-X-MEDIA-SEQUENCE:2\n".getBytes(StandardCharsets.UTF_8);
+        final String url = proxy.proxiedUrlFor(origin.urlOf("/live"));
+
+        origin.put("/live", first, "application/x-mpegURL; charset=utf-8");
+        assertArrayEquals(first, get(url, null));
+        origin.put("/live", second, "application/x-mpegURL; charset=utf-8");
+        assertArrayEquals(second, get(url, null));
+        origin.put("/live", second, "application/dash+xml");
+        assertArrayEquals(second, get(url, null));
+
+        assertEquals(3, origin.requestCount("/live"));
+        assertEquals(0, proxy.getCacheStats().sizeBytes);
+    }
+
+    /**
+     * Waits for the download to be committed, which happens once the player got the whole media.
+     */
+    private void awaitCachedBytes(long sizeBytes) {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (proxy.getCacheStats().sizeBytes != sizeBytes && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(sizeBytes, proxy.getCacheStats().sizeBytes);
+    }
+
+    private static byte[] get(String url, String range) throws IOException {
+        return read(open(url, range));
+    }
+
+    private static HttpURLConnection open(String url, String range) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        if (range != null) {
+            connection.setRequestProperty("Range", range);
+        }
+        return connection;
+    }
+
+    private static byte[] read(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getInputStream()) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[16 * 1024];
+            int read;
+            while ((read = input.read(chunk)) >= 0) {
+                output.write(chunk, 0, read);
+            }
+            return output.toByteArray();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
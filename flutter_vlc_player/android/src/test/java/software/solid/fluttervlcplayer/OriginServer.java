@@ -0,0 +1,110 @@
+package software.solid.fluttervlcplayer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An origin server on the loopback interface serving fixed bodies, with single byte ranges, or
+ * redirects, and counting the requests of each path.
+ */
+class OriginServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+    private final Map<String, String> types = new ConcurrentHashMap<>();
+    private final Map<String, String> redirects = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+    OriginServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 0), 0);
+        server.createContext("/", this::handle);
+        // a body held back must not hold the other requests back
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    void put(String path, byte[] body, String contentType) {
+        bodies.put(path, body);
+        types.put(path, contentType);
+    }
+
+    /**
+     * Answers the requests of {@code path} with a 302 to {@code location}.
+     */
+    void redirect(String path, String location) {
+        redirects.put(path, location);
+    }
+
+    String urlOf(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    int requestCount(String path) {
+        final AtomicInteger count = requestCounts.get(path);
+        return count != null ? count.get() : 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Writes {@code length} bytes of {@code body} from {@code offset}, the default writing the
+     * whole body at once.
+     */
+    void writeBody(String path, OutputStream output, byte[] body, int offset, int length) throws IOException {
+        output.write(body, offset, length);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        final String location = redirects.get(path);
+        if (location != null) {
+            exchange.getResponseHeaders().set("Location", location);
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+            return;
+        }
+        final byte[] body = bodies.get(path);
+        if (body == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", types.get(path));
+        int start = 0;
+        int end = body.length - 1;
+        final String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null && range.startsWith("bytes=")) {
+            final String[] bounds = range.substring(6).split("-", -1);
+            start = Integer.parseInt(bounds[0]);
+            if (!bounds[1].isEmpty()) {
+                end = Math.min(end, Integer.parseInt(bounds[1]));
+            }
+            exchange.getResponseHeaders().set("Content-Range", "bytes " + start + "-" + end + "/" + body.length);
+        }
+        final int length = end - start + 1;
+        final boolean isHead = exchange.getRequestMethod().equals("HEAD");
+        exchange.sendResponseHeaders(range != null ? 206 : 200, isHead ? -1 : length);
+        if (!isHead) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                writeBody(path, output, body, start, length);
+            }
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,87 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class PlayerCommandQueueTest {
+    private final ArrayDeque<Runnable> thread = new ArrayDeque<>();
+    private final PlayerCommandQueue queue = new PlayerCommandQueue(thread::addLast);
+    private final List<String> ran = new ArrayList<>();
+
+    @Test
+    public void runsCommandsInOrder() {
+        enqueue(PlayerCommandQueue.Kind.MEDIA, "setMedia(A)");
+        enqueue(PlayerCommandQueue.Kind.OTHER, "setVolume");
+        enqueue(PlayerCommandQueue.Kind.PLAYBACK, "play");
+
+        runPending();
+
+        assertEquals(Arrays.asList("setMedia(A)", "setVolume", "play"), ran);
+    }
+
+    @Test
+    public void supersedingMediaTakesThePlaceOfTheSupersededOne() {
+        enqueue(PlayerCommandQueue.Kind.MEDIA, "setMedia(A)");
+        enqueue(PlayerCommandQueue.Kind.OTHER, "addSubtitleTrack");
+        enqueue(PlayerCommandQueue.Kind.MEDIA, "setMedia(B)");
+
+        runPending();
+
+        assertEquals(Arrays.asList("setMedia(B)", "addSubtitleTrack"), ran);
+        assertEquals(1, queue.getSupersededCount());
+    }
+
+    @Test
+    public void supersedingSeekTakesThePlaceOfTheSupersededOne() {
+        enqueue(PlayerCommandQueue.Kind.SEEK, "seekTo(10)");
+        enqueue(PlayerCommandQueue.Kind.OTHER, "setAudioTrack");
+        enqueue(PlayerCommandQueue.Kind.SEEK, "seekTo(20)");
+
+        runPending();
+
+        assertEquals(Arrays.asList("seekTo(20)", "setAudioTrack"), ran);
+    }
+
+    @Test
+    public void mediaSupersedesThePendingSeekAndPlayback() {
+        enqueue(PlayerCommandQueue.Kind.PLAYBACK, "play");
+        enqueue(PlayerCommandQueue.Kind.SEEK, "seekTo(10)");
+        enqueue(PlayerCommandQueue.Kind.OTHER, "setVolume");
+        enqueue(PlayerCommandQueue.Kind.MEDIA, "setMedia(A)");
+        enqueue(PlayerCommandQueue.Kind.PLAYBACK, "pause");
+
+        runPending();
+
+        assertEquals(Arrays.asList("setVolume", "setMedia(A)", "pause"), ran);
+        assertEquals(2, queue.getSupersededCount());
+    }
+
+    @Test
+    public void commandSentWhileRunningIsNotSuperseded() {
+        enqueue(PlayerCommandQueue.Kind.MEDIA, "setMedia(A)");
+        thread.pollFirst().run();
+        enqueue(PlayerCommandQueue.Kind.MEDIA, "setMedia(B)");
+
+        runPending();
+
+        assertEquals(Arrays.asList("setMedia(A)", "setMedia(B)"), ran);
+        assertEquals(0, queue.getSupersededCount());
+    }
+
+    private void enqueue(int kind, String name) {
+        queue.enqueue(kind, () -> ran.add(name));
+    }
+
+    private void runPending() {
+        Runnable runnable;
+        while ((runnable = thread.pollFirst()) != null) {
+            runnable.run();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class QueuingEventSinkTest {
+
+    @Test
+    public void deliversQueuedEventsInOrderOnceListened() {
+        final QueuingEventSink sink = new QueuingEventSink(4, QueuingEventSink.OverflowPolicy.COALESCE);
+        final RecordingEventSink delegate = new RecordingEventSink();
+
+        sink.success(state("opening"));
+        sink.success(state("playing"));
+        sink.error("500", "failed", null);
+        sink.setDelegate(delegate);
+        sink.success(state("paused"));
+
+        assertEquals(
+                Arrays.asList(state("opening"), state("playing"), "error:500", state("paused")),
+                delegate.events
+        );
+        assertEquals(4, sink.getEmittedCount());
+        assertEquals(3, sink.getHighWaterMark());
+    }
+
+    @Test
+    public void unboundedKeepsEveryTimeChange() {
+        final QueuingEventSink sink = new QueuingEventSink(4, QueuingEventSink.OverflowPolicy.UNBOUNDED);
+        for (int i = 1; i <= 10; i++) {
+            sink.success(tick(i));
+        }
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+
+        assertEquals(10, delegate.events.size());
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(tick(i), delegate.events.get(i - 1));
+        }
+        assertEquals(10, sink.getEmittedCount());
+        assertEquals(0, sink.getDroppedCount());
+        assertEquals(0, sink.getCoalescedCount());
+        assertEquals(10, sink.getHighWaterMark());
+    }
+
+    @Test
+    public void dropOldestDiscardsTheOldestTimeChanges() {
+        final QueuingEventSink sink = new QueuingEventSink(4, QueuingEventSink.OverflowPolicy.DROP_OLDEST);
+        sink.success(state("playing"));
+        for (int i = 1; i <= 6; i++) {
+            sink.success(tick(i));
+        }
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+
+        assertEquals(Arrays.asList(state("playing"), tick(4), tick(5), tick(6)), delegate.events);
+        assertEquals(7, sink.getEmittedCount());
+        assertEquals(3, sink.getDroppedCount());
+        assertEquals(0, sink.getCoalescedCount());
+        assertEquals(4, sink.getHighWaterMark());
+    }
+
+    @Test
+    public void dropOldestNeverDiscardsLifecycleEvents() {
+        final QueuingEventSink sink = new QueuingEventSink(2, QueuingEventSink.OverflowPolicy.DROP_OLDEST);
+        sink.success(state("opening"));
+        sink.success(state("playing"));
+        sink.success(state("paused"));
+        sink.endOfStream();
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+
+        assertEquals(
+                Arrays.asList(state("opening"), state("playing"), state("paused"), "endOfStream"),
+                delegate.events
+        );
+        assertEquals(0, sink.getDroppedCount());
+        assertEquals(4, sink.getHighWaterMark());
+    }
+
+    @Test
+    public void coalesceMergesConsecutiveTimeChanges() {
+        final QueuingEventSink sink = new QueuingEventSink(256, QueuingEventSink.OverflowPolicy.COALESCE);
+        sink.success(state("playing"));
+        sink.success(tick(1));
+        sink.success(tick(2));
+        sink.success(tick(3));
+        sink.success(state("paused"));
+        sink.success(tick(4));
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+
+        assertEquals(Arrays.asList(state("playing"), tick(3), state("paused"), tick(4)), delegate.events);
+        assertEquals(6, sink.getEmittedCount());
+        assertEquals(2, sink.getCoalescedCount());
+        assertEquals(0, sink.getDroppedCount());
+        assertEquals(4, sink.getHighWaterMark());
+    }
+
+    @Test
+    public void coalesceAppliesDeltasOnTheQueuedTimeChange() {
+        final QueuingEventSink sink = new QueuingEventSink(256, QueuingEventSink.OverflowPolicy.COALESCE);
+        final Map<String, Object> full = tick(1);
+        full.put("duration", 100L);
+        final Map<String, Object> delta = tick(2);
+        delta.put("delta", true);
+        sink.success(full);
+        sink.success(delta);
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+
+        final Map<String, Object> expected = tick(2);
+        expected.put("duration", 100L);
+        assertEquals(Arrays.asList(expected), delegate.events);
+        assertFalse(((Map<?, ?>) delegate.events.get(0)).containsKey("delta"));
+    }
+
+    @Test
+    public void coalesceThenDropsWhenTheQueueIsFull() {
+        final QueuingEventSink sink = new QueuingEventSink(2, QueuingEventSink.OverflowPolicy.COALESCE);
+        sink.success(tick(1));
+        sink.success(state("buffering"));
+        sink.success(tick(2));
+        sink.success(state("playing"));
+        sink.success(tick(3));
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+
+        // every time change but the last is folded away, lifecycle events overflow the capacity
+        assertEquals(Arrays.asList(state("buffering"), state("playing"), tick(3)), delegate.events);
+        assertEquals(2, sink.getDroppedCount());
+        assertEquals(0, sink.getCoalescedCount());
+    }
+
+    @Test
+    public void eventsAfterTheEndOfStreamAreIgnored() {
+        final QueuingEventSink sink = new QueuingEventSink();
+        final RecordingEventSink delegate = new RecordingEventSink();
+        sink.setDelegate(delegate);
+        sink.endOfStream();
+        sink.success(tick(1));
+
+        assertEquals(Arrays.asList("endOfStream"), delegate.events);
+        assertEquals(1, sink.getEmittedCount());
+    }
+
+    static Map<String, Object> tick(long position) {
+        final Map<String, Object> event = new HashMap<>();
+        event.put("event", "timeChanged");
+        event.put("position", position);
+        return event;
+    }
+
+    static Map<String, Object> state(String name) {
+        final Map<String, Object> event = new HashMap<>();
+        event.put("event", name);
+        return event;
+    }
+}
@@ -0,0 +1,28 @@
+package software.solid.fluttervlcplayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * An event sink keeping what it receives, errors and the end of stream as strings.
+ */
+class RecordingEventSink implements EventChannel.EventSink {
+    final List<Object> events = new ArrayList<>();
+
+    @Override
+    public void success(Object event) {
+        events.add(event);
+    }
+
+    @Override
+    public void error(String code, String message, Object details) {
+        events.add("error:" + code);
+    }
+
+    @Override
+    public void endOfStream() {
+        events.add("endOfStream");
+    }
+}
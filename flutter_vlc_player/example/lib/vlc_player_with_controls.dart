@@ -372,6 +372,8 @@ class VlcPlayerWithControlsState extends State<VlcPlayerWithControls>
                               : _controller.value.duration.inSeconds.toDouble(),
                           onChanged:
                               validPosition ? _onSliderPositionChanged : null,
+                          onChangeEnd:
+                              validPosition ? _onSliderPositionChangeEnd : null,
                         ),
                       ),
                       Text(
@@ -460,8 +462,15 @@ class VlcPlayerWithControlsState extends State<VlcPlayerWithControls>
     setState(() {
       sliderValue = progress.floor().toDouble();
     });
-    //convert to Milliseconds since VLC requires MS to set time
-    _controller.setTime(sliderValue.toInt() * Duration.millisecondsPerSecond);
+    // keyframe seeks while dragging, the precise one is done on release
+    _controller.seekTo(
+      Duration(seconds: sliderValue.toInt()),
+      mode: VlcSeekMode.fast,
+    );
+  }
+
+  void _onSliderPositionChangeEnd(double progress) {
+    _controller.seekTo(Duration(seconds: progress.floor()));
   }
 
   Future<void> _getSubtitleTracks() async {
@@ -449,4 +449,68 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi{
         message.result = player?.stopRecording()
         return message
     }
+    
+    public func getPlayerStats(_ input: ViewMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) -> PlayerStatsMessage? {
+        
+        // runtime counters are only kept by the Android player
+        let message: PlayerStatsMessage = PlayerStatsMessage()
+        message.viewId = input.viewId
+        return message
+    }
+    
+    public func setEventMask(_ input: EventMaskMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // every event is always sent by the iOS player
+    }
+    
+    public func prewarm(_ input: PrewarmMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // MobileVLCKit shares a single library instance, nothing to pre-warm
+    }
+    
+    public func preload(_ input: PreloadMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // the next media is opened from scratch by the iOS player
+    }
+    
+    public func appendPlaylistItem(_ input: PlaylistItemMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // the native playlist is only implemented by the Android player
+    }
+    
+    public func insertPlaylistItem(_ input: PlaylistItemMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // the native playlist is only implemented by the Android player
+    }
+    
+    public func removePlaylistItem(_ input: PlaylistIndexMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // the native playlist is only implemented by the Android player
+    }
+    
+    public func playPlaylistItem(_ input: PlaylistIndexMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // the native playlist is only implemented by the Android player
+    }
+    
+    public func clearPlaylist(_ input: ViewMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) {
+        
+        // the native playlist is only implemented by the Android player
+    }
+    
+    public func getMediaCacheStats(_ error: AutoreleasingUnsafeMutablePointer<FlutterError?>) -> MediaCacheStatsMessage? {
+        
+        // the disk cache is only implemented by the Android player
+        let message: MediaCacheStatsMessage = MediaCacheStatsMessage()
+        message.enabled = false
+        return message
+    }
+    
+    public func parseMedia(_ input: ParseMediaMessage, error: AutoreleasingUnsafeMutablePointer<FlutterError?>) -> ParsedMediaMessage? {
+        
+        // media parsing is only implemented by the Android player
+        let message: ParsedMediaMessage = ParsedMediaMessage()
+        message.items = []
+        return message
+    }
 }
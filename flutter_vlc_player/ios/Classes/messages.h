@@ -35,6 +35,15 @@ NS_ASSUME_NONNULL_BEGIN
 @class RenderDeviceMessage;
 @class RecordMessage;
 
+@class PlayerStatsMessage;
+@class EventMaskMessage;
+@class PrewarmMessage;
+@class PreloadMessage;
+@class PlaylistItemMessage;
+@class PlaylistIndexMessage;
+@class MediaCacheStatsMessage;
+@class ParseMediaMessage;
+@class ParsedMediaMessage;
 @interface CreateMessage : NSObject
 @property(nonatomic, strong, nullable) NSNumber * viewId;
 @property(nonatomic, copy, nullable) NSString * uri;
@@ -43,6 +52,15 @@ NS_ASSUME_NONNULL_BEGIN
 @property(nonatomic, strong, nullable) NSNumber * autoPlay;
 @property(nonatomic, strong, nullable) NSNumber * hwAcc;
 @property(nonatomic, strong, nullable) NSArray * options;
+@property(nonatomic, strong, nullable) NSNumber * eventRateMode;
+@property(nonatomic, strong, nullable) NSNumber * maxEventRate;
+@property(nonatomic, strong, nullable) NSNumber * deltaEvents;
+@property(nonatomic, strong, nullable) NSNumber * keyframeInterval;
+@property(nonatomic, strong, nullable) NSNumber * eventQueueCapacity;
+@property(nonatomic, strong, nullable) NSNumber * eventOverflowPolicy;
+@property(nonatomic, strong, nullable) NSNumber * binaryEvents;
+@property(nonatomic, strong, nullable) NSNumber * positionAnchors;
+@property(nonatomic, strong, nullable) NSNumber * eventMask;
 @end
 
 @interface ViewMessage : NSObject
@@ -71,6 +89,7 @@ NS_ASSUME_NONNULL_BEGIN
 @interface PositionMessage : NSObject
 @property(nonatomic, strong, nullable) NSNumber * viewId;
 @property(nonatomic, strong, nullable) NSNumber * position;
+@property(nonatomic, strong, nullable) NSNumber * seekMode;
 @end
 
 @interface DurationMessage : NSObject
@@ -182,6 +201,73 @@ NS_ASSUME_NONNULL_BEGIN
 @property(nonatomic, copy, nullable) NSString * saveDirectory;
 @end
 
+@interface PlayerStatsMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber * viewId;
+@property(nonatomic, strong, nullable) NSDictionary * eventsReceived;
+@property(nonatomic, strong, nullable) NSNumber * eventsEmitted;
+@property(nonatomic, strong, nullable) NSNumber * eventsDropped;
+@property(nonatomic, strong, nullable) NSNumber * eventsCoalesced;
+@property(nonatomic, strong, nullable) NSNumber * queueHighWaterMark;
+@property(nonatomic, strong, nullable) NSNumber * handlerBacklog;
+@property(nonatomic, strong, nullable) NSNumber * listenerAverageMicros;
+@property(nonatomic, strong, nullable) NSNumber * listenerP99Micros;
+@property(nonatomic, strong, nullable) NSNumber * commandsSuperseded;
+@property(nonatomic, strong, nullable) NSNumber * startupMillis;
+@property(nonatomic, strong, nullable) NSNumber * rebufferCount;
+@end
+
+@interface EventMaskMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber * viewId;
+@property(nonatomic, strong, nullable) NSNumber * mask;
+@end
+
+@interface PrewarmMessage : NSObject
+@property(nonatomic, strong, nullable) NSArray * options;
+@end
+
+@interface PreloadMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber * viewId;
+@property(nonatomic, copy, nullable) NSString * uri;
+@property(nonatomic, strong, nullable) NSNumber * type;
+@property(nonatomic, copy, nullable) NSString * packageName;
+@property(nonatomic, strong, nullable) NSNumber * hwAcc;
+@end
+
+@interface PlaylistItemMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber * viewId;
+@property(nonatomic, strong, nullable) NSNumber * index;
+@property(nonatomic, copy, nullable) NSString * uri;
+@property(nonatomic, strong, nullable) NSNumber * type;
+@property(nonatomic, copy, nullable) NSString * packageName;
+@property(nonatomic, strong, nullable) NSNumber * hwAcc;
+@end
+
+@interface PlaylistIndexMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber * viewId;
+@property(nonatomic, strong, nullable) NSNumber * index;
+@end
+
+@interface MediaCacheStatsMessage : NSObject
+@property(nonatomic, strong, nullable) NSNumber * enabled;
+@property(nonatomic, strong, nullable) NSNumber * hits;
+@property(nonatomic, strong, nullable) NSNumber * misses;
+@property(nonatomic, strong, nullable) NSNumber * bytesFromCache;
+@property(nonatomic, strong, nullable) NSNumber * bytesFromNetwork;
+@property(nonatomic, strong, nullable) NSNumber * evictions;
+@property(nonatomic, strong, nullable) NSNumber * sizeBytes;
+@end
+
+@interface ParseMediaMessage : NSObject
+@property(nonatomic, strong, nullable) NSArray * uris;
+@property(nonatomic, strong, nullable) NSNumber * type;
+@property(nonatomic, copy, nullable) NSString * packageName;
+@property(nonatomic, strong, nullable) NSNumber * timeoutMillis;
+@end
+
+@interface ParsedMediaMessage : NSObject
+@property(nonatomic, strong, nullable) NSArray * items;
+@end
+
 @protocol VlcPlayerApi
 -(void)initialize:(FlutterError *_Nullable *_Nonnull)error;
 -(void)create:(CreateMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
@@ -230,6 +316,17 @@ NS_ASSUME_NONNULL_BEGIN
 -(void)castToRenderer:(RenderDeviceMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
 -(nullable BooleanMessage *)startRecording:(RecordMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
 -(nullable BooleanMessage *)stopRecording:(ViewMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(nullable PlayerStatsMessage *)getPlayerStats:(ViewMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)setEventMask:(EventMaskMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)prewarm:(PrewarmMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)preload:(PreloadMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)appendPlaylistItem:(PlaylistItemMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)insertPlaylistItem:(PlaylistItemMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)removePlaylistItem:(PlaylistIndexMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)playPlaylistItem:(PlaylistIndexMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(void)clearPlaylist:(ViewMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
+-(nullable MediaCacheStatsMessage *)getMediaCacheStats:(FlutterError *_Nullable *_Nonnull)error;
+-(nullable ParsedMediaMessage *)parseMedia:(ParseMediaMessage*)input error:(FlutterError *_Nullable *_Nonnull)error;
 @end
 
 extern void VlcPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<VlcPlayerApi> _Nullable api);
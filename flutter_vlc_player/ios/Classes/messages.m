@@ -131,6 +131,42 @@ static NSDictionary<NSString*, id>* wrapResult(NSDictionary *result, FlutterErro
 -(NSDictionary*)toMap;
 @end
 
+@interface PlayerStatsMessage ()
++(PlayerStatsMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface EventMaskMessage ()
++(EventMaskMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface PrewarmMessage ()
++(PrewarmMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface PreloadMessage ()
++(PreloadMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface PlaylistItemMessage ()
++(PlaylistItemMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface PlaylistIndexMessage ()
++(PlaylistIndexMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface MediaCacheStatsMessage ()
++(MediaCacheStatsMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface ParseMediaMessage ()
++(ParseMediaMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
+@interface ParsedMediaMessage ()
++(ParsedMediaMessage*)fromMap:(NSDictionary*)dict;
+-(NSDictionary*)toMap;
+@end
 @implementation CreateMessage
 +(CreateMessage*)fromMap:(NSDictionary*)dict {
   CreateMessage* result = [[CreateMessage alloc] init];
@@ -162,10 +198,46 @@ static NSDictionary<NSString*, id>* wrapResult(NSDictionary *result, FlutterErro
   if ((NSNull *)result.options == [NSNull null]) {
     result.options = nil;
   }
+  result.eventRateMode = dict[@"eventRateMode"];
+  if ((NSNull *)result.eventRateMode == [NSNull null]) {
+    result.eventRateMode = nil;
+  }
+  result.maxEventRate = dict[@"maxEventRate"];
+  if ((NSNull *)result.maxEventRate == [NSNull null]) {
+    result.maxEventRate = nil;
+  }
+  result.deltaEvents = dict[@"deltaEvents"];
+  if ((NSNull *)result.deltaEvents == [NSNull null]) {
+    result.deltaEvents = nil;
+  }
+  result.keyframeInterval = dict[@"keyframeInterval"];
+  if ((NSNull *)result.keyframeInterval == [NSNull null]) {
+    result.keyframeInterval = nil;
+  }
+  result.eventQueueCapacity = dict[@"eventQueueCapacity"];
+  if ((NSNull *)result.eventQueueCapacity == [NSNull null]) {
+    result.eventQueueCapacity = nil;
+  }
+  result.eventOverflowPolicy = dict[@"eventOverflowPolicy"];
+  if ((NSNull *)result.eventOverflowPolicy == [NSNull null]) {
+    result.eventOverflowPolicy = nil;
+  }
+  result.binaryEvents = dict[@"binaryEvents"];
+  if ((NSNull *)result.binaryEvents == [NSNull null]) {
+    result.binaryEvents = nil;
+  }
+  result.positionAnchors = dict[@"positionAnchors"];
+  if ((NSNull *)result.positionAnchors == [NSNull null]) {
+    result.positionAnchors = nil;
+  }
+  result.eventMask = dict[@"eventMask"];
+  if ((NSNull *)result.eventMask == [NSNull null]) {
+    result.eventMask = nil;
+  }
   return result;
 }
 -(NSDictionary*)toMap {
-  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.uri ? self.uri : [NSNull null]), @"uri", (self.type ? self.type : [NSNull null]), @"type", (self.packageName ? self.packageName : [NSNull null]), @"packageName", (self.autoPlay ? self.autoPlay : [NSNull null]), @"autoPlay", (self.hwAcc ? self.hwAcc : [NSNull null]), @"hwAcc", (self.options ? self.options : [NSNull null]), @"options", nil];
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.uri ? self.uri : [NSNull null]), @"uri", (self.type ? self.type : [NSNull null]), @"type", (self.packageName ? self.packageName : [NSNull null]), @"packageName", (self.autoPlay ? self.autoPlay : [NSNull null]), @"autoPlay", (self.hwAcc ? self.hwAcc : [NSNull null]), @"hwAcc", (self.options ? self.options : [NSNull null]), @"options", (self.eventRateMode ? self.eventRateMode : [NSNull null]), @"eventRateMode", (self.maxEventRate ? self.maxEventRate : [NSNull null]), @"maxEventRate", (self.deltaEvents ? self.deltaEvents : [NSNull null]), @"deltaEvents", (self.keyframeInterval ? self.keyframeInterval : [NSNull null]), @"keyframeInterval", (self.eventQueueCapacity ? self.eventQueueCapacity : [NSNull null]), @"eventQueueCapacity", (self.eventOverflowPolicy ? self.eventOverflowPolicy : [NSNull null]), @"eventOverflowPolicy", (self.binaryEvents ? self.binaryEvents : [NSNull null]), @"binaryEvents", (self.positionAnchors ? self.positionAnchors : [NSNull null]), @"positionAnchors", (self.eventMask ? self.eventMask : [NSNull null]), @"eventMask", nil];
 }
 @end
 
@@ -264,10 +336,14 @@ static NSDictionary<NSString*, id>* wrapResult(NSDictionary *result, FlutterErro
   if ((NSNull *)result.position == [NSNull null]) {
     result.position = nil;
   }
+  result.seekMode = dict[@"seekMode"];
+  if ((NSNull *)result.seekMode == [NSNull null]) {
+    result.seekMode = nil;
+  }
   return result;
 }
 -(NSDictionary*)toMap {
-  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.position ? self.position : [NSNull null]), @"position", nil];
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.position ? self.position : [NSNull null]), @"position", (self.seekMode ? self.seekMode : [NSNull null]), @"seekMode", nil];
 }
 @end
 
@@ -665,6 +741,256 @@ static NSDictionary<NSString*, id>* wrapResult(NSDictionary *result, FlutterErro
 }
 @end
 
+@implementation PlayerStatsMessage
++(PlayerStatsMessage*)fromMap:(NSDictionary*)dict {
+  PlayerStatsMessage* result = [[PlayerStatsMessage alloc] init];
+  result.viewId = dict[@"viewId"];
+  if ((NSNull *)result.viewId == [NSNull null]) {
+    result.viewId = nil;
+  }
+  result.eventsReceived = dict[@"eventsReceived"];
+  if ((NSNull *)result.eventsReceived == [NSNull null]) {
+    result.eventsReceived = nil;
+  }
+  result.eventsEmitted = dict[@"eventsEmitted"];
+  if ((NSNull *)result.eventsEmitted == [NSNull null]) {
+    result.eventsEmitted = nil;
+  }
+  result.eventsDropped = dict[@"eventsDropped"];
+  if ((NSNull *)result.eventsDropped == [NSNull null]) {
+    result.eventsDropped = nil;
+  }
+  result.eventsCoalesced = dict[@"eventsCoalesced"];
+  if ((NSNull *)result.eventsCoalesced == [NSNull null]) {
+    result.eventsCoalesced = nil;
+  }
+  result.queueHighWaterMark = dict[@"queueHighWaterMark"];
+  if ((NSNull *)result.queueHighWaterMark == [NSNull null]) {
+    result.queueHighWaterMark = nil;
+  }
+  result.handlerBacklog = dict[@"handlerBacklog"];
+  if ((NSNull *)result.handlerBacklog == [NSNull null]) {
+    result.handlerBacklog = nil;
+  }
+  result.listenerAverageMicros = dict[@"listenerAverageMicros"];
+  if ((NSNull *)result.listenerAverageMicros == [NSNull null]) {
+    result.listenerAverageMicros = nil;
+  }
+  result.listenerP99Micros = dict[@"listenerP99Micros"];
+  if ((NSNull *)result.listenerP99Micros == [NSNull null]) {
+    result.listenerP99Micros = nil;
+  }
+  result.commandsSuperseded = dict[@"commandsSuperseded"];
+  if ((NSNull *)result.commandsSuperseded == [NSNull null]) {
+    result.commandsSuperseded = nil;
+  }
+  result.startupMillis = dict[@"startupMillis"];
+  if ((NSNull *)result.startupMillis == [NSNull null]) {
+    result.startupMillis = nil;
+  }
+  result.rebufferCount = dict[@"rebufferCount"];
+  if ((NSNull *)result.rebufferCount == [NSNull null]) {
+    result.rebufferCount = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.eventsReceived ? self.eventsReceived : [NSNull null]), @"eventsReceived", (self.eventsEmitted ? self.eventsEmitted : [NSNull null]), @"eventsEmitted", (self.eventsDropped ? self.eventsDropped : [NSNull null]), @"eventsDropped", (self.eventsCoalesced ? self.eventsCoalesced : [NSNull null]), @"eventsCoalesced", (self.queueHighWaterMark ? self.queueHighWaterMark : [NSNull null]), @"queueHighWaterMark", (self.handlerBacklog ? self.handlerBacklog : [NSNull null]), @"handlerBacklog", (self.listenerAverageMicros ? self.listenerAverageMicros : [NSNull null]), @"listenerAverageMicros", (self.listenerP99Micros ? self.listenerP99Micros : [NSNull null]), @"listenerP99Micros", (self.commandsSuperseded ? self.commandsSuperseded : [NSNull null]), @"commandsSuperseded", (self.startupMillis ? self.startupMillis : [NSNull null]), @"startupMillis", (self.rebufferCount ? self.rebufferCount : [NSNull null]), @"rebufferCount", nil];
+}
+@end
+
+@implementation EventMaskMessage
++(EventMaskMessage*)fromMap:(NSDictionary*)dict {
+  EventMaskMessage* result = [[EventMaskMessage alloc] init];
+  result.viewId = dict[@"viewId"];
+  if ((NSNull *)result.viewId == [NSNull null]) {
+    result.viewId = nil;
+  }
+  result.mask = dict[@"mask"];
+  if ((NSNull *)result.mask == [NSNull null]) {
+    result.mask = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.mask ? self.mask : [NSNull null]), @"mask", nil];
+}
+@end
+
+@implementation PrewarmMessage
++(PrewarmMessage*)fromMap:(NSDictionary*)dict {
+  PrewarmMessage* result = [[PrewarmMessage alloc] init];
+  result.options = dict[@"options"];
+  if ((NSNull *)result.options == [NSNull null]) {
+    result.options = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.options ? self.options : [NSNull null]), @"options", nil];
+}
+@end
+
+@implementation PreloadMessage
++(PreloadMessage*)fromMap:(NSDictionary*)dict {
+  PreloadMessage* result = [[PreloadMessage alloc] init];
+  result.viewId = dict[@"viewId"];
+  if ((NSNull *)result.viewId == [NSNull null]) {
+    result.viewId = nil;
+  }
+  result.uri = dict[@"uri"];
+  if ((NSNull *)result.uri == [NSNull null]) {
+    result.uri = nil;
+  }
+  result.type = dict[@"type"];
+  if ((NSNull *)result.type == [NSNull null]) {
+    result.type = nil;
+  }
+  result.packageName = dict[@"packageName"];
+  if ((NSNull *)result.packageName == [NSNull null]) {
+    result.packageName = nil;
+  }
+  result.hwAcc = dict[@"hwAcc"];
+  if ((NSNull *)result.hwAcc == [NSNull null]) {
+    result.hwAcc = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.uri ? self.uri : [NSNull null]), @"uri", (self.type ? self.type : [NSNull null]), @"type", (self.packageName ? self.packageName : [NSNull null]), @"packageName", (self.hwAcc ? self.hwAcc : [NSNull null]), @"hwAcc", nil];
+}
+@end
+
+@implementation PlaylistItemMessage
++(PlaylistItemMessage*)fromMap:(NSDictionary*)dict {
+  PlaylistItemMessage* result = [[PlaylistItemMessage alloc] init];
+  result.viewId = dict[@"viewId"];
+  if ((NSNull *)result.viewId == [NSNull null]) {
+    result.viewId = nil;
+  }
+  result.index = dict[@"index"];
+  if ((NSNull *)result.index == [NSNull null]) {
+    result.index = nil;
+  }
+  result.uri = dict[@"uri"];
+  if ((NSNull *)result.uri == [NSNull null]) {
+    result.uri = nil;
+  }
+  result.type = dict[@"type"];
+  if ((NSNull *)result.type == [NSNull null]) {
+    result.type = nil;
+  }
+  result.packageName = dict[@"packageName"];
+  if ((NSNull *)result.packageName == [NSNull null]) {
+    result.packageName = nil;
+  }
+  result.hwAcc = dict[@"hwAcc"];
+  if ((NSNull *)result.hwAcc == [NSNull null]) {
+    result.hwAcc = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.index ? self.index : [NSNull null]), @"index", (self.uri ? self.uri : [NSNull null]), @"uri", (self.type ? self.type : [NSNull null]), @"type", (self.packageName ? self.packageName : [NSNull null]), @"packageName", (self.hwAcc ? self.hwAcc : [NSNull null]), @"hwAcc", nil];
+}
+@end
+
+@implementation PlaylistIndexMessage
++(PlaylistIndexMessage*)fromMap:(NSDictionary*)dict {
+  PlaylistIndexMessage* result = [[PlaylistIndexMessage alloc] init];
+  result.viewId = dict[@"viewId"];
+  if ((NSNull *)result.viewId == [NSNull null]) {
+    result.viewId = nil;
+  }
+  result.index = dict[@"index"];
+  if ((NSNull *)result.index == [NSNull null]) {
+    result.index = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.viewId ? self.viewId : [NSNull null]), @"viewId", (self.index ? self.index : [NSNull null]), @"index", nil];
+}
+@end
+
+@implementation MediaCacheStatsMessage
++(MediaCacheStatsMessage*)fromMap:(NSDictionary*)dict {
+  MediaCacheStatsMessage* result = [[MediaCacheStatsMessage alloc] init];
+  result.enabled = dict[@"enabled"];
+  if ((NSNull *)result.enabled == [NSNull null]) {
+    result.enabled = nil;
+  }
+  result.hits = dict[@"hits"];
+  if ((NSNull *)result.hits == [NSNull null]) {
+    result.hits = nil;
+  }
+  result.misses = dict[@"misses"];
+  if ((NSNull *)result.misses == [NSNull null]) {
+    result.misses = nil;
+  }
+  result.bytesFromCache = dict[@"bytesFromCache"];
+  if ((NSNull *)result.bytesFromCache == [NSNull null]) {
+    result.bytesFromCache = nil;
+  }
+  result.bytesFromNetwork = dict[@"bytesFromNetwork"];
+  if ((NSNull *)result.bytesFromNetwork == [NSNull null]) {
+    result.bytesFromNetwork = nil;
+  }
+  result.evictions = dict[@"evictions"];
+  if ((NSNull *)result.evictions == [NSNull null]) {
+    result.evictions = nil;
+  }
+  result.sizeBytes = dict[@"sizeBytes"];
+  if ((NSNull *)result.sizeBytes == [NSNull null]) {
+    result.sizeBytes = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.enabled ? self.enabled : [NSNull null]), @"enabled", (self.hits ? self.hits : [NSNull null]), @"hits", (self.misses ? self.misses : [NSNull null]), @"misses", (self.bytesFromCache ? self.bytesFromCache : [NSNull null]), @"bytesFromCache", (self.bytesFromNetwork ? self.bytesFromNetwork : [NSNull null]), @"bytesFromNetwork", (self.evictions ? self.evictions : [NSNull null]), @"evictions", (self.sizeBytes ? self.sizeBytes : [NSNull null]), @"sizeBytes", nil];
+}
+@end
+
+@implementation ParseMediaMessage
++(ParseMediaMessage*)fromMap:(NSDictionary*)dict {
+  ParseMediaMessage* result = [[ParseMediaMessage alloc] init];
+  result.uris = dict[@"uris"];
+  if ((NSNull *)result.uris == [NSNull null]) {
+    result.uris = nil;
+  }
+  result.type = dict[@"type"];
+  if ((NSNull *)result.type == [NSNull null]) {
+    result.type = nil;
+  }
+  result.packageName = dict[@"packageName"];
+  if ((NSNull *)result.packageName == [NSNull null]) {
+    result.packageName = nil;
+  }
+  result.timeoutMillis = dict[@"timeoutMillis"];
+  if ((NSNull *)result.timeoutMillis == [NSNull null]) {
+    result.timeoutMillis = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.uris ? self.uris : [NSNull null]), @"uris", (self.type ? self.type : [NSNull null]), @"type", (self.packageName ? self.packageName : [NSNull null]), @"packageName", (self.timeoutMillis ? self.timeoutMillis : [NSNull null]), @"timeoutMillis", nil];
+}
+@end
+
+@implementation ParsedMediaMessage
++(ParsedMediaMessage*)fromMap:(NSDictionary*)dict {
+  ParsedMediaMessage* result = [[ParsedMediaMessage alloc] init];
+  result.items = dict[@"items"];
+  if ((NSNull *)result.items == [NSNull null]) {
+    result.items = nil;
+  }
+  return result;
+}
+-(NSDictionary*)toMap {
+  return [NSDictionary dictionaryWithObjectsAndKeys:(self.items ? self.items : [NSNull null]), @"items", nil];
+}
+@end
+
 void VlcPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<VlcPlayerApi> api) {
   {
     FlutterBasicMessageChannel *channel =
@@ -1464,4 +1790,190 @@ void VlcPlayerApiSetup(id<FlutterBinaryMessenger> binaryMessenger, id<VlcPlayerA
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.getPlayerStats"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        ViewMessage *input = [ViewMessage fromMap:message];
+        FlutterError *error;
+        PlayerStatsMessage *output = [api getPlayerStats:input error:&error];
+        callback(wrapResult([output toMap], error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.setEventMask"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        EventMaskMessage *input = [EventMaskMessage fromMap:message];
+        FlutterError *error;
+        [api setEventMask:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.prewarm"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        PrewarmMessage *input = [PrewarmMessage fromMap:message];
+        FlutterError *error;
+        [api prewarm:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.preload"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        PreloadMessage *input = [PreloadMessage fromMap:message];
+        FlutterError *error;
+        [api preload:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.appendPlaylistItem"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        PlaylistItemMessage *input = [PlaylistItemMessage fromMap:message];
+        FlutterError *error;
+        [api appendPlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.insertPlaylistItem"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        PlaylistItemMessage *input = [PlaylistItemMessage fromMap:message];
+        FlutterError *error;
+        [api insertPlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.removePlaylistItem"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        PlaylistIndexMessage *input = [PlaylistIndexMessage fromMap:message];
+        FlutterError *error;
+        [api removePlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.playPlaylistItem"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        PlaylistIndexMessage *input = [PlaylistIndexMessage fromMap:message];
+        FlutterError *error;
+        [api playPlaylistItem:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.clearPlaylist"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        ViewMessage *input = [ViewMessage fromMap:message];
+        FlutterError *error;
+        [api clearPlaylist:input error:&error];
+        callback(wrapResult(nil, error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.getMediaCacheStats"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        FlutterError *error;
+        MediaCacheStatsMessage *output = [api getMediaCacheStats:&error];
+        callback(wrapResult([output toMap], error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel =
+      [FlutterBasicMessageChannel
+        messageChannelWithName:@"dev.flutter.pigeon.VlcPlayerApi.parseMedia"
+        binaryMessenger:binaryMessenger];
+    if (api) {
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        ParseMediaMessage *input = [ParseMediaMessage fromMap:message];
+        FlutterError *error;
+        ParsedMediaMessage *output = [api parseMedia:input error:&error];
+        callback(wrapResult([output toMap], error));
+      }];
+    }
+    else {
+      [channel setMessageHandler:nil];
+    }
+  }
 }
@@ -19,7 +19,12 @@ export 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platfor
         VlcRtpOptions,
         VlcStreamOutputOptions,
         VlcVideoOptions,
-        VlcSubtitleOptions;
+        VlcSubtitleOptions,
+        VlcEventOptions,
+        VlcEventRateMode,
+        VlcEventOverflowPolicy,
+        VlcSeekMode,
+        VlcPlayerStats;
 
 export 'src/enums/playing_state.dart' show PlayingState;
 export 'src/flutter_vlc_player.dart' show VlcPlayer;
@@ -33,6 +33,10 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// vlc will run without any options set.
   final VlcPlayerOptions? options;
 
+  /// Controls how often the native player reports time changes and buffering
+  /// updates. If nothing is provided, every update is reported.
+  final VlcEventOptions? eventOptions;
+
   /// The video should be played automatically.
   final bool autoPlay;
 
@@ -68,8 +72,16 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// List of onRenderer listeners
   final List<RendererCallback> _onRendererEventListeners = [];
 
+  /// List of onMediaEvent listeners
+  final List<MediaEventCallback> _onMediaEventListeners = [];
+
   bool _isDisposed = false;
 
+  final Completer<void> _nativeDisposed = Completer<void>();
+
+  /// The last time change, used to extrapolate the position.
+  VlcMediaEvent? _positionAnchor;
+
   VlcAppLifeCycleObserver? _lifeCycleObserver;
 
   /// Describes the type of data source this [VlcPlayerController]
@@ -95,6 +107,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
+    this.eventOptions,
     @Deprecated('Please, use the addOnInitListener method instead.')
         VoidCallback? onInit,
     @Deprecated('Please, use the addOnRendererEventListener method instead.')
@@ -115,6 +128,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
+    this.eventOptions,
     @Deprecated('Please, use the addOnInitListener method instead.')
         VoidCallback? onInit,
     @Deprecated('Please, use the addOnRendererEventListener method instead.')
@@ -135,6 +149,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
+    this.eventOptions,
     @Deprecated('Please, use the addOnInitListener method instead.')
         VoidCallback? onInit,
     @Deprecated('Please, use the addOnRendererEventListener method instead.')
@@ -166,6 +181,49 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     _onRendererEventListeners.remove(listener);
   }
 
+  /// Register a [MediaEventCallback] closure to be called for every media event, including the
+  /// opt-in events subscribed with [setSubscribedEvents]
+  void addOnMediaEventListener(MediaEventCallback listener) {
+    _onMediaEventListeners.add(listener);
+  }
+
+  /// Remove a previously registered closure from the list of OnMediaEvent closures
+  void removeOnMediaEventListener(MediaEventCallback listener) {
+    _onMediaEventListeners.remove(listener);
+  }
+
+  /// Creates the native library for the players created with [options] in the
+  /// background, ahead of the first of them, which then skips its creation.
+  /// Call it early, e.g. before `runApp`, with the options of the first player.
+  static Future<void> prewarm({VlcPlayerOptions? options}) {
+    return vlcPlayerPlatform.prewarm(options);
+  }
+
+  /// Returns the counters of the disk cache of http(s) media, shared by every
+  /// player. The cache is only available on Android, once enabled by the app.
+  static Future<VlcMediaCacheStats> getMediaCacheStats() {
+    return vlcPlayerPlatform.getMediaCacheStats();
+  }
+
+  /// Parses the media at [uris] without playing them, and returns their
+  /// duration, tracks and meta data, in order. Every media not parsed yet is
+  /// parsed at once, for at most [timeout], and the results are kept while
+  /// the media are unchanged, so that parsing them again is instant. Only
+  /// available on Android.
+  static Future<List<VlcMediaInfo>> parseMedia(
+    List<String> uris, {
+    DataSourceType dataSourceType = DataSourceType.network,
+    String? package,
+    Duration? timeout,
+  }) {
+    return vlcPlayerPlatform.parseMedia(
+      uris,
+      type: dataSourceType,
+      package: package,
+      timeout: timeout,
+    );
+  }
+
   /// Attempts to open the given [url] and load metadata about the video.
   Future<void> initialize() async {
     if (_isDisposed) {
@@ -187,12 +245,20 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       hwAcc: hwAcc,
       autoPlay: autoPlay,
       options: options,
+      eventOptions: eventOptions,
     );
 
     final initializingCompleter = Completer<void>();
 
     // listen for media events
     void mediaEventListener(VlcMediaEvent event) {
+      if (event.mediaEventType == VlcMediaEventType.disposed) {
+        if (!_nativeDisposed.isCompleted) {
+          _nativeDisposed.complete();
+        }
+
+        return;
+      }
       if (_isDisposed) {
         return;
       }
@@ -217,6 +283,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
           break;
 
         case VlcMediaEventType.stopped:
+          _positionAnchor = null;
           value = value.copyWith(
             isPlaying: false,
             isBuffering: false,
@@ -256,6 +323,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
 
         case VlcMediaEventType.buffering:
         case VlcMediaEventType.timeChanged:
+          _positionAnchor = event;
           value = value.copyWith(
             isEnded: false,
             isBuffering: event.mediaEventType == VlcMediaEventType.buffering,
@@ -297,9 +365,34 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
           );
           break;
 
+        case VlcMediaEventType.lengthChanged:
+          value = value.copyWith(duration: event.duration);
+          break;
+
+        case VlcMediaEventType.seekCompleted:
+          // time changes re-anchor the extrapolation from the landed position
+          _positionAnchor = null;
+          value = value.copyWith(position: event.position);
+          break;
+
+        case VlcMediaEventType.itemChanged:
+          value = value.copyWith(playlistIndex: event.playlistIndex);
+          break;
+
+        case VlcMediaEventType.disposed:
+        case VlcMediaEventType.esAdded:
+        case VlcMediaEventType.esDeleted:
+        case VlcMediaEventType.esSelected:
+        case VlcMediaEventType.seekableChanged:
+        case VlcMediaEventType.pausableChanged:
+        case VlcMediaEventType.positionChanged:
         case VlcMediaEventType.unknown:
           break;
       }
+
+      for (final listener in _onMediaEventListeners) {
+        listener(event);
+      }
     }
 
     void errorListener(Object obj) {
@@ -349,6 +442,10 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return initializingCompleter.future;
   }
 
+  /// Completes once the native player released its resources, some time
+  /// after [dispose] returned. Only reported on Android.
+  Future<void> get nativeDisposed => _nativeDisposed.future;
+
   /// Dispose controller
   @override
   Future<void> dispose() async {
@@ -357,6 +454,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     }
     _onInitListeners.clear();
     _onRendererEventListeners.clear();
+    _onMediaEventListeners.clear();
     _lifeCycleObserver?.dispose();
     _isDisposed = true;
     super.dispose();
@@ -447,6 +545,29 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     );
   }
 
+  /// Prepares the next media while the current one keeps playing, so that a
+  /// following setMediaFromNetwork, setMediaFromAsset or setMediaFromFile with
+  /// the same source and [hwAcc] switches to it faster. Only the latest
+  /// preloaded media is kept. Call it as soon as the next source is known, e.g.
+  /// for the next episode. This is only supported on Android.
+  /// [dataSource] - the URL of the stream, or 'file://' and the path of a file.
+  /// [dataSourceType] - the source type of media.
+  Future<void> preload(
+    String dataSource, {
+    DataSourceType dataSourceType = DataSourceType.network,
+    String? package,
+    HwAcc? hwAcc,
+  }) async {
+    _throwIfNotInitialized('preload');
+    await vlcPlayerPlatform.preload(
+      _viewId,
+      uri: dataSource,
+      type: dataSourceType,
+      package: package,
+      hwAcc: hwAcc ?? HwAcc.auto,
+    );
+  }
+
   /// This stops playback and changes the data source. Once the new data source has been loaded, the playback state will revert to
   /// its state before the method was called. (i.e. if this method is called whilst media is playing, once the new
   /// data source has been loaded, the new stream will begin playing.)
@@ -469,10 +590,73 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       hwAcc: hwAcc ?? HwAcc.auto,
       autoPlay: autoPlay ?? true,
     );
+    // a media set outside of the playlist ends it
+    value = value.copyWith(playlistIndex: -1);
 
     return;
   }
 
+  /// Appends a media to the playlist. The items of the playlist play one after
+  /// the other natively, the next one being prepared while the current one
+  /// plays, so that there is no round trip between them. Start the playback
+  /// with [playPlaylistItem]; [VlcMediaEventType.itemChanged] events report
+  /// the item playing. This is only supported on Android.
+  /// [dataSource] - the URL of the stream, or 'file://' and the path of a file.
+  /// [dataSourceType] - the source type of media.
+  Future<void> appendPlaylistItem(
+    String dataSource, {
+    DataSourceType dataSourceType = DataSourceType.network,
+    String? package,
+    HwAcc? hwAcc,
+  }) async {
+    _throwIfNotInitialized('appendPlaylistItem');
+    await vlcPlayerPlatform.appendPlaylistItem(
+      _viewId,
+      uri: dataSource,
+      type: dataSourceType,
+      package: package,
+      hwAcc: hwAcc ?? HwAcc.auto,
+    );
+  }
+
+  /// Inserts a media in the playlist at [index], see [appendPlaylistItem].
+  Future<void> insertPlaylistItem(
+    int index,
+    String dataSource, {
+    DataSourceType dataSourceType = DataSourceType.network,
+    String? package,
+    HwAcc? hwAcc,
+  }) async {
+    _throwIfNotInitialized('insertPlaylistItem');
+    await vlcPlayerPlatform.insertPlaylistItem(
+      _viewId,
+      index,
+      uri: dataSource,
+      type: dataSourceType,
+      package: package,
+      hwAcc: hwAcc ?? HwAcc.auto,
+    );
+  }
+
+  /// Removes the playlist item at [index]. Removing the item playing lets it
+  /// play to its end, then the playback goes on with the item which followed.
+  Future<void> removePlaylistItem(int index) async {
+    _throwIfNotInitialized('removePlaylistItem');
+    await vlcPlayerPlatform.removePlaylistItem(_viewId, index);
+  }
+
+  /// Plays the playlist item at [index], then the following ones.
+  Future<void> playPlaylistItem(int index) async {
+    _throwIfNotInitialized('playPlaylistItem');
+    await vlcPlayerPlatform.playPlaylistItem(_viewId, index);
+  }
+
+  /// Removes every playlist item, the media playing plays to its end.
+  Future<void> clearPlaylist() async {
+    _throwIfNotInitialized('clearPlaylist');
+    await vlcPlayerPlatform.clearPlaylist(_viewId);
+  }
+
   /// Starts playing the video.
   ///
   /// This method returns a future that completes as soon as the "play" command
@@ -530,7 +714,14 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   ///
   /// If [moment] is outside of the video's full range it will be automatically
   /// and silently clamped.
-  Future<void> seekTo(Duration position) async {
+  ///
+  /// While the user drags a seek bar, use [VlcSeekMode.fast] for every update
+  /// and [VlcSeekMode.precise] once released. A
+  /// [VlcMediaEventType.seekCompleted] event reports where the seek landed.
+  Future<void> seekTo(
+    Duration position, {
+    VlcSeekMode mode = VlcSeekMode.precise,
+  }) async {
     _throwIfNotInitialized('seekTo');
     final Duration newPosition;
     if (position > value.duration) {
@@ -540,7 +731,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     } else {
       newPosition = position;
     }
-    await vlcPlayerPlatform.seekTo(_viewId, newPosition);
+    await vlcPlayerPlatform.seekTo(_viewId, newPosition, mode: mode);
   }
 
   /// Get the video timestamp in millisecond
@@ -550,6 +741,12 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return position.inMilliseconds;
   }
 
+  /// Returns the current position extrapolated from the last reported one,
+  /// without calling the platform. Falls back to [VlcPlayerValue.position]
+  /// when the platform does not report when positions were read.
+  Duration get extrapolatedPosition =>
+      _positionAnchor?.extrapolatedPosition() ?? value.position;
+
   /// Returns the position in the current video.
   Future<Duration> getPosition() async {
     _throwIfNotInitialized('getPosition');
@@ -961,6 +1158,21 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return vlcPlayerPlatform.stopRecording(_viewId);
   }
 
+  /// Sets the media events sent by the native player, the others are discarded
+  /// before they reach Dart.
+  Future<void> setSubscribedEvents(Set<VlcMediaEventType> events) async {
+    _throwIfNotInitialized('setSubscribedEvents');
+
+    return vlcPlayerPlatform.setSubscribedEvents(_viewId, events);
+  }
+
+  /// Returns the runtime counters of the plugin overhead for this player.
+  Future<VlcPlayerStats> getPlayerStats() async {
+    _throwIfNotInitialized('getPlayerStats');
+
+    return vlcPlayerPlatform.getPlayerStats(_viewId);
+  }
+
   /// [functionName] - name of function
   /// throw exception if vlc player controller is not initialized
   void _throwIfNotInitialized(String functionName) {
@@ -989,3 +1201,5 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
 
 ///
 typedef RendererCallback = void Function(VlcRendererEventType, String, String);
+
+typedef MediaEventCallback = void Function(VlcMediaEvent);
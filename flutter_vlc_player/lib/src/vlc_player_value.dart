@@ -77,6 +77,10 @@ class VlcPlayerValue {
   /// The path of recorded file
   final String recordPath;
 
+  /// The index of the playlist item playing, -1 when the media was not set
+  /// from the playlist.
+  final int playlistIndex;
+
   /// A description of the error if present.
   ///
   /// If [hasError] is false this is [VlcPlayerValue.noError].
@@ -134,6 +138,7 @@ class VlcPlayerValue {
     this.videoTracksCount = 1,
     this.activeVideoTrack = 0,
     this.recordPath = '',
+    this.playlistIndex = -1,
     this.errorDescription = VlcPlayerValue.noError,
   });
 
@@ -182,6 +187,7 @@ class VlcPlayerValue {
     int? videoTracksCount,
     int? activeVideoTrack,
     String? recordPath,
+    int? playlistIndex,
     String? errorDescription,
   }) {
     return VlcPlayerValue(
@@ -208,6 +214,7 @@ class VlcPlayerValue {
       videoTracksCount: videoTracksCount ?? this.videoTracksCount,
       activeVideoTrack: activeVideoTrack ?? this.activeVideoTrack,
       recordPath: recordPath ?? this.recordPath,
+      playlistIndex: playlistIndex ?? this.playlistIndex,
       errorDescription: errorDescription ?? this.errorDescription,
     );
   }
@@ -233,6 +240,7 @@ class VlcPlayerValue {
         'spuTracksCount: $spuTracksCount, '
         'activeSpuTrack: $activeSpuTrack, '
         'recordPath: $recordPath, '
+        'playlistIndex: $playlistIndex, '
         'errorDescription: $errorDescription)';
   }
 }
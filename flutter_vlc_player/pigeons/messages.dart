@@ -13,6 +13,15 @@ class CreateMessage {
   bool? autoPlay;
   int? hwAcc;
   List<String>? options;
+  int? eventRateMode;
+  int? maxEventRate;
+  bool? deltaEvents;
+  int? keyframeInterval;
+  int? eventQueueCapacity;
+  int? eventOverflowPolicy;
+  bool? binaryEvents;
+  bool? positionAnchors;
+  int? eventMask;
 }
 
 class SetMediaMessage {
@@ -47,6 +56,7 @@ class PlaybackSpeedMessage {
 class PositionMessage {
   int? viewId;
   int? position;
+  int? seekMode;
 }
 
 class DurationMessage {
@@ -148,6 +158,73 @@ class RecordMessage {
   String? saveDirectory;
 }
 
+class PlayerStatsMessage {
+  int? viewId;
+  Map? eventsReceived;
+  int? eventsEmitted;
+  int? eventsDropped;
+  int? eventsCoalesced;
+  int? queueHighWaterMark;
+  int? handlerBacklog;
+  double? listenerAverageMicros;
+  double? listenerP99Micros;
+  int? commandsSuperseded;
+  int? startupMillis;
+  int? rebufferCount;
+}
+
+class PreloadMessage {
+  int? viewId;
+  String? uri;
+  int? type;
+  String? packageName;
+  int? hwAcc;
+}
+
+class PlaylistItemMessage {
+  int? viewId;
+  int? index;
+  String? uri;
+  int? type;
+  String? packageName;
+  int? hwAcc;
+}
+
+class PlaylistIndexMessage {
+  int? viewId;
+  int? index;
+}
+
+class MediaCacheStatsMessage {
+  bool? enabled;
+  int? hits;
+  int? misses;
+  int? bytesFromCache;
+  int? bytesFromNetwork;
+  int? evictions;
+  int? sizeBytes;
+}
+
+class ParseMediaMessage {
+  List? uris;
+  int? type;
+  String? packageName;
+  int? timeoutMillis;
+}
+
+class ParsedMediaMessage {
+  List? items;
+}
+
+class PrewarmMessage {
+  List? options;
+}
+
+class EventMaskMessage {
+  int? viewId;
+  int? mask;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVlcPlayerApi')
 abstract class VlcPlayerApi {
   void initialize();
@@ -203,6 +280,23 @@ abstract class VlcPlayerApi {
   // recording methods
   BooleanMessage startRecording(RecordMessage msg);
   BooleanMessage stopRecording(ViewMessage msg);
+  // statistics methods
+  PlayerStatsMessage getPlayerStats(ViewMessage msg);
+  // events methods
+  void setEventMask(EventMaskMessage msg);
+  // startup methods
+  void prewarm(PrewarmMessage msg);
+  void preload(PreloadMessage msg);
+  // playlist methods
+  void appendPlaylistItem(PlaylistItemMessage msg);
+  void insertPlaylistItem(PlaylistItemMessage msg);
+  void removePlaylistItem(PlaylistIndexMessage msg);
+  void playPlaylistItem(PlaylistIndexMessage msg);
+  void clearPlaylist(ViewMessage msg);
+  // cache methods
+  MediaCacheStatsMessage getMediaCacheStats();
+  // parsing methods
+  ParsedMediaMessage parseMedia(ParseMediaMessage msg);
 }
 
 // to make changes effect, must run "flutter pub run pigeon \--input pigeons/messages.dart --dart_null_safety"
@@ -1,19 +1,30 @@
 export 'src/enums/data_source_type.dart';
+export 'src/enums/event_overflow_policy.dart';
+export 'src/enums/event_rate_mode.dart';
 export 'src/enums/hardware_acceleration.dart';
+export 'src/enums/media_parse_status.dart';
 export 'src/enums/media_event_type.dart';
+export 'src/enums/media_track_type.dart';
 export 'src/enums/renderer_event_type.dart';
+export 'src/enums/seek_mode.dart';
 export 'src/enums/subtitles/vlc_subtitle_text_direction.dart';
 
 export 'src/events/media_event.dart';
 export 'src/events/renderer_event.dart';
 
+export 'src/media/vlc_media_info.dart';
+
 export 'src/platform_interface/vlc_player_platform_interface.dart';
 
+export 'src/stats/vlc_media_cache_stats.dart';
+export 'src/stats/vlc_player_stats.dart';
+
 export 'src/utils/helpers/subtitles/vlc_subtitle_color.dart';
 export 'src/utils/helpers/subtitles/vlc_subtitle_thickness.dart';
 
 export 'src/utils/options/vlc_advanced_options.dart';
 export 'src/utils/options/vlc_audio_options.dart';
+export 'src/utils/options/vlc_event_options.dart';
 export 'src/utils/options/vlc_http_options.dart';
 export 'src/utils/options/vlc_player_options.dart';
 export 'src/utils/options/vlc_rtp_options.dart';
@@ -0,0 +1,12 @@
+// ignore: prefer-match-file-name
+enum VlcEventOverflowPolicy {
+  /// Events are never discarded while nobody listens to the player.
+  unbounded,
+
+  /// The oldest time change is discarded once the queue is full.
+  dropOldest,
+
+  /// Consecutive time changes are merged into the latest one, then the
+  /// oldest time change is discarded once the queue is full.
+  coalesce,
+}
@@ -0,0 +1,14 @@
+// ignore: prefer-match-file-name
+enum VlcEventRateMode {
+  /// Every time change and buffering update is sent.
+  all,
+
+  /// At most `maxRate` updates per second are sent.
+  maxRate,
+
+  /// At most one update per display frame is sent.
+  frameAligned,
+
+  /// An update is sent only when it differs from the previous one.
+  onChange,
+}
@@ -11,4 +11,14 @@ enum VlcMediaEventType {
   ended,
   unknown,
   error,
+  lengthChanged,
+  esAdded,
+  esDeleted,
+  esSelected,
+  seekableChanged,
+  pausableChanged,
+  positionChanged,
+  seekCompleted,
+  disposed,
+  itemChanged,
 }
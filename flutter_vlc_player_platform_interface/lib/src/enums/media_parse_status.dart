@@ -0,0 +1,11 @@
+// ignore: prefer-match-file-name
+enum VlcMediaParseStatus {
+  /// The media could not be parsed.
+  failed,
+
+  /// The media was not parsed in time.
+  timeout,
+
+  /// The media was parsed.
+  done,
+}
@@ -0,0 +1,12 @@
+// ignore: prefer-match-file-name
+enum VlcMediaTrackType {
+  /// A stream the native library does not classify.
+  unknown,
+
+  audio,
+
+  video,
+
+  /// A subtitles or teletext stream.
+  text,
+}
@@ -0,0 +1,10 @@
+// ignore: prefer-match-file-name
+enum VlcSeekMode {
+  /// Seeks to the exact position, decoding from the previous keyframe.
+  precise,
+
+  /// Seeks to the nearest keyframe, for scrubbing. Only supported on
+  /// Android, where fast seeks are also rate limited and only the latest
+  /// target is kept.
+  fast,
+}
@@ -1,6 +1,8 @@
+import 'dart:developer';
 import 'dart:ui';
 
 import 'package:flutter_vlc_player_platform_interface/src/enums/media_event_type.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/seek_mode.dart';
 
 // ignore: prefer-match-file-name
 class VlcMediaEvent {
@@ -67,6 +69,53 @@ class VlcMediaEvent {
   /// Only used if [eventType] is [VlcMediaEventType.recording].
   final String? recordPath;
 
+  /// The monotonic time at which [position] was read, on the same clock as
+  /// [Timeline.now].
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.timeChanged].
+  final Duration? anchorTime;
+
+  /// Returns whether the media can be seeked.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.seekableChanged].
+  final bool? isSeekable;
+
+  /// Returns whether the media can be paused.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.pausableChanged].
+  final bool? isPausable;
+
+  /// Returns the position of the video between 0 and 1.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.positionChanged].
+  final double? relativePosition;
+
+  /// Returns the type of the elementary stream: 0 audio, 1 video, 2 text.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.esAdded, VlcMediaEventType.esDeleted, VlcMediaEventType.esSelected].
+  final int? trackType;
+
+  /// Returns the id of the elementary stream.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.esAdded, VlcMediaEventType.esDeleted, VlcMediaEventType.esSelected].
+  final int? trackId;
+
+  /// Returns the position the seek was asked to go to, [position] being the
+  /// position it landed on.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.seekCompleted].
+  final Duration? seekTarget;
+
+  /// Returns the mode of the completed seek.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.seekCompleted].
+  final VlcSeekMode? seekMode;
+
+  /// Returns the index of the playlist item which started playing.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.itemChanged].
+  final int? playlistIndex;
+
   /// Creates an instance of [VlcMediaEvent].
   ///
   /// The [mediaEventType] argument is required.
@@ -87,5 +136,39 @@ class VlcMediaEvent {
     this.isPlaying,
     this.isRecording,
     this.recordPath,
+    this.anchorTime,
+    this.isSeekable,
+    this.isPausable,
+    this.relativePosition,
+    this.trackType,
+    this.trackId,
+    this.seekTarget,
+    this.seekMode,
+    this.playlistIndex,
   });
+
+  /// Returns the position extrapolated from [position] to [nowMicros] (the
+  /// current [Timeline.now] by default) at [playbackSpeed] while playing.
+  ///
+  /// The result never exceeds [duration] when it is known.
+  Duration? extrapolatedPosition([int? nowMicros]) {
+    final position = this.position;
+    final anchorTime = this.anchorTime;
+    if (position == null || anchorTime == null || isPlaying != true) {
+      return position;
+    }
+
+    final elapsedMicros = (nowMicros ?? Timeline.now) - anchorTime.inMicroseconds;
+    if (elapsedMicros <= 0) {
+      return position;
+    }
+
+    final extrapolated = position +
+        Duration(microseconds: (elapsedMicros * (playbackSpeed ?? 1.0)).round());
+    final duration = this.duration;
+
+    return duration != null && duration > Duration.zero && extrapolated > duration
+        ? duration
+        : extrapolated;
+  }
 }
@@ -0,0 +1,129 @@
+import 'dart:ui';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/media_parse_status.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/media_track_type.dart';
+
+/// What parsing a media told about it, without playing it.
+class VlcMediaInfo {
+  /// The uri the media was asked for with.
+  final String uri;
+
+  /// Whether the media was parsed, the other fields are empty otherwise.
+  final VlcMediaParseStatus status;
+
+  /// The duration of the media, null when unknown or for a live stream.
+  final Duration? duration;
+
+  /// The elementary streams of the media.
+  final List<VlcMediaTrackInfo> tracks;
+
+  /// The meta data of the media, such as its `title`, `artist`, `album`,
+  /// `genre`, `description` and `artworkUrl`, when set.
+  final Map<String, String> meta;
+
+  const VlcMediaInfo({
+    required this.uri,
+    required this.status,
+    this.duration,
+    this.tracks = const [],
+    this.meta = const {},
+  });
+
+  bool get isParsed => status == VlcMediaParseStatus.done;
+
+  /// The video tracks of the media.
+  Iterable<VlcMediaTrackInfo> get videoTracks =>
+      tracks.where((track) => track.type == VlcMediaTrackType.video);
+
+  /// The audio tracks of the media.
+  Iterable<VlcMediaTrackInfo> get audioTracks =>
+      tracks.where((track) => track.type == VlcMediaTrackType.audio);
+
+  /// The resolution of the first video track, null without one.
+  Size? get resolution {
+    for (final track in videoTracks) {
+      final width = track.width;
+      final height = track.height;
+      if (width != null && height != null && width > 0 && height > 0) {
+        return Size(width.toDouble(), height.toDouble());
+      }
+    }
+
+    return null;
+  }
+
+  /// The title of the media, when set.
+  String? get title => meta['title'];
+
+  @override
+  String toString() {
+    return '$runtimeType('
+        'uri: $uri, '
+        'status: $status, '
+        'duration: $duration, '
+        'tracks: $tracks, '
+        'meta: $meta)';
+  }
+}
+
+/// An elementary stream of a parsed media.
+class VlcMediaTrackInfo {
+  final int id;
+
+  final VlcMediaTrackType type;
+
+  /// The fourcc of the codec, such as `h264` or `mp4a`.
+  final String? codec;
+
+  final String? language;
+
+  final String? description;
+
+  /// The bitrate, in bits per second, 0 when unknown.
+  final int bitrate;
+
+  /// The width of a video track, in pixels.
+  final int? width;
+
+  /// The height of a video track, in pixels.
+  final int? height;
+
+  /// The frame rate of a video track.
+  final double? frameRate;
+
+  /// The number of channels of an audio track.
+  final int? channels;
+
+  /// The sample rate of an audio track, in Hz.
+  final int? sampleRate;
+
+  /// The character encoding of a text track.
+  final String? encoding;
+
+  const VlcMediaTrackInfo({
+    required this.id,
+    required this.type,
+    this.codec,
+    this.language,
+    this.description,
+    this.bitrate = 0,
+    this.width,
+    this.height,
+    this.frameRate,
+    this.channels,
+    this.sampleRate,
+    this.encoding,
+  });
+
+  @override
+  String toString() {
+    return '$runtimeType('
+        'id: $id, '
+        'type: $type, '
+        'codec: $codec, '
+        'language: $language, '
+        'width: $width, '
+        'height: $height, '
+        'channels: $channels)';
+  }
+}
@@ -16,6 +16,15 @@ class CreateMessage {
   bool? autoPlay;
   int? hwAcc;
   List<Object?>? options;
+  int? eventRateMode;
+  int? maxEventRate;
+  bool? deltaEvents;
+  int? keyframeInterval;
+  int? eventQueueCapacity;
+  int? eventOverflowPolicy;
+  bool? binaryEvents;
+  bool? positionAnchors;
+  int? eventMask;
 
   CreateMessage();
 
@@ -28,6 +37,15 @@ class CreateMessage {
     autoPlay = pigeonMap['autoPlay'] as bool?;
     hwAcc = pigeonMap['hwAcc'] as int?;
     options = pigeonMap['options'] as List<Object?>?;
+    eventRateMode = pigeonMap['eventRateMode'] as int?;
+    maxEventRate = pigeonMap['maxEventRate'] as int?;
+    deltaEvents = pigeonMap['deltaEvents'] as bool?;
+    keyframeInterval = pigeonMap['keyframeInterval'] as int?;
+    eventQueueCapacity = pigeonMap['eventQueueCapacity'] as int?;
+    eventOverflowPolicy = pigeonMap['eventOverflowPolicy'] as int?;
+    binaryEvents = pigeonMap['binaryEvents'] as bool?;
+    positionAnchors = pigeonMap['positionAnchors'] as bool?;
+    eventMask = pigeonMap['eventMask'] as int?;
   }
 
   Object encode() {
@@ -39,6 +57,15 @@ class CreateMessage {
     pigeonMap['autoPlay'] = autoPlay;
     pigeonMap['hwAcc'] = hwAcc;
     pigeonMap['options'] = options;
+    pigeonMap['eventRateMode'] = eventRateMode;
+    pigeonMap['maxEventRate'] = maxEventRate;
+    pigeonMap['deltaEvents'] = deltaEvents;
+    pigeonMap['keyframeInterval'] = keyframeInterval;
+    pigeonMap['eventQueueCapacity'] = eventQueueCapacity;
+    pigeonMap['eventOverflowPolicy'] = eventOverflowPolicy;
+    pigeonMap['binaryEvents'] = binaryEvents;
+    pigeonMap['positionAnchors'] = positionAnchors;
+    pigeonMap['eventMask'] = eventMask;
 
     return pigeonMap;
   }
@@ -141,6 +168,7 @@ class LoopingMessage {
 class PositionMessage {
   int? viewId;
   int? position;
+  int? seekMode;
 
   PositionMessage();
 
@@ -148,12 +176,14 @@ class PositionMessage {
     final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
     viewId = pigeonMap['viewId'] as int?;
     position = pigeonMap['position'] as int?;
+    seekMode = pigeonMap['seekMode'] as int?;
   }
 
   Object encode() {
     final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
     pigeonMap['viewId'] = viewId;
     pigeonMap['position'] = position;
+    pigeonMap['seekMode'] = seekMode;
 
     return pigeonMap;
   }
@@ -611,6 +641,261 @@ class RecordMessage {
   }
 }
 
+class PlayerStatsMessage {
+  int? viewId;
+  Map<Object?, Object?>? eventsReceived;
+  int? eventsEmitted;
+  int? eventsDropped;
+  int? eventsCoalesced;
+  int? queueHighWaterMark;
+  int? handlerBacklog;
+  double? listenerAverageMicros;
+  double? listenerP99Micros;
+  int? commandsSuperseded;
+  int? startupMillis;
+  int? rebufferCount;
+
+  PlayerStatsMessage();
+
+  PlayerStatsMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    viewId = pigeonMap['viewId'] as int?;
+    eventsReceived = pigeonMap['eventsReceived'] as Map<Object?, Object?>?;
+    eventsEmitted = pigeonMap['eventsEmitted'] as int?;
+    eventsDropped = pigeonMap['eventsDropped'] as int?;
+    eventsCoalesced = pigeonMap['eventsCoalesced'] as int?;
+    queueHighWaterMark = pigeonMap['queueHighWaterMark'] as int?;
+    handlerBacklog = pigeonMap['handlerBacklog'] as int?;
+    listenerAverageMicros = pigeonMap['listenerAverageMicros'] as double?;
+    listenerP99Micros = pigeonMap['listenerP99Micros'] as double?;
+    commandsSuperseded = pigeonMap['commandsSuperseded'] as int?;
+    startupMillis = pigeonMap['startupMillis'] as int?;
+    rebufferCount = pigeonMap['rebufferCount'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['viewId'] = viewId;
+    pigeonMap['eventsReceived'] = eventsReceived;
+    pigeonMap['eventsEmitted'] = eventsEmitted;
+    pigeonMap['eventsDropped'] = eventsDropped;
+    pigeonMap['eventsCoalesced'] = eventsCoalesced;
+    pigeonMap['queueHighWaterMark'] = queueHighWaterMark;
+    pigeonMap['handlerBacklog'] = handlerBacklog;
+    pigeonMap['listenerAverageMicros'] = listenerAverageMicros;
+    pigeonMap['listenerP99Micros'] = listenerP99Micros;
+    pigeonMap['commandsSuperseded'] = commandsSuperseded;
+    pigeonMap['startupMillis'] = startupMillis;
+    pigeonMap['rebufferCount'] = rebufferCount;
+
+    return pigeonMap;
+  }
+}
+
+class EventMaskMessage {
+  int? viewId;
+  int? mask;
+
+  EventMaskMessage();
+
+  EventMaskMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    viewId = pigeonMap['viewId'] as int?;
+    mask = pigeonMap['mask'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['viewId'] = viewId;
+    pigeonMap['mask'] = mask;
+
+    return pigeonMap;
+  }
+}
+
+class PrewarmMessage {
+  List<Object?>? options;
+
+  PrewarmMessage();
+
+  PrewarmMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    options = pigeonMap['options'] as List<Object?>?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['options'] = options;
+
+    return pigeonMap;
+  }
+}
+
+class PreloadMessage {
+  int? viewId;
+  String? uri;
+  int? type;
+  String? packageName;
+  int? hwAcc;
+
+  PreloadMessage();
+
+  PreloadMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    viewId = pigeonMap['viewId'] as int?;
+    uri = pigeonMap['uri'] as String?;
+    type = pigeonMap['type'] as int?;
+    packageName = pigeonMap['packageName'] as String?;
+    hwAcc = pigeonMap['hwAcc'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['viewId'] = viewId;
+    pigeonMap['uri'] = uri;
+    pigeonMap['type'] = type;
+    pigeonMap['packageName'] = packageName;
+    pigeonMap['hwAcc'] = hwAcc;
+
+    return pigeonMap;
+  }
+}
+
+class PlaylistItemMessage {
+  int? viewId;
+  int? index;
+  String? uri;
+  int? type;
+  String? packageName;
+  int? hwAcc;
+
+  PlaylistItemMessage();
+
+  PlaylistItemMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    viewId = pigeonMap['viewId'] as int?;
+    index = pigeonMap['index'] as int?;
+    uri = pigeonMap['uri'] as String?;
+    type = pigeonMap['type'] as int?;
+    packageName = pigeonMap['packageName'] as String?;
+    hwAcc = pigeonMap['hwAcc'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['viewId'] = viewId;
+    pigeonMap['index'] = index;
+    pigeonMap['uri'] = uri;
+    pigeonMap['type'] = type;
+    pigeonMap['packageName'] = packageName;
+    pigeonMap['hwAcc'] = hwAcc;
+
+    return pigeonMap;
+  }
+}
+
+class PlaylistIndexMessage {
+  int? viewId;
+  int? index;
+
+  PlaylistIndexMessage();
+
+  PlaylistIndexMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    viewId = pigeonMap['viewId'] as int?;
+    index = pigeonMap['index'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['viewId'] = viewId;
+    pigeonMap['index'] = index;
+
+    return pigeonMap;
+  }
+}
+
+class MediaCacheStatsMessage {
+  bool? enabled;
+  int? hits;
+  int? misses;
+  int? bytesFromCache;
+  int? bytesFromNetwork;
+  int? evictions;
+  int? sizeBytes;
+
+  MediaCacheStatsMessage();
+
+  MediaCacheStatsMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    enabled = pigeonMap['enabled'] as bool?;
+    hits = pigeonMap['hits'] as int?;
+    misses = pigeonMap['misses'] as int?;
+    bytesFromCache = pigeonMap['bytesFromCache'] as int?;
+    bytesFromNetwork = pigeonMap['bytesFromNetwork'] as int?;
+    evictions = pigeonMap['evictions'] as int?;
+    sizeBytes = pigeonMap['sizeBytes'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['enabled'] = enabled;
+    pigeonMap['hits'] = hits;
+    pigeonMap['misses'] = misses;
+    pigeonMap['bytesFromCache'] = bytesFromCache;
+    pigeonMap['bytesFromNetwork'] = bytesFromNetwork;
+    pigeonMap['evictions'] = evictions;
+    pigeonMap['sizeBytes'] = sizeBytes;
+
+    return pigeonMap;
+  }
+}
+
+class ParseMediaMessage {
+  List<Object?>? uris;
+  int? type;
+  String? packageName;
+  int? timeoutMillis;
+
+  ParseMediaMessage();
+
+  ParseMediaMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    uris = pigeonMap['uris'] as List<Object?>?;
+    type = pigeonMap['type'] as int?;
+    packageName = pigeonMap['packageName'] as String?;
+    timeoutMillis = pigeonMap['timeoutMillis'] as int?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uris'] = uris;
+    pigeonMap['type'] = type;
+    pigeonMap['packageName'] = packageName;
+    pigeonMap['timeoutMillis'] = timeoutMillis;
+
+    return pigeonMap;
+  }
+}
+
+class ParsedMediaMessage {
+  List<Object?>? items;
+
+  ParsedMediaMessage();
+
+  ParsedMediaMessage.decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    items = pigeonMap['items'] as List<Object?>?;
+  }
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['items'] = items;
+
+    return pigeonMap;
+  }
+}
+
 class VlcPlayerApi {
   final BinaryMessenger? _binaryMessenger;
 
@@ -1890,4 +2175,295 @@ class VlcPlayerApi {
       return BooleanMessage.decode(replyMap['result']!);
     }
   }
+
+  Future<PlayerStatsMessage> getPlayerStats(ViewMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.getPlayerStats',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return PlayerStatsMessage.decode(replyMap['result']!);
+    }
+  }
+
+  Future<void> setEventMask(EventMaskMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.setEventMask',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> prewarm(PrewarmMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.prewarm',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> preload(PreloadMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.preload',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> appendPlaylistItem(PlaylistItemMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.appendPlaylistItem',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> insertPlaylistItem(PlaylistItemMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.insertPlaylistItem',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> removePlaylistItem(PlaylistIndexMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.removePlaylistItem',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> playPlaylistItem(PlaylistIndexMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.playPlaylistItem',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<void> clearPlaylist(ViewMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.clearPlaylist',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    }
+  }
+
+  Future<MediaCacheStatsMessage> getMediaCacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.getMediaCacheStats',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return MediaCacheStatsMessage.decode(replyMap['result']!);
+    }
+  }
+
+  Future<ParsedMediaMessage> parseMedia(ParseMediaMessage arg) async {
+    final Object encoded = arg.encode();
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.VlcPlayerApi.parseMedia',
+      const StandardMessageCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(encoded) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+        details: null,
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          replyMap['error'] as Map<Object?, Object?>? ?? {};
+      throw PlatformException(
+        code: error['code'] as String? ?? "",
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return ParsedMediaMessage.decode(replyMap['result']!);
+    }
+  }
 }
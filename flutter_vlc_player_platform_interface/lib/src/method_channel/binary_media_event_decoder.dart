@@ -0,0 +1,104 @@
+import 'dart:convert';
+import 'dart:typed_data';
+import 'dart:ui';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/media_event_type.dart';
+import 'package:flutter_vlc_player_platform_interface/src/events/media_event.dart';
+
+/// Decodes the fixed-layout media event records sent by the native player
+/// when binary events are enabled.
+///
+/// Every record starts with a type byte followed by the big-endian fields of
+/// that type, see `BinaryEventSink` on the Android side for the layouts.
+class BinaryMediaEventDecoder {
+  static const _opening = 0;
+  static const _paused = 1;
+  static const _stopped = 2;
+  static const _playing = 3;
+  static const _ended = 4;
+  static const _timeChanged = 5;
+  static const _mediaChanged = 6;
+  static const _recording = 7;
+  static const _error = 8;
+
+  const BinaryMediaEventDecoder();
+
+  VlcMediaEvent decode(Uint8List record) {
+    if (record.isEmpty) {
+      return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
+    }
+
+    final data = ByteData.sublistView(record);
+    switch (data.getUint8(0)) {
+      case _opening:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.opening);
+
+      case _paused:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.paused);
+
+      case _stopped:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.stopped);
+
+      case _mediaChanged:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.mediaChanged);
+
+      case _error:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.error);
+
+      case _playing:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.playing,
+          size: Size(
+            data.getInt32(1).toDouble(),
+            data.getInt32(5).toDouble(),
+          ),
+          playbackSpeed: data.getFloat32(9),
+          duration: Duration(milliseconds: data.getInt64(13)),
+          audioTracksCount: data.getInt32(21),
+          activeAudioTrack: data.getInt32(25),
+          spuTracksCount: data.getInt32(29),
+          activeSpuTrack: data.getInt32(33),
+        );
+
+      case _timeChanged:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.timeChanged,
+          size: Size(
+            data.getInt32(1).toDouble(),
+            data.getInt32(5).toDouble(),
+          ),
+          playbackSpeed: data.getFloat32(9),
+          duration: Duration(milliseconds: data.getInt64(13)),
+          audioTracksCount: data.getInt32(21),
+          activeAudioTrack: data.getInt32(25),
+          spuTracksCount: data.getInt32(29),
+          activeSpuTrack: data.getInt32(33),
+          position: Duration(milliseconds: data.getInt64(37)),
+          bufferPercent: data.getFloat32(45),
+          isPlaying: data.getUint8(49) != 0,
+          // 0 when position anchors are off
+          anchorTime: data.getInt64(50) == 0
+              ? null
+              : Duration(microseconds: data.getInt64(50)),
+        );
+
+      case _ended:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.ended,
+          position: Duration(milliseconds: data.getInt64(1)),
+        );
+
+      case _recording:
+        final pathLength = data.getInt32(2);
+
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.recording,
+          isRecording: data.getUint8(1) != 0,
+          recordPath: utf8.decode(record.sublist(6, 6 + pathLength)),
+        );
+
+      default:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
+    }
+  }
+}
@@ -8,10 +8,12 @@ import 'package:flutter/widgets.dart';
 
 import 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platform_interface.dart';
 import 'package:flutter_vlc_player_platform_interface/src/messages/messages.dart';
+import 'package:flutter_vlc_player_platform_interface/src/method_channel/binary_media_event_decoder.dart';
 
 /// An implementation of [VlcPlayerPlatform] that uses method channels.
 class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   final _api = VlcPlayerApi();
+  final _binaryMediaEventDecoder = const BinaryMediaEventDecoder();
 
   EventChannel _mediaEventChannelFor(int viewId) {
     return EventChannel('flutter_video_plugin/getVideoEvents_$viewId');
@@ -35,6 +37,7 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     bool? autoPlay,
     HwAcc? hwAcc,
     VlcPlayerOptions? options,
+    VlcEventOptions? eventOptions,
   }) async {
     final message = CreateMessage();
     message.viewId = viewId;
@@ -44,6 +47,17 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     message.hwAcc = hwAcc?.index;
     message.autoPlay = autoPlay ?? true;
     message.options = options?.get() ?? [];
+    message.eventRateMode = eventOptions?.rateMode.index;
+    message.maxEventRate = eventOptions?.maxRate;
+    message.deltaEvents = eventOptions?.deltaEvents;
+    message.keyframeInterval = eventOptions?.keyframeInterval;
+    message.eventQueueCapacity = eventOptions?.queueCapacity;
+    message.eventOverflowPolicy = eventOptions?.overflowPolicy.index;
+    message.binaryEvents = eventOptions?.binaryEvents;
+    message.positionAnchors = eventOptions?.positionAnchors;
+    final subscribedEvents = eventOptions?.subscribedEvents;
+    message.eventMask =
+        subscribedEvents == null ? null : _eventMaskOf(subscribedEvents);
 
     return _api.create(message);
   }
@@ -112,8 +126,15 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
 
   @override
   Stream<VlcMediaEvent> mediaEventsFor(int viewId) {
+    // The last full time change state, delta events are applied on top of it.
+    final tickState = <String, Object?>{};
+
     return _mediaEventChannelFor(viewId).receiveBroadcastStream().map(
       (dynamic event) {
+        if (event is Uint8List) {
+          return _binaryMediaEventDecoder.decode(event);
+        }
+
         final Map<String, Object?> map = event as Map<String, Object?>;
         //
         switch (map['event']) {
@@ -157,21 +178,30 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
           case 'timeChanged':
             const _defaultBufferPercent = 100.0;
 
+            if (map['delta'] != true) {
+              tickState.clear();
+            }
+            tickState.addAll(map);
+            final tick = tickState;
+
             return VlcMediaEvent(
               mediaEventType: VlcMediaEventType.timeChanged,
               size: Size(
-                (map['width'] as int?)?.toDouble() ?? 0.0,
-                (map['height'] as int?)?.toDouble() ?? 0.0,
+                (tick['width'] as int?)?.toDouble() ?? 0.0,
+                (tick['height'] as int?)?.toDouble() ?? 0.0,
               ),
-              playbackSpeed: map['speed'] as double? ?? 1.0,
-              position: Duration(milliseconds: map['position'] as int? ?? 0),
-              duration: Duration(milliseconds: map['duration'] as int? ?? 0),
-              audioTracksCount: map['audioTracksCount'] as int? ?? 1,
-              activeAudioTrack: map['activeAudioTrack'] as int? ?? 0,
-              spuTracksCount: map['spuTracksCount'] as int? ?? 0,
-              activeSpuTrack: map['activeSpuTrack'] as int? ?? -1,
-              bufferPercent: map['buffer'] as double? ?? _defaultBufferPercent,
-              isPlaying: map['isPlaying'] as bool? ?? false,
+              playbackSpeed: tick['speed'] as double? ?? 1.0,
+              position: Duration(milliseconds: tick['position'] as int? ?? 0),
+              duration: Duration(milliseconds: tick['duration'] as int? ?? 0),
+              audioTracksCount: tick['audioTracksCount'] as int? ?? 1,
+              activeAudioTrack: tick['activeAudioTrack'] as int? ?? 0,
+              spuTracksCount: tick['spuTracksCount'] as int? ?? 0,
+              activeSpuTrack: tick['activeSpuTrack'] as int? ?? -1,
+              bufferPercent: tick['buffer'] as double? ?? _defaultBufferPercent,
+              isPlaying: tick['isPlaying'] as bool? ?? false,
+              anchorTime: tick['anchorTime'] == null
+                  ? null
+                  : Duration(microseconds: tick['anchorTime'] as int),
             );
 
           case 'mediaChanged':
@@ -179,6 +209,11 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
               mediaEventType: VlcMediaEventType.mediaChanged,
             );
 
+          case 'disposed':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.disposed,
+            );
+
           case 'recording':
             return VlcMediaEvent(
               mediaEventType: VlcMediaEventType.recording,
@@ -191,6 +226,58 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
               mediaEventType: VlcMediaEventType.error,
             );
 
+          case 'lengthChanged':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.lengthChanged,
+              duration: Duration(milliseconds: map['duration'] as int? ?? 0),
+            );
+
+          case 'esAdded':
+          case 'esDeleted':
+          case 'esSelected':
+            return VlcMediaEvent(
+              mediaEventType: map['event'] == 'esAdded'
+                  ? VlcMediaEventType.esAdded
+                  : map['event'] == 'esDeleted'
+                      ? VlcMediaEventType.esDeleted
+                      : VlcMediaEventType.esSelected,
+              trackType: map['trackType'] as int?,
+              trackId: map['trackId'] as int?,
+            );
+
+          case 'seekableChanged':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.seekableChanged,
+              isSeekable: map['isSeekable'] as bool? ?? false,
+            );
+
+          case 'pausableChanged':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.pausableChanged,
+              isPausable: map['isPausable'] as bool? ?? false,
+            );
+
+          case 'positionChanged':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.positionChanged,
+              relativePosition: map['relativePosition'] as double? ?? 0.0,
+            );
+
+          case 'seekCompleted':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.seekCompleted,
+              position: Duration(milliseconds: map['position'] as int? ?? 0),
+              seekTarget:
+                  Duration(milliseconds: map['seekTarget'] as int? ?? 0),
+              seekMode: VlcSeekMode.values[map['seekMode'] as int? ?? 0],
+            );
+
+          case 'itemChanged':
+            return VlcMediaEvent(
+              mediaEventType: VlcMediaEventType.itemChanged,
+              playlistIndex: map['index'] as int? ?? 0,
+            );
+
           default:
             return VlcMediaEvent(
               mediaEventType: VlcMediaEventType.unknown,
@@ -220,6 +307,85 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return _api.setStreamUrl(message);
   }
 
+  @override
+  Future<void> preload(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+  }) async {
+    final message = PreloadMessage();
+    message.viewId = viewId;
+    message.uri = uri;
+    message.type = type.index;
+    message.packageName = package;
+    message.hwAcc = hwAcc?.index;
+
+    return _api.preload(message);
+  }
+
+  @override
+  Future<void> appendPlaylistItem(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+  }) async {
+    final message = PlaylistItemMessage();
+    message.viewId = viewId;
+    message.uri = uri;
+    message.type = type.index;
+    message.packageName = package;
+    message.hwAcc = hwAcc?.index;
+
+    return _api.appendPlaylistItem(message);
+  }
+
+  @override
+  Future<void> insertPlaylistItem(
+    int viewId,
+    int index, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+  }) async {
+    final message = PlaylistItemMessage();
+    message.viewId = viewId;
+    message.index = index;
+    message.uri = uri;
+    message.type = type.index;
+    message.packageName = package;
+    message.hwAcc = hwAcc?.index;
+
+    return _api.insertPlaylistItem(message);
+  }
+
+  @override
+  Future<void> removePlaylistItem(int viewId, int index) async {
+    return _api.removePlaylistItem(
+      PlaylistIndexMessage()
+        ..viewId = viewId
+        ..index = index,
+    );
+  }
+
+  @override
+  Future<void> playPlaylistItem(int viewId, int index) async {
+    return _api.playPlaylistItem(
+      PlaylistIndexMessage()
+        ..viewId = viewId
+        ..index = index,
+    );
+  }
+
+  @override
+  Future<void> clearPlaylist(int viewId) async {
+    return _api.clearPlaylist(ViewMessage()..viewId = viewId);
+  }
+
   @override
   Future<void> setLooping(int viewId, bool looping) async {
     return _api.setLooping(
@@ -259,11 +425,16 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   }
 
   @override
-  Future<void> seekTo(int viewId, Duration position) async {
+  Future<void> seekTo(
+    int viewId,
+    Duration position, {
+    VlcSeekMode mode = VlcSeekMode.precise,
+  }) async {
     return _api.seekTo(
       PositionMessage()
         ..viewId = viewId
-        ..position = position.inMilliseconds,
+        ..position = position.inMilliseconds
+        ..seekMode = mode.index,
     );
   }
 
@@ -605,4 +776,139 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
 
     return response.result;
   }
+
+  @override
+  Future<void> setSubscribedEvents(
+    int viewId,
+    Set<VlcMediaEventType> events,
+  ) async {
+    return _api.setEventMask(
+      EventMaskMessage()
+        ..viewId = viewId
+        ..mask = _eventMaskOf(events),
+    );
+  }
+
+  @override
+  Future<VlcMediaCacheStats> getMediaCacheStats() async {
+    final response = await _api.getMediaCacheStats();
+
+    return VlcMediaCacheStats(
+      enabled: response.enabled ?? false,
+      hits: response.hits ?? 0,
+      misses: response.misses ?? 0,
+      bytesFromCache: response.bytesFromCache ?? 0,
+      bytesFromNetwork: response.bytesFromNetwork ?? 0,
+      evictions: response.evictions ?? 0,
+      sizeBytes: response.sizeBytes ?? 0,
+    );
+  }
+
+  @override
+  Future<List<VlcMediaInfo>> parseMedia(
+    List<String> uris, {
+    required DataSourceType type,
+    String? package,
+    Duration? timeout,
+  }) async {
+    final message = ParseMediaMessage();
+    message.uris = uris;
+    message.type = type.index;
+    message.packageName = package;
+    message.timeoutMillis = timeout?.inMilliseconds;
+    final response = await _api.parseMedia(message);
+
+    return (response.items ?? [])
+        .whereType<Map<Object?, Object?>>()
+        .map(_mediaInfoOf)
+        .toList();
+  }
+
+  VlcMediaInfo _mediaInfoOf(Map<Object?, Object?> item) {
+    final status = item['status'] as int?;
+    final duration = item['duration'] as int?;
+    final tracks = item['tracks'] as List<Object?>? ?? [];
+    final meta = item['meta'] as Map<Object?, Object?>? ?? {};
+
+    return VlcMediaInfo(
+      uri: item['uri'] as String? ?? '',
+      // the native parsed statuses: 2 failed, 3 timeout, 4 done
+      status: status == 4
+          ? VlcMediaParseStatus.done
+          : status == 3
+              ? VlcMediaParseStatus.timeout
+              : VlcMediaParseStatus.failed,
+      duration: duration != null && duration > 0
+          ? Duration(milliseconds: duration)
+          : null,
+      tracks: tracks
+          .whereType<Map<Object?, Object?>>()
+          .map(_mediaTrackInfoOf)
+          .toList(),
+      meta: meta.map(
+        (key, value) => MapEntry(key.toString(), value.toString()),
+      ),
+    );
+  }
+
+  VlcMediaTrackInfo _mediaTrackInfoOf(Map<Object?, Object?> track) {
+    final type = track['type'] as int? ?? -1;
+
+    return VlcMediaTrackInfo(
+      id: track['id'] as int? ?? -1,
+      // the native track types start at -1 for unknown
+      type: type >= -1 && type < VlcMediaTrackType.values.length - 1
+          ? VlcMediaTrackType.values[type + 1]
+          : VlcMediaTrackType.unknown,
+      codec: track['codec'] as String?,
+      language: track['language'] as String?,
+      description: track['description'] as String?,
+      bitrate: track['bitrate'] as int? ?? 0,
+      width: track['width'] as int?,
+      height: track['height'] as int?,
+      frameRate: track['frameRate'] as double?,
+      channels: track['channels'] as int?,
+      sampleRate: track['sampleRate'] as int?,
+      encoding: track['encoding'] as String?,
+    );
+  }
+
+  @override
+  Future<void> prewarm(VlcPlayerOptions? options) async {
+    return _api.prewarm(PrewarmMessage()..options = options?.get() ?? []);
+  }
+
+  /// One bit per event, at the index of the event type.
+  int _eventMaskOf(Set<VlcMediaEventType> events) {
+    return events.fold(0, (mask, event) => mask | (1 << event.index));
+  }
+
+  @override
+  Future<VlcPlayerStats> getPlayerStats(int viewId) async {
+    final response = await _api.getPlayerStats(ViewMessage()..viewId = viewId);
+
+    return VlcPlayerStats(
+      eventsReceived: response.eventsReceived?.map(
+            (Object? type, Object? count) =>
+                MapEntry(type.toString(), count as int? ?? 0),
+          ) ??
+          {},
+      eventsEmitted: response.eventsEmitted ?? 0,
+      eventsDropped: response.eventsDropped ?? 0,
+      eventsCoalesced: response.eventsCoalesced ?? 0,
+      queueHighWaterMark: response.queueHighWaterMark ?? 0,
+      handlerBacklog: response.handlerBacklog ?? 0,
+      commandsSuperseded: response.commandsSuperseded ?? 0,
+      listenerAverage: Duration(
+        microseconds: (response.listenerAverageMicros ?? 0).round(),
+      ),
+      listenerP99: Duration(
+        microseconds: (response.listenerP99Micros ?? 0).round(),
+      ),
+      startupTime: (response.startupMillis ?? -1) < 0
+          ? null
+          : Duration(milliseconds: response.startupMillis!),
+      rebufferCount: response.rebufferCount ?? 0,
+    );
+  }
 }
@@ -62,6 +62,7 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     bool? autoPlay,
     HwAcc? hwAcc,
     VlcPlayerOptions? options,
+    VlcEventOptions? eventOptions,
   }) {
     throw _unimplemented('create');
   }
@@ -83,6 +84,55 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('setStreamUrl');
   }
 
+  /// Prepares the media of a following [setStreamUrl] with the same source.
+  Future<void> preload(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+  }) {
+    throw _unimplemented('preload');
+  }
+
+  /// Appends a media to the playlist of the player.
+  Future<void> appendPlaylistItem(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+  }) {
+    throw _unimplemented('appendPlaylistItem');
+  }
+
+  /// Inserts a media in the playlist of the player at [index].
+  Future<void> insertPlaylistItem(
+    int viewId,
+    int index, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    HwAcc? hwAcc,
+  }) {
+    throw _unimplemented('insertPlaylistItem');
+  }
+
+  /// Removes the playlist item at [index].
+  Future<void> removePlaylistItem(int viewId, int index) {
+    throw _unimplemented('removePlaylistItem');
+  }
+
+  /// Plays the playlist item at [index], then the following ones.
+  Future<void> playPlaylistItem(int viewId, int index) {
+    throw _unimplemented('playPlaylistItem');
+  }
+
+  /// Removes every playlist item.
+  Future<void> clearPlaylist(int viewId) {
+    throw _unimplemented('clearPlaylist');
+  }
+
   /// Sets the looping attribute of the video.
   Future<void> setLooping(int viewId, bool looping) {
     throw _unimplemented('setLooping');
@@ -120,7 +170,12 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
   }
 
   /// Sets the video position to a [Duration] from the start.
-  Future<void> seekTo(int viewId, Duration position) {
+  /// Fast seeks land on the nearest keyframe, see [VlcSeekMode].
+  Future<void> seekTo(
+    int viewId,
+    Duration position, {
+    VlcSeekMode mode = VlcSeekMode.precise,
+  }) {
     throw _unimplemented('seekTo');
   }
 
@@ -344,6 +399,42 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('stopRecording');
   }
 
+  /// Sets the media events sent by the player, the others are discarded
+  /// natively.
+  Future<void> setSubscribedEvents(
+    int viewId,
+    Set<VlcMediaEventType> events,
+  ) {
+    throw _unimplemented('setSubscribedEvents');
+  }
+
+  /// Returns the runtime counters of the plugin overhead for the player.
+  Future<VlcPlayerStats> getPlayerStats(int viewId) {
+    throw _unimplemented('getPlayerStats');
+  }
+
+  /// Returns the counters of the disk cache of http(s) media.
+  Future<VlcMediaCacheStats> getMediaCacheStats() {
+    throw _unimplemented('getMediaCacheStats');
+  }
+
+  /// Parses the media at [uris] without playing them, all at once, and
+  /// returns what was found for each of them, in order.
+  Future<List<VlcMediaInfo>> parseMedia(
+    List<String> uris, {
+    required DataSourceType type,
+    String? package,
+    Duration? timeout,
+  }) {
+    throw _unimplemented('parseMedia');
+  }
+
+  /// Creates the native library instance for [options] in the background, so
+  /// that the first player created with them skips its creation.
+  Future<void> prewarm(VlcPlayerOptions? options) {
+    throw _unimplemented('prewarm');
+  }
+
   Object _unimplemented(String methodName) {
     return UnimplementedError('$methodName has not been implemented.');
   }
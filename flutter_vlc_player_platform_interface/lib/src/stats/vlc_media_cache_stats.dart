@@ -0,0 +1,45 @@
+/// Counters of the disk cache of http(s) media, shared by every player.
+class VlcMediaCacheStats {
+  /// Whether the app enabled the cache.
+  final bool enabled;
+
+  /// The number of requests served from the cache.
+  final int hits;
+
+  /// The number of requests forwarded to the network.
+  final int misses;
+
+  /// The number of bytes served from the cache.
+  final int bytesFromCache;
+
+  /// The number of bytes read from the network.
+  final int bytesFromNetwork;
+
+  /// The number of media deleted to keep the cache under its size.
+  final int evictions;
+
+  /// The size of the media in the cache, in bytes.
+  final int sizeBytes;
+
+  const VlcMediaCacheStats({
+    this.enabled = false,
+    this.hits = 0,
+    this.misses = 0,
+    this.bytesFromCache = 0,
+    this.bytesFromNetwork = 0,
+    this.evictions = 0,
+    this.sizeBytes = 0,
+  });
+
+  @override
+  String toString() {
+    return '$runtimeType('
+        'enabled: $enabled, '
+        'hits: $hits, '
+        'misses: $misses, '
+        'bytesFromCache: $bytesFromCache, '
+        'bytesFromNetwork: $bytesFromNetwork, '
+        'evictions: $evictions, '
+        'sizeBytes: $sizeBytes)';
+  }
+}
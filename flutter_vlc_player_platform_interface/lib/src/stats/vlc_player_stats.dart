@@ -0,0 +1,68 @@
+/// Runtime counters of the plugin overhead for a single player.
+class VlcPlayerStats {
+  /// The number of events received from libvlc, by event type.
+  final Map<String, int> eventsReceived;
+
+  /// The number of media events emitted to the Dart side.
+  final int eventsEmitted;
+
+  /// The number of queued media events discarded while nobody was listening.
+  final int eventsDropped;
+
+  /// The number of queued time changes merged into a later one.
+  final int eventsCoalesced;
+
+  /// The largest number of media events queued at once.
+  final int queueHighWaterMark;
+
+  /// The number of tasks of this player waiting on the native player thread.
+  final int handlerBacklog;
+
+  /// The number of commands superseded by a later command of the same kind
+  /// before they reached the native player.
+  final int commandsSuperseded;
+
+  /// The average time spent in the native event listener.
+  final Duration listenerAverage;
+
+  /// The 99th percentile of the time spent in the native event listener.
+  final Duration listenerP99;
+
+  /// The time from opening the latest media to its buffer first being full, or
+  /// null if no media started yet.
+  final Duration? startupTime;
+
+  /// The number of times the buffer drained once the media started, seeks
+  /// included.
+  final int rebufferCount;
+
+  const VlcPlayerStats({
+    this.eventsReceived = const {},
+    this.eventsEmitted = 0,
+    this.eventsDropped = 0,
+    this.eventsCoalesced = 0,
+    this.queueHighWaterMark = 0,
+    this.handlerBacklog = 0,
+    this.commandsSuperseded = 0,
+    this.listenerAverage = Duration.zero,
+    this.listenerP99 = Duration.zero,
+    this.startupTime,
+    this.rebufferCount = 0,
+  });
+
+  @override
+  String toString() {
+    return '$runtimeType('
+        'eventsReceived: $eventsReceived, '
+        'eventsEmitted: $eventsEmitted, '
+        'eventsDropped: $eventsDropped, '
+        'eventsCoalesced: $eventsCoalesced, '
+        'queueHighWaterMark: $queueHighWaterMark, '
+        'handlerBacklog: $handlerBacklog, '
+        'commandsSuperseded: $commandsSuperseded, '
+        'listenerAverage: $listenerAverage, '
+        'listenerP99: $listenerP99, '
+        'startupTime: $startupTime, '
+        'rebufferCount: $rebufferCount)';
+  }
+}
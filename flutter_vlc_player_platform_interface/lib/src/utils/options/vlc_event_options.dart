@@ -0,0 +1,60 @@
+import 'package:flutter_vlc_player_platform_interface/src/enums/event_overflow_policy.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/event_rate_mode.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/media_event_type.dart';
+
+/// Controls how the native player reports media events.
+///
+/// State changes (opening, playing, paused, stopped, ended, error...) are
+/// always delivered, these options only affect the high-frequency time
+/// changes and buffering updates.
+class VlcEventOptions {
+  /// How often time changes and buffering updates are sent.
+  final VlcEventRateMode rateMode;
+
+  /// The maximum number of updates per second when [rateMode] is
+  /// [VlcEventRateMode.maxRate].
+  final int maxRate;
+
+  /// Time changes are sent as deltas holding only the values which changed
+  /// since the previous update, the full state is rebuilt on the Dart side.
+  final bool deltaEvents;
+
+  /// The number of delta updates after which the full state is sent again
+  /// when [deltaEvents] is enabled.
+  final int keyframeInterval;
+
+  /// The number of events queued by the native player until the Dart side
+  /// starts listening. Lifecycle events are always kept.
+  final int queueCapacity;
+
+  /// What happens to time changes once [queueCapacity] events are queued.
+  final VlcEventOverflowPolicy overflowPolicy;
+
+  /// Media events are sent as compact binary records instead of maps.
+  /// Only supported on Android, [deltaEvents] is ignored when enabled.
+  final bool binaryEvents;
+
+  /// Time changes are only sent when playback starts, pauses, seeks, changes
+  /// rate or buffers, or when the position drifts from the extrapolated one.
+  /// Use [VlcMediaEvent.extrapolatedPosition] to get the current position in
+  /// between. Only supported on Android, [rateMode] is ignored when enabled.
+  final bool positionAnchors;
+
+  /// The media events sent by the player, the others are discarded natively.
+  /// If nothing is provided, the lifecycle events, time changes and seek
+  /// completions are sent. [VlcMediaEventType.disposed] is always sent.
+  /// Only supported on Android.
+  final Set<VlcMediaEventType>? subscribedEvents;
+
+  const VlcEventOptions({
+    this.rateMode = VlcEventRateMode.all,
+    this.maxRate = 10,
+    this.deltaEvents = false,
+    this.keyframeInterval = 30,
+    this.queueCapacity = 256,
+    this.overflowPolicy = VlcEventOverflowPolicy.coalesce,
+    this.binaryEvents = false,
+    this.positionAnchors = false,
+    this.subscribedEvents,
+  });
+}